@@ -1,8 +1,12 @@
 package jsl.moum.admin.service;
 
+import jsl.moum.auth.event.MemberAuthChangedEvent;
+import jsl.moum.auth.event.MemberBannedEvent;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.auth.domain.repository.RefreshTokenStore;
 import jsl.moum.auth.dto.MemberDto;
+import jsl.moum.auth.service.TokenRevocationRegistry;
 import jsl.moum.business.domain.PerformanceHall;
 import jsl.moum.business.domain.PerformanceHallRepository;
 import jsl.moum.business.domain.PracticeRoom;
@@ -26,6 +30,7 @@ import jsl.moum.report.dto.ArticleReportDto;
 import jsl.moum.report.dto.MemberReportDto;
 import jsl.moum.report.dto.TeamReportDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.data.domain.Page;
@@ -52,6 +57,9 @@ public class AdminService {
     private final ArticleReportRepository articleReportRepository;
     private final ArticleRepository articleRepository;
     private final StorageService storageService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      *
@@ -138,6 +146,13 @@ public class AdminService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 회원 정보가 존재하지 않습니다."));
         member.setBanStatus(true);
         member = memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberAuthChangedEvent(member.getUsername()));
+
+        // 이미 발급된 access/refresh 토큰 즉시 무효화
+        tokenRevocationRegistry.revoke(member.getUsername());
+        refreshTokenStore.revokeAll(member.getUsername());
+        // 이미 연결된 채팅 WebSocket 도 종료
+        eventPublisher.publishEvent(new MemberBannedEvent(member.getId()));
         return new MemberDto.Info(member);
     }
 
@@ -146,6 +161,7 @@ public class AdminService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 회원 정보가 존재하지 않습니다."));
         member.setBanStatus(false);
         member = memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberAuthChangedEvent(member.getUsername()));
         return new MemberDto.Info(member);
     }
 
@@ -162,6 +178,7 @@ public class AdminService {
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
         member.setRole("ROLE_ADMIN");
         member = memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberAuthChangedEvent(member.getUsername()));
         return new MemberDto.Info(member);
     }
 
@@ -170,6 +187,7 @@ public class AdminService {
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
         member.setRole("ROLE_USER");
         member = memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberAuthChangedEvent(member.getUsername()));
         return new MemberDto.Info(member);
     }
 
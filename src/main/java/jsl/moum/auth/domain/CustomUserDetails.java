@@ -20,6 +20,12 @@ public class CustomUserDetails implements UserDetails {
 
     public int getMemberId(){ return memberEntity.getId();}
 
+    public String getName(){ return memberEntity.getName();}
+
+    public boolean isActiveMember(){ return Boolean.TRUE.equals(memberEntity.getActiveStatus());}
+
+    public boolean isBannedMember(){ return Boolean.TRUE.equals(memberEntity.getBanStatus());}
+
     @Override
     public String getPassword() {
         return memberEntity.getPassword();
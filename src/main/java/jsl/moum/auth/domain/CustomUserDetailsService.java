@@ -1,28 +1,28 @@
 package jsl.moum.auth.domain;
 
-import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.auth.dto.MemberAuthDto;
+import jsl.moum.auth.service.MemberAuthReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import jsl.moum.auth.domain.repository.MemberRepository;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final MemberRepository memberRepository;
+    private final MemberAuthReader memberAuthReader;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        MemberEntity memberData = memberRepository.findByUsername(username);
+        MemberAuthDto memberData = memberAuthReader.findByUsername(username);
 
         if (memberData != null) {
-            CustomUserDetails customUserDetails = new CustomUserDetails(memberData);
+            CustomUserDetails customUserDetails = new CustomUserDetails(memberData.toEntity());
             return customUserDetails;
         }
 
         throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
     }
-}
\ No newline at end of file
+}
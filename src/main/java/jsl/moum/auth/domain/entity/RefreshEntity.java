@@ -1,20 +0,0 @@
-package jsl.moum.auth.domain.entity;
-
-import jakarta.persistence.*;
-import lombok.Getter;
-import lombok.Setter;
-
-@Entity
-@Getter
-@Setter
-@Table(name = "refresh_token")
-public class RefreshEntity {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    private String username;
-    private String refresh;
-    private String expiration;
-}
\ No newline at end of file
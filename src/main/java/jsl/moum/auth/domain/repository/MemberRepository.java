@@ -1,6 +1,7 @@
 package jsl.moum.auth.domain.repository;
 
 import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.auth.dto.MemberAuthDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +16,11 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Integer> {
 
     MemberEntity findByUsername(String username);
 
+    // 로그인 인증용 projection (member_genre 등 컬렉션 로딩 없이 쿼리 한 번)
+    @Query("SELECT new jsl.moum.auth.dto.MemberAuthDto(m.id, m.username, m.password, m.name, m.role, m.activeStatus, m.banStatus) " +
+            "FROM MemberEntity m WHERE m.username = :username")
+    MemberAuthDto findAuthByUsername(@Param("username") String username);
+
     Boolean existsByEmail(String email);
 
     List<MemberEntity> findAllByBanStatus(boolean banStatus);
@@ -29,4 +35,8 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Integer> {
 
     @Query("SELECT count(m) + 1 FROM MemberEntity m WHERE m.exp > :exp")
     long findRankByExp(@Param("exp") Integer exp);
+
+    // 경험치 히스토그램 재구성용 (exp 별 멤버 수)
+    @Query("SELECT m.exp, count(m) FROM MemberEntity m GROUP BY m.exp")
+    List<Object[]> countMembersGroupByExp();
 }
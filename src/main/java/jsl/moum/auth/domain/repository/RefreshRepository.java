@@ -1,13 +0,0 @@
-package jsl.moum.auth.domain.repository;
-
-import jsl.moum.auth.domain.entity.RefreshEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.transaction.annotation.Transactional;
-
-public interface RefreshRepository extends JpaRepository<RefreshEntity, Long> {
-
-    Boolean existsByRefresh(String refresh);
-
-    @Transactional
-    void deleteByRefresh(String refresh);
-}
\ No newline at end of file
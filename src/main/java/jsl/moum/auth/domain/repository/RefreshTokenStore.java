@@ -0,0 +1,189 @@
+package jsl.moum.auth.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * refresh 토큰 저장소 (Redis, TTL 로 자동 만료)
+ *
+ * refresh:{tokenHash}        -> {familyId}:{username}   (TTL = 토큰 만료시간)
+ * refresh:family:{familyId}  -> 현재 유효한 tokenHash   (로그인 1회 = family 1개, 재발급 시 같은 family 로 교체)
+ * refresh:used:{tokenHash}   -> familyId                (재발급으로 이미 교체된 토큰, 재사용 탐지용)
+ * refresh:user:{username}    -> SET(tokenHash)          (사용자 단위 일괄 폐기용)
+ *
+ * 이미 교체된 토큰으로 재발급을 시도하면 탈취로 보고 해당 family 의 현재 토큰까지 폐기
+ * 토큰 / family / user 키는 Lua 스크립트 한 번으로 함께 저장 (중간에 실패해서 일부만 남지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:";
+    private static final String FAMILY_KEY_PREFIX = KEY_PREFIX + "family:";
+    private static final String USED_KEY_PREFIX = KEY_PREFIX + "used:";
+    private static final String USER_KEY_PREFIX = KEY_PREFIX + "user:";
+
+    // KEYS: 새 토큰, family, user, (재발급 시) 교체된 토큰의 used 키
+    // ARGV: "{familyId}:{username}", 새 tokenHash, ttl(ms), (재발급 시) 교체된 tokenHash, familyId
+    private static final String STORE_SCRIPT =
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+            "redis.call('SADD', KEYS[3], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[3], ARGV[3]) " +
+            "if #KEYS == 4 then " +
+            "  redis.call('SREM', KEYS[3], ARGV[4]) " +
+            "  redis.call('SET', KEYS[4], ARGV[5], 'PX', ARGV[3]) " +
+            "end " +
+            "return 1";
+    private static final RedisScript<Long> STORE_REDIS_SCRIPT = new DefaultRedisScript<>(STORE_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 로그인 시 새 family 로 저장
+     */
+    public void save(String username, String refresh, Duration ttl) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenHash = hash(refresh);
+        try {
+            redisTemplate.execute(STORE_REDIS_SCRIPT,
+                    List.of(tokenKey(tokenHash), familyKey(familyId), userKey(username)),
+                    familyId + ":" + username, tokenHash, String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            // 저장에 실패하면 재발급만 불가 (access 토큰 만료 후 재로그인)
+            log.error("refresh 토큰 저장 실패 - username: {}", username, e);
+        }
+    }
+
+    public boolean exists(String refresh) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey(hash(refresh))));
+        } catch (DataAccessException e) {
+            log.error("refresh 토큰 조회 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * 재발급: 기존 토큰을 소모(GETDEL)하고 같은 family 로 새 토큰 저장
+     * 기존 토큰이 없으면 false (이미 교체된 토큰이면 family 전체 폐기)
+     * 소모 후 저장에 실패하면 재발급 실패로 처리 (재로그인 필요, 토큰이 두 개 살아남지는 않음)
+     */
+    public boolean rotate(String oldRefresh, String newRefresh, Duration ttl) {
+        String oldHash = hash(oldRefresh);
+        try {
+            String value = redisTemplate.opsForValue().getAndDelete(tokenKey(oldHash));
+            if (value == null) {
+                revokeFamilyIfReused(oldHash);
+                return false;
+            }
+
+            String[] parts = value.split(":", 2);
+            String familyId = parts[0];
+            String username = parts[1];
+
+            String newHash = hash(newRefresh);
+            redisTemplate.execute(STORE_REDIS_SCRIPT,
+                    List.of(tokenKey(newHash), familyKey(familyId), userKey(username), USED_KEY_PREFIX + oldHash),
+                    familyId + ":" + username, newHash, String.valueOf(ttl.toMillis()), oldHash, familyId);
+            return true;
+        } catch (DataAccessException e) {
+            log.error("refresh 토큰 교체 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * 로그아웃
+     */
+    public void delete(String refresh) {
+        String tokenHash = hash(refresh);
+        try {
+            String value = redisTemplate.opsForValue().getAndDelete(tokenKey(tokenHash));
+            if (value != null) {
+                String[] parts = value.split(":", 2);
+                redisTemplate.delete(familyKey(parts[0]));
+                redisTemplate.opsForSet().remove(userKey(parts[1]), tokenHash);
+            }
+        } catch (DataAccessException e) {
+            log.error("refresh 토큰 삭제 실패", e);
+        }
+    }
+
+    /**
+     * 사용자의 모든 refresh 토큰 폐기 (정지, 탈퇴 등)
+     * 토큰 값에서 family 를 찾아 family 키도 함께 삭제 (DEL 한 번)
+     */
+    public void revokeAll(String username) {
+        try {
+            Set<String> tokenHashes = redisTemplate.opsForSet().members(userKey(username));
+            List<String> keys = new ArrayList<>();
+            keys.add(userKey(username));
+            if (tokenHashes != null && !tokenHashes.isEmpty()) {
+                List<String> tokenKeys = tokenHashes.stream().map(this::tokenKey).toList();
+                keys.addAll(tokenKeys);
+                List<String> values = redisTemplate.opsForValue().multiGet(tokenKeys);
+                if (values != null) {
+                    values.stream()
+                            .filter(Objects::nonNull)
+                            .map(value -> familyKey(value.split(":", 2)[0]))
+                            .forEach(keys::add);
+                }
+            }
+            redisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.error("refresh 토큰 일괄 폐기 실패 - username: {}", username, e);
+        }
+    }
+
+    private void revokeFamilyIfReused(String tokenHash) {
+        String familyId = redisTemplate.opsForValue().get(USED_KEY_PREFIX + tokenHash);
+        if (familyId == null) {
+            return;
+        }
+
+        log.warn("이미 교체된 refresh 토큰 재사용 감지 - family: {}", familyId);
+        String currentHash = redisTemplate.opsForValue().getAndDelete(familyKey(familyId));
+        if (currentHash != null) {
+            redisTemplate.delete(tokenKey(currentHash));
+        }
+    }
+
+    private String tokenKey(String tokenHash) {
+        return KEY_PREFIX + tokenHash;
+    }
+
+    private String familyKey(String familyId) {
+        return FAMILY_KEY_PREFIX + familyId;
+    }
+
+    private String userKey(String username) {
+        return USER_KEY_PREFIX + username;
+    }
+
+    private String hash(String refresh) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refresh.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package jsl.moum.auth.dto;
+
+import jsl.moum.auth.domain.entity.MemberEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인 인증에 필요한 최소 회원 정보 (캐시 대상)
+ * member_genre 등 연관 컬렉션을 읽지 않도록 JPQL 생성자 projection 으로만 조회
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberAuthDto {
+
+    private int id;
+    private String username;
+    private String password;
+    private String name;
+    private String role;
+    private Boolean activeStatus;
+    private Boolean banStatus;
+
+    /**
+     * CustomUserDetails 생성용 (영속 상태가 아닌 값 객체)
+     */
+    public MemberEntity toEntity() {
+        return MemberEntity.builder()
+                .id(id)
+                .username(username)
+                .password(password)
+                .name(name)
+                .role(role)
+                .activeStatus(activeStatus)
+                .banStatus(banStatus)
+                .build();
+    }
+}
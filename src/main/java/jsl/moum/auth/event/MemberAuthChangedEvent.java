@@ -0,0 +1,14 @@
+package jsl.moum.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인 인증 정보(정지, 권한, 탈퇴/재가입, username)가 바뀐 경우 발행되는 이벤트
+ * 커밋 이후 MemberAuthReader 캐시를 비우는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class MemberAuthChangedEvent {
+    private final String username;
+}
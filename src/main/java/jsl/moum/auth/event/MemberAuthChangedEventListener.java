@@ -0,0 +1,24 @@
+package jsl.moum.auth.event;
+
+import jsl.moum.auth.service.MemberAuthReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class MemberAuthChangedEventListener {
+
+    private final MemberAuthReader memberAuthReader;
+
+    /**
+     * 발행 측 트랜잭션이 커밋된 이후에 캐시를 비움
+     * 커밋 전에 비우면 그 사이 로그인 요청이 변경 전 인증 정보를 다시 캐시에 적재할 수 있음
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 비움
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberAuthChanged(MemberAuthChangedEvent event) {
+        memberAuthReader.evict(event.getUsername());
+    }
+}
@@ -0,0 +1,14 @@
+package jsl.moum.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자가 회원을 정지한 경우 발행되는 이벤트
+ * 커밋 이후 해당 회원의 채팅 WebSocket 연결을 끊는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class MemberBannedEvent {
+    private final int memberId;
+}
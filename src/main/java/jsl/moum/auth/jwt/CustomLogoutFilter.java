@@ -10,7 +10,7 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jsl.moum.auth.domain.repository.RefreshRepository;
+import jsl.moum.auth.domain.repository.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -29,7 +29,7 @@ import java.util.Map;
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JwtUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -115,8 +115,8 @@ public class CustomLogoutFilter extends GenericFilterBean {
             return;
         }
 
-        // DB
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
+        // Redis
+        boolean isExist = refreshTokenStore.exists(refresh);
         if (!isExist) {
             ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.MEMBER_NOT_EXIST);
             response.setStatus(errorResponse.getStatus());
@@ -126,8 +126,8 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         // 로그아웃
-        // Refresh 토큰 DB에서 제거
-        refreshRepository.deleteByRefresh(refresh);
+        // Refresh 토큰 저장소에서 제거
+        refreshTokenStore.delete(refresh);
 
         // Refresh 토큰 Cookie 값을 0으로 설정
         Cookie cookie = new Cookie("refresh", null);
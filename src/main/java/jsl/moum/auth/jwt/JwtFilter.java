@@ -8,6 +8,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jsl.moum.auth.domain.CustomUserDetails;
 import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.auth.service.TokenRevocationRegistry;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +28,8 @@ import java.util.Collections;
 @Slf4j
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
 
     @Override
@@ -50,14 +52,16 @@ public class JwtFilter extends OncePerRequestFilter {
             }
         }
 
+        // 토큰 한 번만 파싱 (같은 토큰의 반복 요청은 검증 캐시에서 조회)
+        TokenClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = verifiedTokenCache.getClaims(accessToken);
         } catch (ExpiredJwtException e) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
-        String category = jwtUtil.getCategory(accessToken);
+        String category = claims.getCategory();
 
         if (!category.equals("access")) {
             PrintWriter writer = response.getWriter();
@@ -66,9 +70,15 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 정지 등으로 폐기된 사용자의 토큰인지 확인 (메모리 조회)
+        if (tokenRevocationRegistry.isRevoked(claims.getUsername(), claims.getIssuedAt())) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
         // username, role 값을 획득
-        String username = jwtUtil.getUsername(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+        String username = claims.getUsername();
+        String role = claims.getRole();
         if (!role.startsWith("ROLE_")) {
             role = "ROLE_" + role; // Add ROLE_ prefix if missing
         }
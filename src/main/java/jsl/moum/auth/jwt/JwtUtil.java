@@ -17,24 +17,34 @@ import java.util.List;
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     public JwtUtil(@Value("${spring.jwt.secret}")String secret) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    /**
+     * 서명 검증 + 파싱을 한 번만 수행하고 필요한 claim 을 모두 꺼냄
+     * 만료된 토큰이면 ExpiredJwtException
+     */
+    public TokenClaims parseClaims(String token) {
+        return TokenClaims.from(jwtParser.parseSignedClaims(token).getPayload());
     }
 
     public String getUsername(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return parseClaims(token).getUsername();
     }
 
     public String getRole(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parseClaims(token).getRole();
     }
 
     public Boolean isExpired(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return parseClaims(token).isExpired();
     }
 
     public String createJwt(String category, String username, String role, long expiredMs) {
@@ -52,16 +62,12 @@ public class JwtUtil {
 
     // 토큰 판단용 access? or refresh?
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+        return parseClaims(token).getCategory();
     }
 
     public ErrorResponse validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            jwtParser.parseSignedClaims(token);
             return null;
 
         } catch (MalformedJwtException e) {
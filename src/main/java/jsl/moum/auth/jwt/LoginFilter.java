@@ -6,12 +6,8 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jsl.moum.auth.domain.CustomUserDetails;
-import jsl.moum.auth.domain.entity.MemberEntity;
-import jsl.moum.auth.domain.entity.RefreshEntity;
-import jsl.moum.auth.domain.repository.MemberRepository;
-import jsl.moum.auth.domain.repository.RefreshRepository;
+import jsl.moum.auth.domain.repository.RefreshTokenStore;
 import jsl.moum.common.CommonService;
-import jsl.moum.global.error.exception.CustomException;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +27,7 @@ import jsl.moum.global.response.ResponseCode;
 import jsl.moum.global.response.ResultResponse;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
 
 @RequiredArgsConstructor
@@ -39,8 +36,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
-    private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
@@ -64,19 +60,19 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) throws IOException {
 
     String username = authentication.getName();
-    int userId = ((CustomUserDetails) authentication.getPrincipal()).getMemberId();
-    MemberEntity loginUser = memberRepository.findById(userId)
-            .orElseThrow(()-> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
+    // 인증 시 조회한 회원 정보를 그대로 사용 (재조회 없음)
+    CustomUserDetails loginUser = (CustomUserDetails) authentication.getPrincipal();
+    int userId = loginUser.getMemberId();
     String name = loginUser.getName();
 
-    if(!loginUser.getActiveStatus()){
+    if(!loginUser.isActiveMember()){
         ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.SIGN_OUT_MEMBER);
         response.setHeader("access", null);
         response.addCookie(createCookie("refresh", null));
         response.setStatus(errorResponse.getStatus());
         response.setContentType("application/json;charset=UTF-8");
         response.getWriter().write(new ObjectMapper().writeValueAsString(errorResponse));
-    } else if(loginUser.getBanStatus()){
+    } else if(loginUser.isBannedMember()){
         ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.BANNED_MEMBER);
         response.setHeader("access", null);
         response.addCookie(createCookie("refresh", null));
@@ -109,14 +105,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     void addRefreshEntity(String username, String refresh, long expiredMs) {
 
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-
-        RefreshEntity refreshEntity = new RefreshEntity();
-        refreshEntity.setUsername(username);
-        refreshEntity.setRefresh(refresh);
-        refreshEntity.setExpiration(date.toString());
-
-        refreshRepository.save(refreshEntity);
+        refreshTokenStore.save(username, refresh, Duration.ofMillis(expiredMs));
     }
 
     // 로그인 실패시
@@ -0,0 +1,35 @@
+package jsl.moum.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰의 claim 값
+ * 한 번 파싱한 결과를 재사용하기 위한 불변 객체
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private final String category;
+    private final String username;
+    private final String role;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    public static TokenClaims from(Claims claims) {
+        return new TokenClaims(
+                claims.get("category", String.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -0,0 +1,74 @@
+package jsl.moum.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 서명 검증이 끝난 access 토큰의 claim 캐시
+ *
+ * 같은 토큰으로 들어오는 요청은 HMAC 검증/파싱 없이 map 조회 한 번으로 처리
+ * - 키는 토큰 원문 대신 SHA-256 해시 (메모리에 토큰 원문을 들고 있지 않도록)
+ * - 각 항목은 토큰 만료 시각에 맞춰 만료 (최대 max-ttl), 전체 크기는 maximum-size 로 제한
+ * - 검증 실패(만료, 서명 오류 등)한 토큰은 캐싱하지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, TokenClaims> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              @Value("${jwt.verified-cache.maximum-size:100000}") long maximumSize,
+                              @Value("${jwt.verified-cache.max-ttl-seconds:600}") long maxTtlSeconds) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(Duration.ofSeconds(maxTtlSeconds).toNanos()))
+                .build();
+    }
+
+    /**
+     * 토큰 claim 조회 (캐시 miss 시에만 서명 검증)
+     * 만료된 토큰이면 ExpiredJwtException
+     */
+    public TokenClaims getClaims(String token) {
+        return cache.get(hash(token), key -> jwtUtil.parseClaims(token));
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package jsl.moum.auth.service;
+
+import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.auth.dto.MemberAuthDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 인증 정보 캐시 조회 전용 컴포넌트
+ * 로그인이 몰려도 캐시가 비어 있는 사용자만 projection 쿼리 한 번으로 DB 조회
+ *
+ * 캐시 키는 username 이므로 정지/해제, 권한 변경, 탈퇴/재가입, 프로필(username) 변경 시 반드시 evict
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberAuthReader {
+
+    public static final String MEMBER_AUTH_CACHE = "memberAuth";
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * 존재하지 않는 사용자는 캐시하지 않음 (가입 직후 로그인 가능하도록)
+     */
+    @Cacheable(value = MEMBER_AUTH_CACHE, key = "#username", unless = "#result == null")
+    public MemberAuthDto findByUsername(String username) {
+        log.debug("Finding member auth from DB: {}", username);
+        return memberRepository.findAuthByUsername(username);
+    }
+
+    @CacheEvict(value = MEMBER_AUTH_CACHE, key = "#username")
+    public void evict(String username) {
+        log.debug("Evicting member auth cache: {}", username);
+    }
+}
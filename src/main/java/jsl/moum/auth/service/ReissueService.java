@@ -3,8 +3,7 @@ package jsl.moum.auth.service;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jsl.moum.auth.domain.entity.RefreshEntity;
-import jsl.moum.auth.domain.repository.RefreshRepository;
+import jsl.moum.auth.domain.repository.RefreshTokenStore;
 import jsl.moum.auth.jwt.JwtUtil;
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.exception.CustomException;
@@ -14,7 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +21,7 @@ import java.util.Date;
 public class ReissueService {
 
     private final JwtUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
 
     public ResultResponse reissue(HttpServletRequest request, HttpServletResponse response) {
@@ -40,8 +39,10 @@ public class ReissueService {
         String newAccess = jwtUtil.createJwt("access", username, role, 360000L); // 60m
         String newRefresh = jwtUtil.createJwt("refresh", username, role, 842000L); // 24h
 
-        refreshRepository.deleteByRefresh(refresh);
-        addRefreshEntity(username, newRefresh, 842000L);
+        // 기존 토큰 소모 + 같은 family 로 교체 (이미 교체된 토큰이면 실패)
+        if (!refreshTokenStore.rotate(refresh, newRefresh, Duration.ofMillis(842000L))) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
 
         response.setHeader("access", newAccess);
         response.addCookie(createCookie("refresh", newRefresh));
@@ -63,7 +64,7 @@ public class ReissueService {
 
     private boolean isRefreshTokenValid(String refresh) {
         try {
-            return !jwtUtil.isExpired(refresh) && "refresh".equals(jwtUtil.getCategory(refresh)) && refreshRepository.existsByRefresh(refresh);
+            return !jwtUtil.isExpired(refresh) && "refresh".equals(jwtUtil.getCategory(refresh));
         } catch (Exception e) {
             return false;
         }
@@ -75,13 +76,4 @@ public class ReissueService {
         cookie.setHttpOnly(true);
         return cookie;
     }
-
-    private void addRefreshEntity(String username, String refresh, Long expiredMs) {
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-        RefreshEntity refreshEntity = new RefreshEntity();
-        refreshEntity.setUsername(username);
-        refreshEntity.setRefresh(refresh);
-        refreshEntity.setExpiration(date.toString());
-        refreshRepository.save(refreshEntity);
-    }
 }
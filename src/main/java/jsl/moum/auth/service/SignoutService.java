@@ -1,11 +1,13 @@
 package jsl.moum.auth.service;
 
+import jsl.moum.auth.event.MemberAuthChangedEvent;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.auth.dto.MemberDto;
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SignoutService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MemberDto.Response signoutMember(String username) {
@@ -23,6 +26,7 @@ public class SignoutService {
         }
 
         member.changeActiveStatusFalse();
+        eventPublisher.publishEvent(new MemberAuthChangedEvent(username));
         return new MemberDto.Response(member);
     }
 }
@@ -1,5 +1,6 @@
 package jsl.moum.auth.service;
 
+import jsl.moum.auth.event.MemberAuthChangedEvent;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.auth.dto.MemberDto;
@@ -9,10 +10,12 @@ import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.exception.CustomException;
 import jsl.moum.global.error.exception.DuplicateUsernameException;
 import jsl.moum.objectstorage.StorageService;
+import jsl.moum.rank.service.ExpHistogramService;
 import jsl.moum.record.domain.dto.RecordDto;
 import jsl.moum.record.domain.entity.RecordEntity;
 import jsl.moum.record.domain.repository.RecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -34,6 +37,8 @@ public class SignupService {
     private final StorageService storageService;
     private final RecordRepository recordRepository;
     private final CommonService commonService;
+    private final ExpHistogramService expHistogramService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public String signupMember(MemberDto.Request memberRequestDto, MultipartFile file) throws IOException {
 
@@ -56,6 +61,7 @@ public class SignupService {
 
         MemberEntity newMember = buildMemberEntity(memberRequestDto, fileUrl);
         memberRepository.save(newMember);
+        expHistogramService.memberJoined(newMember.getExp());
 
         saveMemberRecords(memberRequestDto, newMember);
 
@@ -104,6 +110,7 @@ public class SignupService {
     public MemberDto.Response rejoinMember(String username) {
         MemberEntity member = commonService.findMemberByUsername(username);
         member.changeActiveStatusTrue();
+        eventPublisher.publishEvent(new MemberAuthChangedEvent(username));
         return new MemberDto.Response(member);
     }
 
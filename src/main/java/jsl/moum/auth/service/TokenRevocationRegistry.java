@@ -0,0 +1,123 @@
+package jsl.moum.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 단위 토큰 폐기 레지스트리
+ *
+ * "이 시각(watermark) 이전에 발급된 토큰은 무효" 를 사용자별로 기록
+ * - 원본 : Redis Hash(auth:revocation:watermark, field = username, value = epoch seconds)
+ * - 각 노드는 메모리에 복제본을 두고 JwtFilter 에서 map 조회 한 번으로 판별 (DB 접근 없음)
+ * - 다른 노드의 변경은 pub/sub 으로 즉시, 놓친 메시지는 주기적 동기화로 반영
+ * - access 토큰 최대 수명이 지난 watermark 는 의미가 없으므로 동기화 시 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationRegistry implements MessageListener {
+
+    public static final String WATERMARK_KEY = "auth:revocation:watermark";
+    public static final String REVOCATION_CHANNEL = "auth:revocation";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<String, Long> watermarks = new ConcurrentHashMap<>();
+
+    // access 토큰 최대 수명 (LoginFilter 기준 10시간)
+    @Value("${auth.revocation.retention-seconds:36000}")
+    private long retentionSeconds;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        sync();
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 모든 토큰을 무효화
+     */
+    public void revoke(String username) {
+        long watermark = Instant.now().getEpochSecond();
+        watermarks.merge(username, watermark, Math::max);
+        try {
+            redisTemplate.opsForHash().put(WATERMARK_KEY, username, String.valueOf(watermark));
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, watermark + ":" + username);
+        } catch (DataAccessException e) {
+            log.error("토큰 폐기 기록 실패 - username: {}", username, e);
+        }
+    }
+
+    /**
+     * 토큰 발급 시각(iat, 초 단위)이 watermark 이하이면 폐기된 토큰
+     */
+    public boolean isRevoked(String username, Date issuedAt) {
+        Long watermark = watermarks.get(username);
+        if (watermark == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.toInstant().getEpochSecond() <= watermark;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(':');
+        if (delimiter < 0) {
+            return;
+        }
+        long watermark = Long.parseLong(body.substring(0, delimiter));
+        watermarks.merge(body.substring(delimiter + 1), watermark, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:60000}")
+    public void sync() {
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(WATERMARK_KEY);
+        } catch (DataAccessException e) {
+            // Redis 장애 시 메모리에 있는 값으로 계속 판별
+            log.error("토큰 폐기 목록 동기화 실패", e);
+            return;
+        }
+
+        long expiredBefore = Instant.now().getEpochSecond() - retentionSeconds;
+        List<Object> expired = new ArrayList<>();
+        entries.forEach((username, value) -> {
+            long watermark = Long.parseLong(value.toString());
+            if (watermark < expiredBefore) {
+                expired.add(username);
+            } else {
+                watermarks.merge(username.toString(), watermark, Math::max);
+            }
+        });
+        watermarks.values().removeIf(watermark -> watermark < expiredBefore);
+
+        if (!expired.isEmpty()) {
+            try {
+                redisTemplate.opsForHash().delete(WATERMARK_KEY, expired.toArray());
+            } catch (DataAccessException e) {
+                log.error("만료된 토큰 폐기 기록 정리 실패", e);
+            }
+        }
+    }
+}
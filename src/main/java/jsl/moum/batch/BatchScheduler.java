@@ -1,33 +1,73 @@
 package jsl.moum.batch;
 
+import jsl.moum.rank.service.ExpHistogramService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class BatchScheduler {
 
     private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ExpHistogramService expHistogramService;
     private final Job rankingSyncJob;
+    private final Job rankingRebuildJob;
+    private final Job teamRankingSyncJob;
     private final Job recommendationJob;
 
     // 매 시간 정각에 랭킹 동기화 작업 실행
     @Scheduled(cron = "0 0 * * * ?")
     public void runRankingSyncJob() throws Exception {
+        // Redis 초기화 등으로 랭킹 키(또는 히스토그램)가 사라졌으면 증분 동기화 대신 전체 재구성
+        if (isRankingKeyMissing()) {
+            log.warn("Redis 랭킹 키가 존재하지 않습니다. 전체 재구성 배치를 실행합니다.");
+            runRankingRebuildJob();
+            return;
+        }
+
         JobParameters jobParameters = new JobParametersBuilder()
                 .addString("date", LocalDateTime.now().toString()) // JobParameter는 LocalDateTime을 직접 지원하지 않음
+                .addLocalDateTime("lastBatchRunTime", getLastSuccessfulRunTime("rankingSyncJob"))
                 .toJobParameters();
         jobLauncher.run(rankingSyncJob, jobParameters);
     }
 
+    // 매일 새벽 3시 30분에 랭킹 전체 재구성 (증분 동기화에서 누락된 값 보정)
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void runRankingRebuildJob() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("date", LocalDateTime.now().toString())
+                .toJobParameters();
+        jobLauncher.run(rankingRebuildJob, jobParameters);
+    }
+
+    // 매 시간 30분에 팀 랭킹 전체 재동기화
+    @Scheduled(cron = "0 30 * * * ?")
+    public void runTeamRankingSyncJob() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("date", LocalDateTime.now().toString())
+                .toJobParameters();
+        jobLauncher.run(teamRankingSyncJob, jobParameters);
+    }
+
     // 매일 새벽 4시에 추천 목록 생성 작업 실행
     @Scheduled(cron = "0 0 4 * * ?")
     public void runRecommendationJob() throws Exception {
@@ -36,4 +76,29 @@ public class BatchScheduler {
                 .toJobParameters();
         jobLauncher.run(recommendationJob, jobParameters);
     }
-}
\ No newline at end of file
+
+    private boolean isRankingKeyMissing() {
+        try {
+            return !Boolean.TRUE.equals(redisTemplate.hasKey(RankingSyncBatchConfig.RANKING_KEY))
+                    || !expHistogramService.exists();
+        } catch (DataAccessException e) {
+            log.error("Redis 랭킹 키 확인 실패. 증분 동기화를 진행합니다.", e);
+            return false;
+        }
+    }
+
+    /**
+     * 마지막으로 성공한 실행의 시작 시각 (실행 중 변경된 exp 도 다음 실행에 포함되도록 시작 시각 기준)
+     * 성공 이력이 없으면 전체 멤버 대상
+     */
+    private LocalDateTime getLastSuccessfulRunTime(String jobName) {
+        List<JobInstance> instances = jobExplorer.getJobInstances(jobName, 0, 24);
+        for (JobInstance instance : instances) {
+            JobExecution execution = jobExplorer.getLastJobExecution(instance);
+            if (execution != null && execution.getStatus() == BatchStatus.COMPLETED && execution.getStartTime() != null) {
+                return execution.getStartTime();
+            }
+        }
+        return LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
+}
@@ -0,0 +1,143 @@
+package jsl.moum.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.rank.service.ExpHistogramService;
+import jsl.moum.rank.service.RankingRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ranking:exp 전체 재구성 배치
+ * 전체 멤버를 staging 키에 적재 -> Top N 으로 Trim -> RENAME 으로 RANKING_KEY 와 원자적으로 교체
+ * 이후 경험치 히스토그램도 같은 방식으로 재구성
+ * (조회 측에서는 재구성 중인 랭킹을 볼 수 없음)
+ * 재구성 동안에는 RankingRebuildLockListener 가 경험치 반영을 멈춰 스냅샷 이후 증감량이 RENAME 에 덮어써지지 않게 함
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RankingRebuildBatchConfig {
+
+    private final DataSource dataSource;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobCompletionNotificationListener listener;
+    private final RankingRebuildLockListener rankingRebuildLockListener;
+    private final RankingTrimTasklet rankingTrimTasklet;
+    private final MeterRegistry meterRegistry;
+    private final RankingRedisService rankingRedisService;
+    private final ExpHistogramService expHistogramService;
+    private final MemberRepository memberRepository;
+
+    private static final int CHUNK_SIZE = 1000;
+    public static final String STAGING_KEY = RankingSyncBatchConfig.RANKING_KEY + ":staging";
+
+    @Bean
+    public Job rankingRebuildJob(JobRepository jobRepository, Step rankingStagingClearStep,
+                                 Step rankingRebuildStep, Step rankingSwapStep, Step expHistogramRebuildStep) {
+        return new JobBuilder("rankingRebuildJob", jobRepository)
+                .start(rankingStagingClearStep) // 이전 실행에서 남은 staging 정리
+                .next(rankingRebuildStep) // 전체 멤버 staging 적재
+                .next(rankingSwapStep) // Trim 후 RANKING_KEY 로 교체
+                .next(expHistogramRebuildStep) // 경험치 히스토그램 재구성
+                .listener(rankingRebuildLockListener) // 재구성 동안 경험치 반영 정지
+                .listener(listener)
+                .build();
+    }
+
+    @Bean
+    public Step rankingStagingClearStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("rankingStagingClearStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    redisTemplate.delete(STAGING_KEY);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step rankingRebuildStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("rankingRebuildStep", jobRepository)
+                .<ZSetOperations.TypedTuple<String>, ZSetOperations.TypedTuple<String>>chunk(CHUNK_SIZE, transactionManager)
+                .reader(rankingRebuildItemReader())
+                .writer(rankingRebuildItemWriter())
+                .build();
+    }
+
+    @Bean
+    public Step rankingSwapStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("rankingSwapStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    rankingTrimTasklet.trim(STAGING_KEY);
+
+                    if (Boolean.TRUE.equals(redisTemplate.hasKey(STAGING_KEY))) {
+                        redisTemplate.rename(STAGING_KEY, RankingSyncBatchConfig.RANKING_KEY);
+                    } else {
+                        // 경험치를 가진 멤버가 없으면 랭킹도 비어있어야 함
+                        redisTemplate.delete(RankingSyncBatchConfig.RANKING_KEY);
+                    }
+                    rankingRedisService.publishRankingChanged();
+                    log.info("Ranking sorted set swapped. {} -> {}", STAGING_KEY, RankingSyncBatchConfig.RANKING_KEY);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step expHistogramRebuildStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("expHistogramRebuildStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Map<Integer, Long> countsByExp = new HashMap<>();
+                    for (Object[] row : memberRepository.countMembersGroupByExp()) {
+                        int exp = row[0] != null ? ((Number) row[0]).intValue() : 0;
+                        countsByExp.merge(exp, ((Number) row[1]).longValue(), Long::sum);
+                    }
+                    expHistogramService.rebuild(countsByExp);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * 엔티티 로딩(EAGER genres 등) 없이 id, exp 만 커서로 스트리밍
+     */
+    @Bean
+    public JdbcCursorItemReader<ZSetOperations.TypedTuple<String>> rankingRebuildItemReader() {
+        return new JdbcCursorItemReaderBuilder<ZSetOperations.TypedTuple<String>>()
+                .name("rankingRebuildItemReader")
+                .dataSource(dataSource)
+                .fetchSize(Integer.MIN_VALUE) // MySQL 스트리밍 결과셋 (전체 결과를 메모리에 올리지 않음)
+                .sql("SELECT id, exp FROM member WHERE exp IS NOT NULL")
+                .rowMapper((rs, rowNum) -> new DefaultTypedTuple<>(rs.getString("id"), (double) rs.getInt("exp")))
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<ZSetOperations.TypedTuple<String>> rankingRebuildItemWriter() {
+        Timer timer = Timer.builder("ranking.sync.redis.write")
+                .description("랭킹 배치 chunk 단위 Redis ZADD 소요 시간")
+                .tag("key", STAGING_KEY)
+                .register(meterRegistry);
+        return new RankingRedisItemWriter(redisTemplate, STAGING_KEY, timer);
+    }
+}
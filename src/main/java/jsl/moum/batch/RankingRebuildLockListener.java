@@ -0,0 +1,62 @@
+package jsl.moum.batch;
+
+import jsl.moum.rank.service.MemberExpAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 랭킹 재구성 동안 경험치 반영(MemberExpAggregator flush)을 멈춤
+ *
+ * DB 스냅샷 이후 반영된 ZINCRBY / 히스토그램 HINCRBY 는 RENAME 으로 덮어써져 유실되므로
+ * 스냅샷 전에 flush 락을 잡고 교체가 끝난 뒤 해제한다. (그 사이 증감량은 Redis pending 에 남아 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingRebuildLockListener implements JobExecutionListener {
+
+    private static final String TOKEN_KEY = "expFlushPauseToken";
+    private static final Duration PAUSE_TTL = Duration.ofMinutes(30);
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long RETRY_INTERVAL_MS = 1000;
+
+    private final MemberExpAggregator memberExpAggregator;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        String token = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && token == null; attempt++) {
+            token = memberExpAggregator.pause(PAUSE_TTL);
+            if (token == null) {
+                sleep(); // 진행 중인 flush 가 끝날 때까지 대기
+            }
+        }
+        if (token == null) {
+            // 예외 발생 시 Job 은 FAILED 로 끝나고 step 은 실행되지 않음
+            throw new IllegalStateException("경험치 flush 락을 획득하지 못해 랭킹 재구성을 중단합니다.");
+        }
+        jobExecution.getExecutionContext().putString(TOKEN_KEY, token);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String token = jobExecution.getExecutionContext().getString(TOKEN_KEY, null);
+        if (token != null) {
+            memberExpAggregator.resume(token);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RETRY_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("랭킹 재구성 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package jsl.moum.batch;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chunk 단위로 (memberId, exp)를 Sorted Set에 기록
+ * 멤버별 ZADD 대신 chunk 전체를 한 번의 ZADD(다중 member)로 전송
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RankingRedisItemWriter implements ItemWriter<ZSetOperations.TypedTuple<String>> {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+    private final Timer writeTimer;
+
+    @Override
+    public void write(Chunk<? extends ZSetOperations.TypedTuple<String>> chunk) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(chunk.getItems());
+        if (tuples.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        redisTemplate.opsForZSet().add(key, tuples);
+        long elapsed = System.nanoTime() - start;
+
+        writeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("Ranking chunk written to Redis. key: {}, size: {}, elapsed: {}ms",
+                key, tuples.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+}
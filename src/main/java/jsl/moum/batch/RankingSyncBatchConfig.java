@@ -1,5 +1,7 @@
 package jsl.moum.batch;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManagerFactory;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import lombok.RequiredArgsConstructor;
@@ -9,13 +11,16 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
@@ -29,6 +34,7 @@ public class RankingSyncBatchConfig {
     private final RedisTemplate<String, String> redisTemplate;
     private final JobCompletionNotificationListener listener;
     private final RankingTrimTasklet rankingTrimTasklet; // Tasklet 주입
+    private final MeterRegistry meterRegistry;
 
     private static final int CHUNK_SIZE = 100;
     public static final String RANKING_KEY = "ranking:exp";
@@ -45,8 +51,9 @@ public class RankingSyncBatchConfig {
     @Bean
     public Step rankingSyncStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new StepBuilder("rankingSyncStep", jobRepository)
-                .<MemberEntity, MemberEntity>chunk(CHUNK_SIZE, transactionManager)
+                .<MemberEntity, ZSetOperations.TypedTuple<String>>chunk(CHUNK_SIZE, transactionManager)
                 .reader(rankingItemReader(null)) // @StepScope will inject actual value
+                .processor(rankingItemProcessor())
                 .writer(rankingItemWriter())
                 .build();
     }
@@ -72,13 +79,22 @@ public class RankingSyncBatchConfig {
     }
 
     @Bean
-    public ItemWriter<MemberEntity> rankingItemWriter() {
-        return items -> {
-            items.forEach(item -> {
-                if (item.getExp() != null) {
-                    redisTemplate.opsForZSet().add(RANKING_KEY, String.valueOf(item.getId()), item.getExp().doubleValue());
-                }
-            });
-        };
+    public ItemProcessor<MemberEntity, ZSetOperations.TypedTuple<String>> rankingItemProcessor() {
+        // exp 가 없는 멤버는 null 반환 -> 필터링
+        return member -> member.getExp() == null ? null
+                : new DefaultTypedTuple<>(String.valueOf(member.getId()), member.getExp().doubleValue());
+    }
+
+    @Bean
+    public ItemWriter<ZSetOperations.TypedTuple<String>> rankingItemWriter() {
+        return new RankingRedisItemWriter(redisTemplate, RANKING_KEY, rankingWriteTimer());
+    }
+
+    // chunk 당 Redis 쓰기 지연시간 (actuator metrics: ranking.sync.redis.write)
+    private Timer rankingWriteTimer() {
+        return Timer.builder("ranking.sync.redis.write")
+                .description("랭킹 배치 chunk 단위 Redis ZADD 소요 시간")
+                .tag("key", RANKING_KEY)
+                .register(meterRegistry);
     }
 }
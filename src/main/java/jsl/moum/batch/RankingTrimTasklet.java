@@ -1,5 +1,6 @@
 package jsl.moum.batch;
 
+import jsl.moum.rank.service.RankingRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepContribution;
@@ -15,21 +16,26 @@ import org.springframework.stereotype.Component;
 public class RankingTrimTasklet implements Tasklet {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private static final long TOP_N = 10000; // 상위 10,000명만 유지
+    private final RankingRedisService rankingRedisService;
+    private static final long TOP_N = RankingRedisService.TOP_N; // 상위 10,000명만 유지
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         log.info("Executing RankingTrimTasklet: Trimming Redis Sorted Set to TOP {}", TOP_N);
 
+        trim(RankingSyncBatchConfig.RANKING_KEY);
+        rankingRedisService.publishRankingChanged(); // 동기화 + Trim 완료 후 리더보드 갱신 알림
+        return RepeatStatus.FINISHED;
+    }
+
+    public void trim(String key) {
         try {
             // Sorted Set 에서 멤버 수가 TOP_N 초과하면 -> 가장 낮은 점수의 멤버부터 삭제
             // 0 ~ (TOP_N + 1)까지 삭제 => 점수 제일 높은 TOP_N개의 멤버만 남음
-            redisTemplate.opsForZSet().removeRange(RankingSyncBatchConfig.RANKING_KEY, 0, -(TOP_N + 1));
-            log.info("Successfully trimmed ranking sorted set.");
+            redisTemplate.opsForZSet().removeRange(key, 0, -(TOP_N + 1));
+            log.info("Successfully trimmed ranking sorted set. key: {}", key);
         } catch (Exception e) {
-            log.error("Failed to trim ranking sorted set", e);
+            log.error("Failed to trim ranking sorted set. key: {}", key, e);
         }
-
-        return RepeatStatus.FINISHED;
     }
 }
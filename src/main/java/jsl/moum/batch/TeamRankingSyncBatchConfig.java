@@ -0,0 +1,107 @@
+package jsl.moum.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jsl.moum.rank.service.TeamRankingRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * 팀 랭킹(ranking:team:exp) 전체 재동기화 배치
+ * 팀 수는 멤버 수보다 훨씬 적으므로 증분 대신 매번 staging 에 전체 적재 후 RENAME 으로 교체
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TeamRankingSyncBatchConfig {
+
+    private final DataSource dataSource;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobCompletionNotificationListener listener;
+    private final MeterRegistry meterRegistry;
+
+    private static final int CHUNK_SIZE = 1000;
+    public static final String STAGING_KEY = TeamRankingRedisService.TEAM_RANKING_KEY + ":staging";
+
+    @Bean
+    public Job teamRankingSyncJob(JobRepository jobRepository, Step teamRankingStagingClearStep,
+                                  Step teamRankingSyncStep, Step teamRankingSwapStep) {
+        return new JobBuilder("teamRankingSyncJob", jobRepository)
+                .start(teamRankingStagingClearStep)
+                .next(teamRankingSyncStep)
+                .next(teamRankingSwapStep)
+                .listener(listener)
+                .build();
+    }
+
+    @Bean
+    public Step teamRankingStagingClearStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("teamRankingStagingClearStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    redisTemplate.delete(STAGING_KEY);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step teamRankingSyncStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("teamRankingSyncStep", jobRepository)
+                .<ZSetOperations.TypedTuple<String>, ZSetOperations.TypedTuple<String>>chunk(CHUNK_SIZE, transactionManager)
+                .reader(teamRankingItemReader())
+                .writer(teamRankingItemWriter())
+                .build();
+    }
+
+    @Bean
+    public Step teamRankingSwapStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("teamRankingSwapStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    if (Boolean.TRUE.equals(redisTemplate.hasKey(STAGING_KEY))) {
+                        redisTemplate.rename(STAGING_KEY, TeamRankingRedisService.TEAM_RANKING_KEY);
+                    } else {
+                        redisTemplate.delete(TeamRankingRedisService.TEAM_RANKING_KEY);
+                    }
+                    log.info("Team ranking sorted set swapped. {} -> {}", STAGING_KEY, TeamRankingRedisService.TEAM_RANKING_KEY);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public JdbcCursorItemReader<ZSetOperations.TypedTuple<String>> teamRankingItemReader() {
+        return new JdbcCursorItemReaderBuilder<ZSetOperations.TypedTuple<String>>()
+                .name("teamRankingItemReader")
+                .dataSource(dataSource)
+                .fetchSize(Integer.MIN_VALUE) // MySQL 스트리밍 결과셋 (전체 결과를 메모리에 올리지 않음)
+                .sql("SELECT id, exp FROM team WHERE exp IS NOT NULL")
+                .rowMapper((rs, rowNum) -> new DefaultTypedTuple<>(rs.getString("id"), (double) rs.getInt("exp")))
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<ZSetOperations.TypedTuple<String>> teamRankingItemWriter() {
+        Timer timer = Timer.builder("ranking.sync.redis.write")
+                .description("랭킹 배치 chunk 단위 Redis ZADD 소요 시간")
+                .tag("key", STAGING_KEY)
+                .register(meterRegistry);
+        return new RankingRedisItemWriter(redisTemplate, STAGING_KEY, timer);
+    }
+}
@@ -1,7 +1,10 @@
 package jsl.moum.chatroom.controller;
 
+import jsl.moum.auth.domain.CustomUserDetails;
+import jsl.moum.chatroom.dto.ChatMessageDto;
 import jsl.moum.chatroom.dto.ChatroomDto;
 import jsl.moum.chatroom.dto.ChatroomMemberInfoDto;
+import jsl.moum.chatroom.service.ChatMessageService;
 import jsl.moum.chatroom.service.ChatroomService;
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.exception.CustomException;
@@ -12,12 +15,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -26,6 +31,7 @@ import java.util.List;
 public class ChatroomController {
 
     private final ChatroomService chatroomService;
+    private final ChatMessageService chatMessageService;
 
     @GetMapping("/member/{memberId}")
     public ResponseEntity<ResultResponse> getChatroomListByMemberId(@PathVariable(name = "memberId") Integer memberId) {
@@ -103,4 +109,37 @@ public class ChatroomController {
             throw new CustomException(ErrorCode.CHATROOM_MEMBER_REMOVE_FAIL);
         }
     }
+
+    /**
+     * 이전 메시지 조회 (최신순), 다음 페이지는 마지막 메시지의 messageId 를 cursor 로 전달
+     */
+    @GetMapping("/{id}/messages")
+    public ResponseEntity<ResultResponse> getChatMessages(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                          @PathVariable(name = "id") Integer chatroomId,
+                                                          @RequestParam(required = false) Long cursor,
+                                                          @RequestParam(defaultValue = "50") int size) {
+        List<ChatMessageDto.Response> messages = chatMessageService.getMessages(chatroomId, customUserDetails.getUsername(), cursor, size);
+        ResultResponse response = ResultResponse.of(ResponseCode.CHAT_MESSAGE_LIST_GET_SUCCESS, messages);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(response.getStatus()));
+    }
+
+    /**
+     * 읽음 처리, messageId 는 마지막으로 본 메시지 (읽음 표시용, 생략 가능)
+     */
+    @PostMapping("/{id}/read")
+    public ResponseEntity<ResultResponse> readChatroom(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                       @PathVariable(name = "id") Integer chatroomId,
+                                                       @RequestParam(required = false) Long messageId) {
+        chatMessageService.markRead(chatroomId, customUserDetails.getUsername(), messageId);
+        ResultResponse response = ResultResponse.of(ResponseCode.CHAT_READ_SUCCESS, null);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(response.getStatus()));
+    }
+
+    @GetMapping("/{id}/read")
+    public ResponseEntity<ResultResponse> getReadCursors(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                         @PathVariable(name = "id") Integer chatroomId) {
+        Map<Integer, Long> readCursors = chatMessageService.getReadCursors(chatroomId, customUserDetails.getUsername());
+        ResultResponse response = ResultResponse.of(ResponseCode.CHAT_READ_CURSOR_GET_SUCCESS, readCursors);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(response.getStatus()));
+    }
 }
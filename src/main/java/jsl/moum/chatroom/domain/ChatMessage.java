@@ -0,0 +1,42 @@
+package jsl.moum.chatroom.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 (append-only)
+ * id 는 시간순으로 증가하는 snowflake id (ChatMessageIdGenerator) -> (chatroom_id, id) 인덱스로 최신순 범위 조회
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+        name = "chat_message",
+        indexes = {
+                @Index(name = "idx_chat_message_chatroom_id", columnList = "chatroom_id, id")
+        }
+)
+public class ChatMessage {
+
+    @Id
+    private long id;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private int chatroomId;
+
+    @Column(name = "sender_id", nullable = false)
+    private int senderId;
+
+    @Column(name = "sender_name", nullable = true)
+    private String senderName;
+
+    @Column(name = "content", nullable = false, length = 1000)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
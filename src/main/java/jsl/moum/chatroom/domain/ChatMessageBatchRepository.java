@@ -0,0 +1,65 @@
+package jsl.moum.chatroom.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지 batch INSERT + 채팅방별 마지막 메시지 갱신 (한 트랜잭션)
+     *
+     * 같은 메시지가 다시 들어와도(ACK 전 장애 후 재처리) 중복 저장되지 않도록 INSERT IGNORE
+     * last_chat 은 더 최신 메시지일 때만 덮어씀
+     */
+    @Transactional
+    public void saveAll(List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (ChatMessage message : messages) {
+            insertArgs.add(new Object[]{
+                    message.getId(),
+                    message.getChatroomId(),
+                    message.getSenderId(),
+                    message.getSenderName(),
+                    message.getContent(),
+                    Timestamp.valueOf(message.getCreatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO chat_message (id, chatroom_id, sender_id, sender_name, content, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                insertArgs);
+
+        // 채팅방별 가장 최신 메시지만, 데드락 방지를 위해 chatroom id 오름차순으로 갱신
+        Map<Integer, ChatMessage> latestByChatroom = messages.stream()
+                .collect(Collectors.toMap(ChatMessage::getChatroomId, Function.identity(),
+                        (a, b) -> Comparator.comparingLong(ChatMessage::getId).compare(a, b) >= 0 ? a : b,
+                        TreeMap::new));
+
+        List<Object[]> updateArgs = new ArrayList<>();
+        latestByChatroom.forEach((chatroomId, message) -> {
+            Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+            updateArgs.add(new Object[]{message.getContent(), createdAt, chatroomId, createdAt});
+        });
+        jdbcTemplate.batchUpdate(
+                "UPDATE chatroom SET last_chat = ?, last_timestamp = ? WHERE id = ? AND (last_timestamp IS NULL OR last_timestamp <= ?)",
+                updateArgs);
+    }
+}
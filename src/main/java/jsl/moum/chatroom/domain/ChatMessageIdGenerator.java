@@ -0,0 +1,168 @@
+package jsl.moum.chatroom.domain;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jsl.moum.config.redis.util.RedisLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 시간순 정렬되는 64bit 메시지 id (snowflake)
+ *
+ * | 41bit : epoch(2024-01-01) 이후 ms | 10bit : node id | 12bit : ms 내 순번 |
+ *
+ * node id 는 노드마다 달라야 함 (같으면 같은 ms 에 같은 id 가 생성되고 INSERT IGNORE 로 메시지가 유실됨)
+ * - chat.message.node-id 를 지정하면 그 값을 사용
+ * - 지정하지 않으면 Redis 에서 비어 있는 node id 를 임대 (SET NX + TTL, 주기적으로 연장)
+ *   임대에 실패하면 기동 실패, 연장하지 못한 채 임대가 만료되면 다시 임대할 때까지 id 를 발급하지 않음
+ */
+@Component
+@Slf4j
+public class ChatMessageIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String NODE_LEASE_KEY_PREFIX = "chat:message:node:";
+    private static final String NODE_SEQ_KEY = "chat:message:node-seq";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    // 만료 직전에는 다른 노드가 같은 id 를 임대할 수 있으므로 여유를 두고 발급 중단
+    private static final long LEASE_SAFETY_MS = 5000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+    private final long configuredNodeId;
+
+    private long nodeId = -1;
+    private String leaseToken;
+    private volatile long leaseValidUntil;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(@Value("${chat.message.node-id:-1}") long configuredNodeId,
+                                  RedisTemplate<String, String> redisTemplate,
+                                  RedisLock redisLock) {
+        if (configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("chat.message.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.configuredNodeId = configuredNodeId;
+        this.redisTemplate = redisTemplate;
+        this.redisLock = redisLock;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (configuredNodeId >= 0) {
+            nodeId = configuredNodeId;
+            return;
+        }
+        if (!lease()) {
+            throw new IllegalStateException("chat.message.node-id 가 지정되지 않았고 Redis 에서 node id 를 임대하지 못했습니다.");
+        }
+    }
+
+    public synchronized long nextId() {
+        if (leaseToken != null && System.currentTimeMillis() > leaseValidUntil - LEASE_SAFETY_MS) {
+            throw new IllegalStateException("채팅 메시지 node id 임대 만료 - nodeId: " + nodeId);
+        }
+
+        long timestamp = System.currentTimeMillis();
+        // 시계가 뒤로 가면 마지막 시각 기준으로 계속 증가시킴
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 내 순번 소진 -> 다음 ms 로
+                timestamp = lastTimestamp + 1;
+                while (System.currentTimeMillis() < timestamp) {
+                    Thread.onSpinWait();
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 임대 연장, 다른 노드에 빼앗겼으면(만료 후 재임대) 새 node id 임대
+     */
+    @Scheduled(fixedDelayString = "${chat.message.node-lease-renew-ms:10000}")
+    public void renewLease() {
+        if (leaseToken == null) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            if (redisLock.extend(leaseKey(nodeId), leaseToken, LEASE_TTL)) {
+                leaseValidUntil = now + LEASE_TTL.toMillis();
+                return;
+            }
+            log.warn("채팅 메시지 node id 임대를 잃었습니다. 새로 임대합니다. nodeId: {}", nodeId);
+            synchronized (this) {
+                if (!lease()) {
+                    log.error("채팅 메시지 node id 재임대 실패. 다음 주기에 재시도합니다.");
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지 node id 임대 연장 실패. nodeId: {}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leaseToken == null) {
+            return;
+        }
+        try {
+            redisLock.unlock(leaseKey(nodeId), leaseToken);
+        } catch (DataAccessException e) {
+            log.warn("채팅 메시지 node id 반납 실패. TTL 만료 후 반납됩니다. nodeId: {}", nodeId);
+        }
+    }
+
+    /**
+     * INCR 로 시작 위치를 정하고 비어 있는 node id 를 SET NX 로 선점
+     */
+    private boolean lease() {
+        try {
+            Long start = redisTemplate.opsForValue().increment(NODE_SEQ_KEY);
+            long base = start == null ? 0 : start;
+            for (long i = 0; i <= MAX_NODE_ID; i++) {
+                long candidate = (base + i) & MAX_NODE_ID;
+                long now = System.currentTimeMillis();
+                String token = redisLock.tryLock(leaseKey(candidate), LEASE_TTL);
+                if (token != null) {
+                    nodeId = candidate;
+                    leaseToken = token;
+                    leaseValidUntil = now + LEASE_TTL.toMillis();
+                    log.info("채팅 메시지 node id 임대 - nodeId: {}", nodeId);
+                    return true;
+                }
+            }
+            log.error("임대 가능한 채팅 메시지 node id 가 없습니다.");
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지 node id 임대 실패", e);
+        }
+        return false;
+    }
+
+    private String leaseKey(long id) {
+        return NODE_LEASE_KEY_PREFIX + id;
+    }
+}
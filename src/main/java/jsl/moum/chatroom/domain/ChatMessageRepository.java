@@ -0,0 +1,14 @@
+package jsl.moum.chatroom.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    // cursor(messageId) 이전 메시지를 최신순으로 (OFFSET 없이 인덱스 범위 조회)
+    List<ChatMessage> findByChatroomIdAndIdLessThanOrderByIdDesc(int chatroomId, long cursor, Pageable pageable);
+}
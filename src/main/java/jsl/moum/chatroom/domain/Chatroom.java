@@ -14,7 +14,12 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "chatroom")
+@Table(
+        name = "chatroom",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_chatroom_dm_key", columnNames = "dm_key")
+        }
+)
 public class Chatroom {
 
     @Id
@@ -48,6 +53,16 @@ public class Chatroom {
     @Column(name = "file_url", nullable = true)
     private String fileUrl;
 
+    // 개인 채팅방(type 0)의 두 멤버 id "{작은 id}:{큰 id}", 그룹 채팅방은 null
+    // unique 인덱스로 동시에 생성 요청이 와도 같은 두 사람의 개인 채팅방은 하나만 저장됨
+    @Nullable
+    @Column(name = "dm_key", nullable = true, length = 32)
+    private String dmKey;
+
     @OneToMany(mappedBy = "chatroom", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<ChatroomMember> chatroomMembers = new ArrayList<>();
+
+    public static String dmKeyOf(int memberId1, int memberId2) {
+        return Math.min(memberId1, memberId2) + ":" + Math.max(memberId1, memberId2);
+    }
 }
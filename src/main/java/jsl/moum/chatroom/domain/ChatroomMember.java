@@ -12,7 +12,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "chatroom_member")
+@Table(
+        name = "chatroom_member",
+        indexes = {
+                @Index(name = "idx_chatroom_member_member_chatroom", columnList = "member_id, chatroom_id"),
+                @Index(name = "idx_chatroom_member_chatroom_member", columnList = "chatroom_id, member_id")
+        }
+)
 public class ChatroomMember {
 
     @Id
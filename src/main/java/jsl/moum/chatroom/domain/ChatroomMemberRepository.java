@@ -1,7 +1,7 @@
 package jsl.moum.chatroom.domain;
 
 import io.lettuce.core.dynamic.annotation.Param;
-import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.chatroom.dto.ChatroomDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,15 +13,21 @@ import java.util.Optional;
 public interface ChatroomMemberRepository extends JpaRepository<ChatroomMember, Integer> {
     List<ChatroomMember> findByMemberId(Integer memberId);
 
+    // 채팅방 목록 한 번에 조회 (최근 대화순)
+    // 개인 채팅방(type 0)은 상대방 프로필 이미지를 채팅방 이미지로 사용
+    @Query("SELECT new jsl.moum.chatroom.dto.ChatroomDto(c.id, c.name, c.type, t.id, t.leaderId, c.lastChat, c.lastTimestamp, " +
+            "CASE WHEN c.type = 0 THEN other.profileImageUrl ELSE c.fileUrl END) " +
+            "FROM ChatroomMember cm " +
+            "JOIN cm.chatroom c " +
+            "LEFT JOIN c.team t " +
+            "LEFT JOIN ChatroomMember ocm ON ocm.chatroom = c AND c.type = 0 AND ocm.member.id <> :memberId " +
+            "LEFT JOIN ocm.member other " +
+            "WHERE cm.member.id = :memberId " +
+            "ORDER BY COALESCE(c.lastTimestamp, c.createdAt) DESC")
+    List<ChatroomDto> findInboxByMemberId(@Param("memberId") Integer memberId);
+
     @Query("SELECT cm.member.id FROM ChatroomMember cm WHERE cm.chatroom.id = :chatroomId")
     List<Integer> findAllMemberIdByChatroomId(@Param("chatroomId") Integer chatroomId);
 
     Optional<ChatroomMember> findByChatroomIdAndMemberId(Integer chatroomId, Integer memberId);
-
-    @Query("SELECT cm1.chatroom.id " +
-            "FROM ChatroomMember cm1 " +
-            "JOIN ChatroomMember cm2 ON cm1.chatroom = cm2.chatroom " +
-            "WHERE cm1.member = :member1 AND cm2.member = :member2")
-    List<Integer> findCommonChatroomIds(@Param("member1") MemberEntity member1,
-                                        @Param("member2") MemberEntity member2);
 }
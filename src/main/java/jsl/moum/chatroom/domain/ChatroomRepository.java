@@ -1,7 +1,10 @@
 package jsl.moum.chatroom.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -10,4 +13,18 @@ public interface ChatroomRepository extends JpaRepository<Chatroom, Integer> {
 //    List<Chatroom> findByMemberId(Integer memberId);
 
     Boolean existsByTeamId(Integer teamId);
+
+    // 개인 채팅방 중복 확인 (uk_chatroom_dm_key 인덱스 조회 한 번)
+    boolean existsByDmKey(String dmKey);
+
+    // dm_key 도입 전에 만들어진 개인 채팅방(멤버 2명)에 dm_key 채우기
+    // 같은 두 멤버의 개인 채팅방이 이미 여러 개 있으면 하나만 채워지고 나머지는 unique 충돌로 건너뜀 (IGNORE)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE IGNORE chatroom c " +
+            "JOIN (SELECT chatroom_id, MIN(member_id) AS a, MAX(member_id) AS b " +
+            "      FROM chatroom_member GROUP BY chatroom_id HAVING COUNT(*) = 2) m ON m.chatroom_id = c.id " +
+            "SET c.dm_key = CONCAT(m.a, ':', m.b) " +
+            "WHERE c.type = 0 AND c.dm_key IS NULL", nativeQuery = true)
+    int backfillDmKeys();
 }
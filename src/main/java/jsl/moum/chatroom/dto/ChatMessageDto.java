@@ -0,0 +1,67 @@
+package jsl.moum.chatroom.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import jsl.moum.chatroom.domain.ChatMessage;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class ChatMessageDto {
+
+    public enum Type {
+        JOIN, LEAVE, MESSAGE
+    }
+
+    /**
+     * 클라이언트 -> 서버 (WebSocket 텍스트 프레임)
+     * JOIN / LEAVE : 채팅방 구독 시작 / 종료
+     * MESSAGE      : 채팅 전송 (JOIN 한 채팅방에만 가능)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Request{
+        private Type type;
+        private int chatroomId;
+        private String content;
+    }
+
+    /**
+     * 서버 -> 클라이언트, 노드 간 relay / Redis Stream 메시지로도 그대로 사용
+     * messageId 는 JS number 범위를 넘을 수 있어 문자열로 직렬화 (이전 메시지 조회 시 cursor 로 사용)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Response{
+        @JsonSerialize(using = ToStringSerializer.class)
+        private long messageId;
+        private int chatroomId;
+        private int senderId;
+        private String senderName;
+        private String content;
+        private LocalDateTime timestamp;
+
+        public Response(ChatMessage message){
+            this.messageId = message.getId();
+            this.chatroomId = message.getChatroomId();
+            this.senderId = message.getSenderId();
+            this.senderName = message.getSenderName();
+            this.content = message.getContent();
+            this.timestamp = message.getCreatedAt();
+        }
+
+        public ChatMessage toEntity(){
+            return ChatMessage.builder()
+                    .id(messageId)
+                    .chatroomId(chatroomId)
+                    .senderId(senderId)
+                    .senderName(senderName)
+                    .content(content)
+                    .createdAt(timestamp)
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package jsl.moum.chatroom.dto;
 
 import jsl.moum.chatroom.domain.Chatroom;
+import jsl.moum.objectstorage.Thumbnails;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -21,7 +22,21 @@ public class ChatroomDto {
     private String lastChat;
     private LocalDateTime lastTimestamp;
     private String fileUrl;
+    // 안 읽은 메시지 수 (Redis 카운터, 목록 조회 시 채움)
+    private int unreadCount;
 
+    // 채팅방 목록 inbox 쿼리 (JPQL 생성자 projection) 용
+    public ChatroomDto(int id, String name, int type, Integer teamId, Integer leaderId,
+                       String lastChat, LocalDateTime lastTimestamp, String fileUrl) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.teamId = teamId;
+        this.leaderId = leaderId;
+        this.lastChat = lastChat;
+        this.lastTimestamp = lastTimestamp;
+        this.fileUrl = fileUrl;
+    }
 
     public ChatroomDto(Chatroom chatroom) {
         this.id = chatroom.getId();
@@ -39,6 +54,11 @@ public class ChatroomDto {
         this.fileUrl = chatroom.getFileUrl();
     }
 
+    // 목록 화면용 축소 이미지 (원본 업로드 후 비동기 생성)
+    public String getThumbnailUrl(){
+        return Thumbnails.urlOf(fileUrl);
+    }
+
     @Getter
     @Setter
     @RequiredArgsConstructor
@@ -0,0 +1,16 @@
+package jsl.moum.chatroom.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방 멤버 추가/삭제 시 발행되는 이벤트
+ * 안 읽은 메시지 수 계산에 쓰는 채팅방 멤버 캐시 갱신, 제거된 멤버의 WebSocket 구독 해제에 사용
+ */
+@Getter
+@AllArgsConstructor
+public class ChatroomMemberChangedEvent {
+    private final int chatroomId;
+    private final int memberId;
+    private final boolean removed;
+}
@@ -0,0 +1,294 @@
+package jsl.moum.chatroom.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jsl.moum.auth.dto.MemberAuthDto;
+import jsl.moum.auth.service.MemberAuthReader;
+import jsl.moum.chatroom.domain.ChatMessage;
+import jsl.moum.chatroom.domain.ChatMessageBatchRepository;
+import jsl.moum.chatroom.domain.ChatMessageIdGenerator;
+import jsl.moum.chatroom.domain.ChatMessageRepository;
+import jsl.moum.chatroom.domain.ChatroomMemberRepository;
+import jsl.moum.chatroom.dto.ChatMessageDto;
+import jsl.moum.chatroom.websocket.ChatMessageRelay;
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 저장/조회
+ *
+ * 전송 시 시간순 id 를 붙여 Redis Stream(chat:messages)에 XADD 후 바로 relay (DB 쓰기를 기다리지 않음)
+ * 주기적으로 consumer group 으로 읽어 batch INSERT 후 XACK/XDEL
+ * - DB 반영 전에 노드가 죽어도 pending 으로 남고, 일정 시간 ACK 되지 않으면 살아 있는 노드가 XCLAIM 해서 반영
+ * - Redis 장애 시에는 DB 에 바로 저장
+ *
+ * 이전 메시지 조회는 messageId cursor 기준 범위 조회 (OFFSET 사용하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageService {
+
+    public static final String CHAT_STREAM_KEY = "chat:messages";
+    public static final String CHAT_STREAM_GROUP = "chat-persister";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Duration CONSUMER_IDLE_LIMIT = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatroomMemberRepository chatroomMemberRepository;
+    private final ChatMessageRelay chatMessageRelay;
+    private final ChatUnreadService chatUnreadService;
+    private final MemberAuthReader memberAuthReader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.message.drain-batch-size:500}")
+    private int drainBatchSize;
+
+    // 비어 있으면 프로세스마다 고유한 이름 생성 (호스트명 + 임의값)
+    // 죽거나 사라진 consumer 의 pending 메시지는 다른 노드가 claim 해서 처리하므로 재기동 시 같은 이름일 필요 없음
+    @Value("${chat.message.consumer-name:}")
+    private String consumerName;
+
+    // 이 시간 이상 ACK 되지 않은 다른 consumer 의 pending 메시지를 가져와 처리
+    @Value("${chat.message.claim-idle-ms:60000}")
+    private long claimIdleMs;
+
+    private volatile boolean groupCreated = false;
+
+    @PostConstruct
+    public void init() {
+        if (consumerName == null || consumerName.isBlank()) {
+            consumerName = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        log.info("채팅 메시지 stream consumer: {}", consumerName);
+    }
+
+    /**
+     * 메시지 id 부여 -> Stream 적재 -> 안 읽은 수 증가 -> 모든 노드에 relay
+     */
+    public ChatMessageDto.Response append(ChatMessageDto.Response message) {
+        long messageId;
+        try {
+            messageId = chatMessageIdGenerator.nextId();
+        } catch (IllegalStateException e) {
+            // node id 임대가 만료되어 중복 없는 id 를 보장할 수 없음 -> 전송 거부
+            log.error("채팅 메시지 id 발급 실패 - chatroomId: {}", message.getChatroomId(), e);
+            return null;
+        }
+
+        ChatMessageDto.Response saved = ChatMessageDto.Response.builder()
+                .messageId(messageId)
+                .chatroomId(message.getChatroomId())
+                .senderId(message.getSenderId())
+                .senderName(message.getSenderName())
+                .content(message.getContent())
+                .timestamp(message.getTimestamp())
+                .build();
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(saved);
+        } catch (JsonProcessingException e) {
+            log.error("채팅 메시지 직렬화 실패 - chatroomId: {}", saved.getChatroomId(), e);
+            return null;
+        }
+
+        try {
+            redisTemplate.opsForStream().add(CHAT_STREAM_KEY, Map.of(PAYLOAD_FIELD, payload));
+        } catch (DataAccessException e) {
+            log.error("Redis 채팅 메시지 적재 실패. DB에 바로 저장합니다. chatroomId: {}", saved.getChatroomId(), e);
+            chatMessageBatchRepository.saveAll(List.of(saved.toEntity()));
+        }
+
+        chatUnreadService.onMessage(saved.getChatroomId(), saved.getSenderId(), saved.getMessageId());
+        chatMessageRelay.publish(saved);
+        return saved;
+    }
+
+    /**
+     * Stream -> DB 반영
+     * 1. 오래 ACK 되지 않은 다른 consumer(죽었거나 사라진 노드)의 pending 메시지를 내 것으로 claim
+     * 2. 내 pending 메시지(이전 주기 실패분 + claim 한 것) 처리
+     * 3. 새 메시지 처리
+     */
+    @Scheduled(fixedDelayString = "${chat.message.drain-interval-ms:1000}")
+    public void drain() {
+        try {
+            ensureGroup();
+            claimIdlePending();
+            // batch 가 가득 찼으면 남은 메시지가 있을 수 있으므로 이어서 처리
+            int read;
+            do {
+                read = drainFrom(ReadOffset.from("0"));
+            } while (read == drainBatchSize);
+            do {
+                read = drainFrom(ReadOffset.lastConsumed());
+            } while (read == drainBatchSize);
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지 DB 반영 실패. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 채팅방 이전 메시지 조회 (최신순)
+     * cursor 가 없으면 가장 최근 메시지부터, 있으면 해당 messageId 보다 이전 메시지
+     */
+    public List<ChatMessageDto.Response> getMessages(int chatroomId, String username, Long cursor, int size) {
+        getChatroomMemberId(chatroomId, username);
+
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return chatMessageRepository.findByChatroomIdAndIdLessThanOrderByIdDesc(chatroomId, before, PageRequest.of(0, pageSize))
+                .stream()
+                .map(ChatMessageDto.Response::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 읽음 처리 (채팅방 진입 / 새 메시지 확인 시)
+     */
+    public void markRead(int chatroomId, String username, Long messageId) {
+        int memberId = getChatroomMemberId(chatroomId, username);
+        chatUnreadService.markRead(chatroomId, memberId, messageId);
+    }
+
+    /**
+     * 채팅방 멤버별 마지막으로 읽은 messageId
+     */
+    public Map<Integer, Long> getReadCursors(int chatroomId, String username) {
+        getChatroomMemberId(chatroomId, username);
+        return chatUnreadService.getReadCursors(chatroomId);
+    }
+
+    private int getChatroomMemberId(int chatroomId, String username) {
+        MemberAuthDto member = memberAuthReader.findByUsername(username);
+        // 권한 확인은 Redis 멤버 캐시가 아닌 DB 기준
+        if (member == null || chatroomMemberRepository.findByChatroomIdAndMemberId(chatroomId, member.getId()).isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_CHATROOM_MEMBER);
+        }
+        return member.getId();
+    }
+
+    /**
+     * pending 이 없고 오래 사용되지 않은 consumer 정리 (노드 교체/재기동마다 consumer 가 쌓이지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${chat.message.consumer-cleanup-interval-ms:600000}")
+    public void removeIdleConsumers() {
+        if (!groupCreated) {
+            return;
+        }
+        try {
+            StreamInfo.XInfoConsumers consumers = redisTemplate.opsForStream().consumers(CHAT_STREAM_KEY, CHAT_STREAM_GROUP);
+            consumers.stream().forEach(consumer -> {
+                if (!consumer.consumerName().equals(consumerName)
+                        && consumer.pendingCount() == 0
+                        && consumer.idleTimeMs() > CONSUMER_IDLE_LIMIT.toMillis()) {
+                    redisTemplate.opsForStream().deleteConsumer(CHAT_STREAM_KEY, Consumer.from(CHAT_STREAM_GROUP, consumer.consumerName()));
+                }
+            });
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지 stream consumer 정리 실패", e);
+        }
+    }
+
+    private void claimIdlePending() {
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(CHAT_STREAM_KEY, CHAT_STREAM_GROUP, Range.unbounded(), drainBatchSize);
+        Duration minIdle = Duration.ofMillis(claimIdleMs);
+        RecordId[] idleIds = pending.stream()
+                .filter(message -> !message.getConsumerName().equals(consumerName))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length == 0) {
+            return;
+        }
+        // XCLAIM 은 idle 조건을 다시 확인하므로 다른 노드가 동시에 claim 해도 한 곳에만 넘어감
+        redisTemplate.opsForStream().claim(CHAT_STREAM_KEY, CHAT_STREAM_GROUP, consumerName, minIdle, idleIds);
+        log.info("다른 consumer 의 pending 채팅 메시지 claim - 건수: {}", idleIds.length);
+    }
+
+    private int drainFrom(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(CHAT_STREAM_GROUP, consumerName),
+                StreamReadOptions.empty().count(drainBatchSize),
+                StreamOffset.create(CHAT_STREAM_KEY, offset));
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        List<ChatMessage> messages = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Object payload = record.getValue().get(PAYLOAD_FIELD);
+            try {
+                messages.add(objectMapper.readValue(String.valueOf(payload), ChatMessageDto.Response.class).toEntity());
+            } catch (JsonProcessingException e) {
+                // 읽을 수 없는 메시지는 재시도해도 같으므로 로그만 남기고 ACK
+                log.error("채팅 메시지 역직렬화 실패 - recordId: {}", record.getId(), e);
+            }
+        }
+
+        // 저장 실패 시 ACK 하지 않음 -> pending 으로 남아 다음 주기에 재처리 (INSERT IGNORE 라 중복 저장 없음)
+        chatMessageBatchRepository.saveAll(messages);
+
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(CHAT_STREAM_KEY, CHAT_STREAM_GROUP, ids);
+        redisTemplate.opsForStream().delete(CHAT_STREAM_KEY, ids);
+        return records.size();
+    }
+
+    private void ensureGroup() {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            // Stream 이 없으면 함께 생성 (MKSTREAM)
+            redisTemplate.opsForStream().createGroup(CHAT_STREAM_KEY, ReadOffset.from("0"), CHAT_STREAM_GROUP);
+        } catch (DataAccessException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+
+    private String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "moum";
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package jsl.moum.chatroom.service;
+
+import jsl.moum.chatroom.domain.ChatroomMemberRepository;
+import jsl.moum.chatroom.event.ChatroomMemberChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방별 안 읽은 메시지 수 / 읽음 위치
+ *
+ * chat:unread:{memberId}      Hash (field = chatroomId, value = 안 읽은 메시지 수)
+ * chat:read:{memberId}        Hash (field = chatroomId, value = 마지막으로 읽은 messageId)
+ * chat:room:{chatroomId}:members  Set (채팅방 멤버 id, 전송마다 DB 조회하지 않도록 캐시)
+ * chat:room:{chatroomId}:messages Sorted Set (최근 messageId, 20자리 0 채움 문자열 / score 0 - 사전순 = id 순)
+ *
+ * 전송 시 다른 멤버의 카운터만 HINCRBY, 읽음 처리 시 최신 메시지까지 읽었으면 HDEL, 아니면 읽은 위치 이후 메시지 수로 줄임
+ * -> 목록 조회 시 COUNT 쿼리 없이 HMGET 한 번
+ * Redis 장애 시에는 안 읽은 수를 0 으로 취급 (채팅 전송/목록 조회는 그대로 동작)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatUnreadService {
+
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";
+    private static final String READ_KEY_PREFIX = "chat:read:";
+    private static final Duration ROOM_MEMBERS_TTL = Duration.ofDays(1);
+    private static final Duration ROOM_MESSAGES_TTL = Duration.ofDays(7);
+    private static final int ROOM_MESSAGES_SIZE = 1000; // 안 읽은 수 재계산용으로 최근 1,000개만 유지
+    private static final int MESSAGE_ID_WIDTH = 20;
+
+    /**
+     * 읽음 위치는 앞으로만 이동 (오래된 messageId 로 되돌리지 않고 안 읽은 수도 건드리지 않음)
+     * 채팅방 최신 메시지까지 읽었으면 안 읽은 수 초기화, 아니면 읽은 위치 이후 메시지 수로만 줄임
+     * (읽음 요청이 늦게 도착해도 그 사이 새로 온 메시지는 안 읽은 수에 남음)
+     * messageId 는 2^53 을 넘으므로 Lua number 로 바꾸지 않고 자릿수/문자열로 비교
+     * KEYS[1] = chat:unread:{memberId}, KEYS[2] = chat:read:{memberId}, KEYS[3] = chat:room:{chatroomId}:messages
+     * ARGV[1] = chatroomId, ARGV[2] = messageId, ARGV[3] = 0 채운 messageId
+     */
+    private static final String READ_SCRIPT =
+            "local current = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if current and (#current > #ARGV[2] or (#current == #ARGV[2] and current >= ARGV[2])) then return 0 end " +
+            "redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) " +
+            "local latest = redis.call('ZREVRANGEBYLEX', KEYS[3], '+', '-', 'LIMIT', 0, 1)[1] " +
+            "local remaining = 0 " +
+            "if latest and latest > ARGV[3] then remaining = redis.call('ZLEXCOUNT', KEYS[3], '(' .. ARGV[3], '+') end " +
+            "if remaining == 0 then redis.call('HDEL', KEYS[1], ARGV[1]) return 1 end " +
+            "local unread = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if remaining < unread then redis.call('HSET', KEYS[1], ARGV[1], remaining) end " +
+            "return 1";
+    private static final RedisScript<Long> READ_REDIS_SCRIPT = new DefaultRedisScript<>(READ_SCRIPT, Long.class);
+
+    /**
+     * 새 메시지를 채팅방 메시지 목록에 추가 + 다른 멤버 안 읽은 수 +1 + 보낸 사람 읽음 처리를 한 번에
+     * (읽음 처리가 메시지 목록 추가와 카운터 증가 사이에 끼어 같은 메시지를 두 번 세지 않도록)
+     * KEYS[1] = chat:room:{chatroomId}:messages, KEYS[2] = 보낸 사람 chat:unread, KEYS[3] = 보낸 사람 chat:read,
+     * KEYS[4..] = 다른 멤버 chat:unread
+     * ARGV[1] = chatroomId, ARGV[2] = messageId, ARGV[3] = 0 채운 messageId, ARGV[4] = 유지 개수, ARGV[5] = TTL(ms)
+     */
+    private static final String MESSAGE_SCRIPT =
+            "redis.call('ZADD', KEYS[1], 0, ARGV[3]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "for i = 4, #KEYS do redis.call('HINCRBY', KEYS[i], ARGV[1], 1) end " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "local current = redis.call('HGET', KEYS[3], ARGV[1]) " +
+            "if current and (#current > #ARGV[2] or (#current == #ARGV[2] and current >= ARGV[2])) then return 0 end " +
+            "redis.call('HSET', KEYS[3], ARGV[1], ARGV[2]) " +
+            "return 1";
+    private static final RedisScript<Long> MESSAGE_REDIS_SCRIPT = new DefaultRedisScript<>(MESSAGE_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatroomMemberRepository chatroomMemberRepository;
+
+    /**
+     * 새 메시지: 보낸 사람을 제외한 멤버의 안 읽은 수 +1, 보낸 사람은 해당 메시지까지 읽음 처리
+     */
+    public void onMessage(int chatroomId, int senderId, long messageId) {
+        try {
+            Set<Integer> memberIds = getRoomMemberIds(chatroomId);
+            List<String> keys = new ArrayList<>(List.of(roomMessagesKey(chatroomId), unreadKey(senderId), readKey(senderId)));
+            for (Integer memberId : memberIds) {
+                if (memberId != senderId) {
+                    keys.add(unreadKey(memberId));
+                }
+            }
+            redisTemplate.execute(MESSAGE_REDIS_SCRIPT, keys, String.valueOf(chatroomId), String.valueOf(messageId),
+                    padded(messageId), String.valueOf(ROOM_MESSAGES_SIZE), String.valueOf(ROOM_MESSAGES_TTL.toMillis()));
+        } catch (DataAccessException e) {
+            log.error("Redis 안 읽은 메시지 수 갱신 실패. chatroomId: {}", chatroomId, e);
+        }
+    }
+
+    /**
+     * 읽음 처리: messageId 가 지금 읽음 위치보다 뒤일 때만 읽음 위치 이동 + 안 읽은 수 갱신 (messageId 가 없으면 초기화)
+     */
+    public void markRead(int chatroomId, int memberId, Long messageId) {
+        try {
+            String field = String.valueOf(chatroomId);
+            if (messageId == null) {
+                redisTemplate.opsForHash().delete(unreadKey(memberId), field);
+                return;
+            }
+            redisTemplate.execute(READ_REDIS_SCRIPT,
+                    List.of(unreadKey(memberId), readKey(memberId), roomMessagesKey(chatroomId)),
+                    field, String.valueOf(messageId), padded(messageId));
+        } catch (DataAccessException e) {
+            log.error("Redis 읽음 처리 실패. chatroomId: {}, memberId: {}", chatroomId, memberId, e);
+        }
+    }
+
+    /**
+     * 채팅방 목록의 안 읽은 수 (HMGET 한 번), 값이 없는 채팅방은 결과에 포함하지 않음
+     */
+    public Map<Integer, Integer> getUnreadCounts(int memberId, List<Integer> chatroomIds) {
+        if (chatroomIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Object> fields = chatroomIds.stream().map(String::valueOf).collect(Collectors.toList());
+        List<Object> counts;
+        try {
+            counts = redisTemplate.opsForHash().multiGet(unreadKey(memberId), fields);
+        } catch (DataAccessException e) {
+            log.error("Redis 안 읽은 메시지 수 조회 실패. memberId: {}", memberId, e);
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, Integer> unreadCounts = new HashMap<>();
+        for (int i = 0; i < chatroomIds.size(); i++) {
+            if (counts.get(i) != null) {
+                unreadCounts.put(chatroomIds.get(i), Integer.parseInt(counts.get(i).toString()));
+            }
+        }
+        return unreadCounts;
+    }
+
+    /**
+     * 채팅방 멤버별 마지막으로 읽은 messageId (읽음 표시용), 멤버 수만큼의 HGET 을 pipeline 한 번으로
+     * 멤버 목록은 캐시가 아닌 DB 기준 (나간 멤버의 읽음 위치가 보이지 않도록)
+     */
+    public Map<Integer, Long> getReadCursors(int chatroomId) {
+        List<Integer> memberIds = chatroomMemberRepository.findAllMemberIdByChatroomId(chatroomId);
+        try {
+            byte[] field = bytes(String.valueOf(chatroomId));
+            List<Object> cursors = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Integer memberId : memberIds) {
+                    connection.hashCommands().hGet(bytes(readKey(memberId)), field);
+                }
+                return null;
+            });
+
+            Map<Integer, Long> readCursors = new HashMap<>();
+            for (int i = 0; i < memberIds.size(); i++) {
+                if (cursors.get(i) != null) {
+                    readCursors.put(memberIds.get(i), Long.parseLong(cursors.get(i).toString()));
+                }
+            }
+            return readCursors;
+        } catch (DataAccessException e) {
+            log.error("Redis 읽음 위치 조회 실패. chatroomId: {}", chatroomId, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 멤버가 바뀌면 멤버 캐시를 지우고 다음 조회 때 DB 에서 다시 적재
+     * 나간 멤버의 카운터/읽음 위치는 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatroomMemberChanged(ChatroomMemberChangedEvent event) {
+        try {
+            redisTemplate.delete(roomMembersKey(event.getChatroomId()));
+            if (event.isRemoved()) {
+                String field = String.valueOf(event.getChatroomId());
+                redisTemplate.opsForHash().delete(unreadKey(event.getMemberId()), field);
+                redisTemplate.opsForHash().delete(readKey(event.getMemberId()), field);
+            }
+        } catch (DataAccessException e) {
+            log.error("Redis 채팅방 멤버 캐시 삭제 실패. chatroomId: {}", event.getChatroomId(), e);
+        }
+    }
+
+    /**
+     * 안 읽은 수 fan-out 전용 멤버 캐시 (권한 확인에는 사용하지 않음 - DB 조회 후 SADD 사이에 멤버가 바뀌면 TTL 동안 어긋날 수 있음)
+     */
+    private Set<Integer> getRoomMemberIds(int chatroomId) {
+        String key = roomMembersKey(chatroomId);
+        Set<String> cached = redisTemplate.opsForSet().members(key);
+        if (cached != null && !cached.isEmpty()) {
+            return cached.stream().map(Integer::parseInt).collect(Collectors.toSet());
+        }
+
+        List<Integer> memberIds = chatroomMemberRepository.findAllMemberIdByChatroomId(chatroomId);
+        if (!memberIds.isEmpty()) {
+            redisTemplate.opsForSet().add(key, memberIds.stream().map(String::valueOf).toArray(String[]::new));
+            redisTemplate.expire(key, ROOM_MEMBERS_TTL);
+        }
+        return Set.copyOf(memberIds);
+    }
+
+    private String unreadKey(int memberId) {
+        return UNREAD_KEY_PREFIX + memberId;
+    }
+
+    private String readKey(int memberId) {
+        return READ_KEY_PREFIX + memberId;
+    }
+
+    private String roomMembersKey(int chatroomId) {
+        return "chat:room:" + chatroomId + ":members";
+    }
+
+    private String roomMessagesKey(int chatroomId) {
+        return "chat:room:" + chatroomId + ":messages";
+    }
+
+    private String padded(long messageId) {
+        return String.format("%0" + MESSAGE_ID_WIDTH + "d", messageId);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,33 @@
+package jsl.moum.chatroom.service;
+
+import jsl.moum.chatroom.domain.ChatroomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 dm_key 가 비어 있는 기존 개인 채팅방을 채움
+ * 이미 채워진 방은 건드리지 않으므로 여러 노드가 동시에 실행해도 안전 (채울 방이 없으면 0건)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatroomDmKeyBackfill {
+
+    private final ChatroomRepository chatroomRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int updated = chatroomRepository.backfillDmKeys();
+            if (updated > 0) {
+                log.info("개인 채팅방 dm_key 채움 - {}건", updated);
+            }
+        } catch (DataAccessException e) {
+            log.error("개인 채팅방 dm_key 채우기 실패. 다음 기동 시 다시 시도합니다.", e);
+        }
+    }
+}
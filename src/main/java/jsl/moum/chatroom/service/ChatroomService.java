@@ -7,6 +7,7 @@ import jsl.moum.chatroom.domain.*;
 import jsl.moum.chatroom.dto.ChatroomDto;
 import jsl.moum.chatroom.domain.ChatroomRepository;
 import jsl.moum.chatroom.dto.ChatroomMemberInfoDto;
+import jsl.moum.chatroom.event.ChatroomMemberChangedEvent;
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.exception.CustomException;
 import jsl.moum.moum.team.domain.TeamRepository;
@@ -15,6 +16,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -22,7 +25,8 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -38,6 +42,8 @@ public class ChatroomService {
     private final ChatroomMemberRepository chatroomMemberRepository;
     private final MemberRepository memberRepository;
     private final StorageService storageService;
+    private final ChatUnreadService chatUnreadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ChatroomDto getChatroomById(Integer chatroomId) throws BadRequestException {
         Chatroom chatroom = chatroomRepository.findById(chatroomId)
@@ -45,38 +51,25 @@ public class ChatroomService {
         return new ChatroomDto(chatroom);
     }
 
+    /**
+     * 채팅방 목록 조회 (최근 대화순)
+     * 개인 채팅방의 상대방 프로필 이미지까지 쿼리 한 번으로 조회
+     * 안 읽은 메시지 수는 Redis HMGET 한 번으로 채움
+     */
     public List<ChatroomDto> getChatroomListByMemberId(Integer memberId) throws CustomException {
-        // Add method for sorting, etc later on
-        List<ChatroomDto> chatroomList = new ArrayList<>();
-
-        List<ChatroomMember> chatroomMembers = chatroomMemberRepository.findByMemberId(memberId);
-        if(chatroomMembers.isEmpty()){
+        List<ChatroomDto> chatroomList = chatroomMemberRepository.findInboxByMemberId(memberId);
+        if(chatroomList.isEmpty()){
             throw new CustomException(ErrorCode.CHATROOM_LIST_GET_FAIL);
         }
 
-        for(ChatroomMember cm : chatroomMembers){
-            ChatroomDto chatroomDto = new ChatroomDto(cm.getChatroom());
-            // If personal chat - Get 'receiver' where memberId != current memberId
-            if(chatroomDto.getType() == 0){
-                String receiverProfileImageUrl = getReceiverProfileImageUrlBySenderId(chatroomDto.getId(), memberId);
-                chatroomDto.setFileUrl(receiverProfileImageUrl);
-            }
-            chatroomList.add(chatroomDto);
+        List<Integer> chatroomIds = chatroomList.stream().map(ChatroomDto::getId).collect(Collectors.toList());
+        Map<Integer, Integer> unreadCounts = chatUnreadService.getUnreadCounts(memberId, chatroomIds);
+        for(ChatroomDto chatroom : chatroomList){
+            chatroom.setUnreadCount(unreadCounts.getOrDefault(chatroom.getId(), 0));
         }
-
         return chatroomList;
     }
 
-    private String getReceiverProfileImageUrlBySenderId(Integer chatroomId, Integer senderId){
-        List<ChatroomMemberInfoDto> chatroomMemberList = getChatroomMemberList(chatroomId);
-        for(ChatroomMemberInfoDto member : chatroomMemberList){
-            if(member.getId() != senderId){
-                return member.getProfileImageUrl();
-            }
-        }
-        return null;
-    }
-
     public List<ChatroomMemberInfoDto> getChatroomMemberList(Integer chatroomId) throws CustomException {
         List<ChatroomMemberInfoDto> chatroomMemberList = new ArrayList<>();
 
@@ -85,9 +78,12 @@ public class ChatroomService {
             throw new CustomException(ErrorCode.CHATROOM_MEMBER_LIST_GET_FAIL);
         }
 
-        for(Integer memberId : memberIds){
-            MemberEntity member = memberRepository.findById(memberId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
+        // IN 쿼리 한 번으로 조회
+        List<MemberEntity> members = memberRepository.findAllById(memberIds);
+        if(members.size() != memberIds.size()){
+            throw new CustomException(ErrorCode.MEMBER_NOT_EXIST);
+        }
+        for(MemberEntity member : members){
             chatroomMemberList.add(new ChatroomMemberInfoDto(member));
         }
 
@@ -112,7 +108,13 @@ public class ChatroomService {
             chatroom = buildTeamChatroom(requestDto, fileUrl);
         }
 
-        chatroom = chatroomRepository.saveAndFlush(chatroom);
+        try {
+            chatroom = chatroomRepository.saveAndFlush(chatroom);
+        } catch (DataIntegrityViolationException e){
+            // 같은 두 멤버의 개인 채팅방이 동시에 생성된 경우 (uk_chatroom_dm_key)
+            log.error("private chatroom already exists");
+            throw new CustomException(ErrorCode.CHATROOM_CREATE_FAIL);
+        }
         log.info("Chatroom saved to repository");
 
         try {
@@ -204,35 +206,16 @@ public class ChatroomService {
 
     private boolean isPrivateChatroomExists(ChatroomDto.Request requestDto){
         log.info("isPrivateChatroomExists");
-        if(requestDto.getMembers().size() !=2){
+        return chatroomRepository.existsByDmKey(getDmKey(requestDto));
+    }
+
+    private String getDmKey(ChatroomDto.Request requestDto){
+        List<Integer> members = requestDto.getMembers();
+        if(members == null || members.size() != 2 || members.get(0).equals(members.get(1))){
             log.error("Incorrect number of members in the private chatroom");
             throw new CustomException(ErrorCode.CHATROOM_CREATE_FAIL);
         }
-
-        Integer senderId = requestDto.getMembers().get(0);
-        Integer receiverId = requestDto.getMembers().get(1);
-
-        MemberEntity sender = memberRepository.findById(senderId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_CREATE_FAIL));
-        MemberEntity receiver = memberRepository.findById(receiverId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_CREATE_FAIL));
-
-        log.info("isPrivateChatroomExists get member entities");
-
-        List<Integer> commonChatroomIds = Optional.ofNullable(chatroomMemberRepository.findCommonChatroomIds(sender, receiver))
-                .orElse(List.of());
-        if(commonChatroomIds.isEmpty()) {return false;}
-
-        log.info("Get chatroomIds");
-
-        for(Integer chatroomId : commonChatroomIds){
-            Chatroom chatroom = chatroomRepository.findById(chatroomId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_CREATE_FAIL));
-            if(chatroom.getType() == 0){
-                return true;
-            }
-        }
-        return false;
+        return Chatroom.dmKeyOf(members.get(0), members.get(1));
     }
 
     private void addChatroomMembers(int chatroomId, List<Integer> memberIds) throws BadRequestException {
@@ -254,6 +237,7 @@ public class ChatroomService {
                         .orElseThrow(() -> new BadRequestException("Member not found")))
                 .build();
         chatroomMemberRepository.save(chatroomMember);
+        eventPublisher.publishEvent(new ChatroomMemberChangedEvent(chatroomId, memberId, false));
     }
 
     private void removeChatroomMember(int chatroomId, int memberId) throws BadRequestException {
@@ -264,6 +248,14 @@ public class ChatroomService {
         ChatroomMember chatroomMember = chatroomMemberRepository.findByChatroomIdAndMemberId(chatroomId, memberId)
                 .orElseThrow(() -> new BadRequestException("Chatroom member not found"));
         chatroomMemberRepository.delete(chatroomMember);
+
+        // 개인 채팅방에서 멤버가 나가면 두 사람의 채팅방이 아니므로 dm_key 를 비워 새 개인 채팅방을 만들 수 있게 함
+        Chatroom chatroom = chatroomMember.getChatroom();
+        if(chatroom != null && chatroom.getDmKey() != null){
+            chatroom.setDmKey(null);
+            chatroomRepository.save(chatroom);
+        }
+        eventPublisher.publishEvent(new ChatroomMemberChangedEvent(chatroomId, memberId, true));
     }
 
     private Chatroom buildPersonalChatroom(ChatroomDto.Request requestDto, String fileUrl){
@@ -276,6 +268,7 @@ public class ChatroomService {
                 .lastChat(null)
                 .lastTimestamp(null)
                 .fileUrl(fileUrl)
+                .dmKey(getDmKey(requestDto))
                 .build();
     }
 
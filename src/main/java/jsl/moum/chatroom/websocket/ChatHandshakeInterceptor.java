@@ -0,0 +1,102 @@
+package jsl.moum.chatroom.websocket;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jsl.moum.auth.dto.MemberAuthDto;
+import jsl.moum.auth.jwt.TokenClaims;
+import jsl.moum.auth.jwt.VerifiedTokenCache;
+import jsl.moum.auth.service.MemberAuthReader;
+import jsl.moum.auth.service.TokenRevocationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * WebSocket 연결(handshake) 시 access 토큰 검증
+ * 브라우저 WebSocket 은 헤더를 지정할 수 없으므로 쿼리 파라미터(access) 또는 쿠키(access)에서 토큰을 읽음
+ * 검증된 회원 id, 이름은 세션 attribute 로 보관하여 이후 메시지마다 다시 조회하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String MEMBER_ID = "memberId";
+    public static final String MEMBER_NAME = "memberName";
+
+    private static final String ACCESS_TOKEN = "access";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final MemberAuthReader memberAuthReader;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String accessToken = resolveToken(request);
+        if (accessToken == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        TokenClaims claims;
+        try {
+            claims = verifiedTokenCache.getClaims(accessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        if (!ACCESS_TOKEN.equals(claims.getCategory())
+                || tokenRevocationRegistry.isRevoked(claims.getUsername(), claims.getIssuedAt())) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        MemberAuthDto member = memberAuthReader.findByUsername(claims.getUsername());
+        if (member == null || !Boolean.TRUE.equals(member.getActiveStatus()) || Boolean.TRUE.equals(member.getBanStatus())) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+
+        attributes.put(MEMBER_ID, member.getId());
+        attributes.put(MEMBER_NAME, member.getName());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return null;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+
+        String accessToken = httpRequest.getParameter(ACCESS_TOKEN);
+        if (accessToken != null) {
+            return accessToken;
+        }
+
+        Cookie[] cookies = httpRequest.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookie.getName().equals(ACCESS_TOKEN)) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
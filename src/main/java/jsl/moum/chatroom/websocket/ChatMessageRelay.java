@@ -0,0 +1,70 @@
+package jsl.moum.chatroom.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jsl.moum.chatroom.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅 메시지 노드 간 전달 (Redis pub/sub)
+ *
+ * 보낸 노드를 포함한 모든 노드가 채널을 구독하고, 받은 메시지를 자기 노드의 구독 세션에만 전송
+ * -> 어느 노드에 접속해 있든 같은 채팅방 사용자에게 한 번씩 전달
+ * Redis 장애 시에는 같은 노드에 접속한 사용자에게만 전달
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageRelay implements MessageListener {
+
+    public static final String CHAT_CHANNEL = "chat:room";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ChatSessionHub chatSessionHub;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHAT_CHANNEL));
+    }
+
+    public void publish(ChatMessageDto.Response message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("채팅 메시지 직렬화 실패 - chatroomId: {}", message.getChatroomId(), e);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHAT_CHANNEL, payload);
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지 relay 실패. 현재 노드에만 전달합니다. chatroomId: {}", message.getChatroomId(), e);
+            chatSessionHub.broadcast(message.getChatroomId(), payload);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            ChatMessageDto.Response chatMessage = objectMapper.readValue(payload, ChatMessageDto.Response.class);
+            chatSessionHub.broadcast(chatMessage.getChatroomId(), payload);
+        } catch (JsonProcessingException e) {
+            log.error("채팅 relay 메시지 역직렬화 실패", e);
+        }
+    }
+}
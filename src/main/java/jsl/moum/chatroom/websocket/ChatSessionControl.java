@@ -0,0 +1,85 @@
+package jsl.moum.chatroom.websocket;
+
+import jakarta.annotation.PostConstruct;
+import jsl.moum.auth.event.MemberBannedEvent;
+import jsl.moum.chatroom.event.ChatroomMemberChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅방에서 제거되거나 정지된 회원의 WebSocket 세션 정리 (Redis pub/sub 으로 모든 노드에 전달)
+ *
+ * LEAVE:{chatroomId}:{memberId} : 해당 채팅방 구독 해제
+ * CLOSE:{memberId}              : 해당 회원의 연결 종료
+ * Redis 장애 시에는 현재 노드의 세션만 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatSessionControl implements MessageListener {
+
+    public static final String SESSION_CONTROL_CHANNEL = "chat:session";
+
+    private static final String LEAVE = "LEAVE";
+    private static final String CLOSE = "CLOSE";
+    private static final String DELIMITER = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ChatSessionHub chatSessionHub;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SESSION_CONTROL_CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatroomMemberChanged(ChatroomMemberChangedEvent event) {
+        if (event.isRemoved()) {
+            publish(String.join(DELIMITER, LEAVE, String.valueOf(event.getChatroomId()), String.valueOf(event.getMemberId())));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberBanned(MemberBannedEvent event) {
+        publish(String.join(DELIMITER, CLOSE, String.valueOf(event.getMemberId())));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        apply(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String command) {
+        try {
+            redisTemplate.convertAndSend(SESSION_CONTROL_CHANNEL, command);
+        } catch (DataAccessException e) {
+            log.error("채팅 세션 정리 메시지 발행 실패. 현재 노드만 정리합니다. command: {}", command, e);
+            apply(command);
+        }
+    }
+
+    private void apply(String command) {
+        String[] parts = command.split(DELIMITER);
+        try {
+            if (LEAVE.equals(parts[0]) && parts.length == 3) {
+                chatSessionHub.leaveMember(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            } else if (CLOSE.equals(parts[0]) && parts.length == 2) {
+                chatSessionHub.closeMember(Integer.parseInt(parts[1]));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 채팅 세션 정리 메시지 - command: {}", command);
+        }
+    }
+}
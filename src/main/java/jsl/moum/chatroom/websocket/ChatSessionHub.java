@@ -0,0 +1,174 @@
+package jsl.moum.chatroom.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 연결된 WebSocket 세션의 채팅방별 구독 목록
+ *
+ * 세션은 ConcurrentWebSocketSessionDecorator 로 감싸서 보관
+ * - 여러 스레드가 같은 세션에 동시에 보내도 안전
+ * - 느린 클라이언트는 버퍼에 쌓이고, 시간/버퍼 한도를 넘으면 그 세션만 종료 (다른 구독자 전송은 막히지 않음)
+ * 회원별 세션 목록도 함께 보관하여 채팅방에서 제거/정지된 회원의 구독 해제, 연결 종료에 사용
+ */
+@Component
+@Slf4j
+public class ChatSessionHub {
+
+    // sessionId -> decorator
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    // chatroomId -> 구독 세션
+    private final Map<Integer, Set<WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+    // sessionId -> 구독 중인 chatroomId
+    private final Map<String, Set<Integer>> sessionRooms = new ConcurrentHashMap<>();
+    // memberId -> sessionId
+    private final Map<Integer, Set<String>> memberSessions = new ConcurrentHashMap<>();
+
+    @Value("${chat.websocket.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.websocket.buffer-size-limit:524288}")
+    private int bufferSizeLimit;
+
+    public void register(WebSocketSession session) {
+        sessions.computeIfAbsent(session.getId(),
+                id -> new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, bufferSizeLimit));
+        Integer memberId = memberIdOf(session);
+        if (memberId != null) {
+            memberSessions.compute(memberId, (id, sessionIds) -> {
+                Set<String> updated = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+                updated.add(session.getId());
+                return updated;
+            });
+        }
+    }
+
+    public void unregister(WebSocketSession session) {
+        Integer memberId = memberIdOf(session);
+        if (memberId != null) {
+            memberSessions.computeIfPresent(memberId, (id, sessionIds) -> {
+                sessionIds.remove(session.getId());
+                return sessionIds.isEmpty() ? null : sessionIds;
+            });
+        }
+        WebSocketSession decorated = sessions.remove(session.getId());
+        Set<Integer> chatroomIds = sessionRooms.remove(session.getId());
+        if (decorated == null || chatroomIds == null) {
+            return;
+        }
+        for (Integer chatroomId : chatroomIds) {
+            removeFromRoom(chatroomId, decorated);
+        }
+    }
+
+    public void join(int chatroomId, WebSocketSession session) {
+        WebSocketSession decorated = sessions.get(session.getId());
+        if (decorated == null) {
+            return;
+        }
+        sessionRooms.computeIfAbsent(session.getId(), id -> ConcurrentHashMap.newKeySet()).add(chatroomId);
+        // 빈 set 제거(removeFromRoom)와 겹치지 않도록 추가도 compute 안에서
+        roomSessions.compute(chatroomId, (id, subscribers) -> {
+            Set<WebSocketSession> updated = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            updated.add(decorated);
+            return updated;
+        });
+    }
+
+    public void leave(int chatroomId, WebSocketSession session) {
+        WebSocketSession decorated = sessions.get(session.getId());
+        Set<Integer> chatroomIds = sessionRooms.get(session.getId());
+        if (decorated == null || chatroomIds == null) {
+            return;
+        }
+        chatroomIds.remove(chatroomId);
+        removeFromRoom(chatroomId, decorated);
+    }
+
+    /**
+     * 채팅방에서 제거된 회원의 이 노드 세션을 해당 채팅방 구독에서 제외
+     */
+    public void leaveMember(int chatroomId, int memberId) {
+        for (String sessionId : sessionIdsOf(memberId)) {
+            WebSocketSession decorated = sessions.get(sessionId);
+            if (decorated != null) {
+                leave(chatroomId, decorated);
+            }
+        }
+    }
+
+    /**
+     * 정지된 회원의 이 노드 세션을 모두 종료
+     */
+    public void closeMember(int memberId) {
+        for (String sessionId : sessionIdsOf(memberId)) {
+            WebSocketSession decorated = sessions.get(sessionId);
+            if (decorated == null) {
+                continue;
+            }
+            try {
+                decorated.close(CloseStatus.POLICY_VIOLATION);
+            } catch (IOException | RuntimeException e) {
+                log.warn("WebSocket 세션 종료 실패 - session: {}, memberId: {}", sessionId, memberId, e);
+            }
+            // afterConnectionClosed 를 기다리지 않고 바로 구독 목록에서 제외
+            unregister(decorated);
+        }
+    }
+
+    public boolean isJoined(int chatroomId, WebSocketSession session) {
+        Set<Integer> chatroomIds = sessionRooms.get(session.getId());
+        return chatroomIds != null && chatroomIds.contains(chatroomId);
+    }
+
+    /**
+     * 이 노드에서 해당 채팅방을 구독 중인 세션에만 전송
+     */
+    public void broadcast(int chatroomId, String payload) {
+        Set<WebSocketSession> subscribers = roomSessions.get(chatroomId);
+        if (subscribers == null) {
+            return;
+        }
+
+        TextMessage message = new TextMessage(payload);
+        for (WebSocketSession subscriber : subscribers) {
+            if (!subscriber.isOpen()) {
+                continue;
+            }
+            try {
+                subscriber.sendMessage(message);
+            } catch (IOException | RuntimeException e) {
+                // 전송 한도 초과 시 decorator 가 세션을 닫고, 정리는 afterConnectionClosed 에서
+                log.warn("채팅 메시지 전송 실패 - session: {}, chatroomId: {}", subscriber.getId(), chatroomId, e);
+            }
+        }
+    }
+
+    private Set<String> sessionIdsOf(int memberId) {
+        Set<String> sessionIds = memberSessions.get(memberId);
+        return sessionIds != null ? Set.copyOf(sessionIds) : Set.of();
+    }
+
+    private Integer memberIdOf(WebSocketSession session) {
+        Map<String, Object> attributes = session.getAttributes();
+        Object memberId = attributes != null ? attributes.get(ChatHandshakeInterceptor.MEMBER_ID) : null;
+        return memberId instanceof Integer id ? id : null;
+    }
+
+    private void removeFromRoom(int chatroomId, WebSocketSession decorated) {
+        roomSessions.computeIfPresent(chatroomId, (id, subscribers) -> {
+            subscribers.remove(decorated);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package jsl.moum.chatroom.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jsl.moum.chatroom.domain.ChatroomMemberRepository;
+import jsl.moum.chatroom.dto.ChatMessageDto;
+import jsl.moum.chatroom.service.ChatMessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 WebSocket 엔드포인트 (/ws/chat)
+ *
+ * JOIN    : 채팅방 멤버인지 확인 후 구독 (DB 조회는 JOIN 시 한 번)
+ * LEAVE   : 구독 해제
+ * MESSAGE : 구독 중인 채팅방에 전송 -> 메시지 로그(Redis Stream) 적재 후 Redis pub/sub 으로 모든 노드에 relay
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private final ChatSessionHub chatSessionHub;
+    private final ChatMessageService chatMessageService;
+    private final ChatroomMemberRepository chatroomMemberRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.message.max-length:1000}")
+    private int maxMessageLength;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        chatSessionHub.register(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        ChatMessageDto.Request request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), ChatMessageDto.Request.class);
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 채팅 메시지 형식 - session: {}", session.getId());
+            return;
+        }
+        if (request.getType() == null) {
+            return;
+        }
+
+        int memberId = (Integer) session.getAttributes().get(ChatHandshakeInterceptor.MEMBER_ID);
+        switch (request.getType()) {
+            case JOIN -> join(session, request.getChatroomId(), memberId);
+            case LEAVE -> chatSessionHub.leave(request.getChatroomId(), session);
+            case MESSAGE -> send(session, request, memberId);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        chatSessionHub.unregister(session);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("WebSocket 전송 오류 - session: {}", session.getId(), exception);
+    }
+
+    private void join(WebSocketSession session, int chatroomId, int memberId) {
+        if (chatroomMemberRepository.findByChatroomIdAndMemberId(chatroomId, memberId).isEmpty()) {
+            log.warn("채팅방 멤버가 아닌 사용자의 구독 요청 - chatroomId: {}, memberId: {}", chatroomId, memberId);
+            return;
+        }
+        chatSessionHub.join(chatroomId, session);
+    }
+
+    private void send(WebSocketSession session, ChatMessageDto.Request request, int memberId) {
+        String content = request.getContent();
+        if (content == null || content.isBlank() || content.length() > maxMessageLength) {
+            return;
+        }
+        if (!chatSessionHub.isJoined(request.getChatroomId(), session)) {
+            log.warn("구독하지 않은 채팅방으로 전송 시도 - chatroomId: {}, memberId: {}", request.getChatroomId(), memberId);
+            return;
+        }
+
+        ChatMessageDto.Response response = ChatMessageDto.Response.builder()
+                .chatroomId(request.getChatroomId())
+                .senderId(memberId)
+                .senderName((String) session.getAttributes().get(ChatHandshakeInterceptor.MEMBER_NAME))
+                .content(content)
+                .timestamp(LocalDateTime.now())
+                .build();
+        chatMessageService.append(response);
+    }
+}
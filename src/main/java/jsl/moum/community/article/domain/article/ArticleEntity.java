@@ -45,13 +45,15 @@ public class ArticleEntity {
     @Column(nullable = false)
     private ArticleCategories category;
 
-    @Column(name = "view_count")
+    // 카운터 컬럼은 CounterRepository batch UPDATE 로만 갱신
+    // 엔티티 dirty checking 으로 읽어온 값을 다시 쓰면 그 사이 반영된 증감량이 덮어써지므로 updatable = false
+    @Column(name = "view_count", updatable = false)
     private int viewCount;
 
-    @Column(name = "likes_count")
+    @Column(name = "likes_count", updatable = false)
     private int likesCount;
 
-    @Column(name = "comments_count")
+    @Column(name = "comments_count", updatable = false)
     private int commentsCount;
 
     @Column(name = "genre", nullable = false)
@@ -76,13 +78,6 @@ public class ArticleEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void viewCountUp(){
-        this.viewCount += 1;
-    }
-    public void updateLikesCount(int num) { this.likesCount += num; }
-    public void commentsCountUp(){this.commentsCount += 1;}
-    public void commentsCountDown(){this.commentsCount -= 1;}
-
 //    public void updateArticle(UpdateArticleDto.Request updateArticleDto) {
 //        if (updateArticleDto.getTitle() != null) {
 //            this.title = updateArticleDto.getTitle();
@@ -13,6 +13,7 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static jsl.moum.community.article.domain.article.QArticleEntity.articleEntity;
@@ -54,6 +55,22 @@ public class ArticleRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+        여러 게시글을 작성자와 함께 한 번에 조회 (추천 목록 등 bulk 조회용)
+        select a.*, m.*
+        from article a
+        inner join member m
+            on a.fk_article_author_id = m.id
+        where a.id in (:articleIds);
+     */
+    public List<ArticleEntity> findArticlesWithAuthorByIds(Collection<Integer> articleIds) {
+        return jpaQueryFactory
+                .selectFrom(articleEntity)
+                .innerJoin(articleEntity.author).fetchJoin()
+                .where(articleEntity.id.in(articleIds))
+                .fetch();
+    }
+
     /**
         실시간 인기 게시글 조회
         "실시간 인기" 기준 - 조회수,댓글수,생성일자 최근일수록 가중치부여
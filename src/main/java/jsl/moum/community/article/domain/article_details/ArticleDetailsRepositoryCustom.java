@@ -14,6 +14,7 @@ import jsl.moum.community.article.domain.article.ArticleEntity;
 import org.springframework.data.domain.Page;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +47,20 @@ public class ArticleDetailsRepositoryCustom {
         return articleDetails;
     }
 
+    /**
+     * 여러 게시글의 상세 한 번에 조회
+     *
+     select *
+     from article_details
+     where article_id in (:articleIds);
+     */
+    public List<ArticleDetailsEntity> findArticleDetailsByArticleIds(Collection<Integer> articleIds) {
+        return jpaQueryFactory
+                .selectFrom(articleDetailsEntity)
+                .where(articleDetailsEntity.articleId.in(articleIds))
+                .fetch();
+    }
+
 
     /**
      * 자유게시판 게시글 찾기
@@ -0,0 +1,38 @@
+package jsl.moum.community.article.domain.view;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 일자별 게시글 고유 조회수 중 view_count 에 반영 완료된 값 (watermark)
+ * view_count 증가와 같은 트랜잭션에서 갱신 -> Redis 정리가 실패해 다시 반영해도 차이만큼만 더해짐
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@IdClass(ArticleViewFold.Key.class)
+@Table(name = "article_view_fold")
+public class ArticleViewFold {
+
+    @Id
+    @Column(name = "fold_date", length = 8)
+    private String foldDate;
+
+    @Id
+    @Column(name = "article_id")
+    private int articleId;
+
+    @Column(name = "folded_count", nullable = false)
+    private long foldedCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String foldDate;
+        private int articleId;
+    }
+}
@@ -0,0 +1,78 @@
+package jsl.moum.community.article.domain.view;
+
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterRepository;
+import jsl.moum.community.counter.domain.CounterTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleViewFoldRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CounterRepository counterRepository;
+
+    /**
+     * 일자별 PFCOUNT 와 반영 완료 값의 차이만큼 view_count 증가 + 반영 완료 값 갱신 (한 트랜잭션)
+     * 같은 count 로 다시 호출되면 차이가 0 이므로 아무것도 더하지 않음
+     *
+     * @return 실제로 반영된 게시글별 증가량
+     */
+    @Transactional
+    public Map<Integer, CounterDelta> fold(String date, Map<Integer, Long> counts) {
+        if (counts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 데드락 방지를 위해 article id 오름차순으로 잠금
+        TreeMap<Integer, Long> sortedCounts = new TreeMap<>(counts);
+        String placeholders = sortedCounts.keySet().stream().map(id -> "?").collect(Collectors.joining(", "));
+        List<Object> params = new ArrayList<>();
+        params.add(date);
+        params.addAll(sortedCounts.keySet());
+
+        Map<Integer, Long> folded = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT article_id, folded_count FROM article_view_fold WHERE fold_date = ? AND article_id IN (" + placeholders + ") ORDER BY article_id FOR UPDATE",
+                rs -> {
+                    folded.put(rs.getInt("article_id"), rs.getLong("folded_count"));
+                },
+                params.toArray());
+
+        Map<Integer, CounterDelta> deltas = new HashMap<>();
+        List<Object[]> upsertArgs = new ArrayList<>();
+        sortedCounts.forEach((articleId, count) -> {
+            long previous = folded.getOrDefault(articleId, 0L);
+            if (count > previous) {
+                deltas.computeIfAbsent(articleId, k -> CounterDelta.empty()).add(CounterField.VIEW, count - previous);
+                upsertArgs.add(new Object[]{date, articleId, count});
+            }
+        });
+        if (deltas.isEmpty()) {
+            return deltas;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO article_view_fold (fold_date, article_id, folded_count) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE folded_count = GREATEST(folded_count, VALUES(folded_count))",
+                upsertArgs);
+        counterRepository.applyDeltas(CounterTarget.ARTICLE, deltas);
+        return deltas;
+    }
+
+    public int deleteBefore(String date) {
+        return jdbcTemplate.update("DELETE FROM article_view_fold WHERE fold_date < ?", date);
+    }
+}
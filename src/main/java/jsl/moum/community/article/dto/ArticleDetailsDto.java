@@ -2,9 +2,13 @@ package jsl.moum.community.article.dto;
 
 import jsl.moum.auth.dto.MusicGenre;
 import jsl.moum.community.comment.dto.CommentDto;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import jsl.moum.community.article.domain.article.ArticleEntity;
 import jsl.moum.community.article.domain.article_details.ArticleDetailsEntity;
 
@@ -38,6 +42,7 @@ public class ArticleDetailsDto {
 
     @Getter
     @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true) // 캐시(L2) 역직렬화용
     public static class Response{
         private final int id;
         private final String title;
@@ -47,21 +52,52 @@ public class ArticleDetailsDto {
         private final int commentsCounts;
         private final int likeCounts;
         private final String author;
+        private final String authorName;
         private final int authorId;
+        private final MusicGenre genre;
+        private final String imageUrl;
         private final List<String> fileUrls;
         private final List<CommentDto.Response> comments;
         private final LocalDateTime createdAt;
         private final LocalDateTime updatedAt;
 
+        // 캐시된 응답의 카운트는 캐싱 시점 값이므로 현재 카운트(DB 값 + 증감량)로 덮어써서 응답
+        public Response(Response cached, CounterDelta counts){
+            this.id = cached.id;
+            this.title = cached.title;
+            this.category = cached.category;
+            this.content = cached.content;
+            this.viewCounts = counts.get(CounterField.VIEW);
+            this.commentsCounts = counts.get(CounterField.COMMENTS);
+            this.likeCounts = counts.get(CounterField.LIKES);
+            this.author = cached.author;
+            this.authorName = cached.authorName;
+            this.authorId = cached.authorId;
+            this.genre = cached.genre;
+            this.imageUrl = cached.imageUrl;
+            this.fileUrls = cached.fileUrls;
+            this.comments = cached.comments;
+            this.createdAt = cached.createdAt;
+            this.updatedAt = cached.updatedAt;
+        }
+
         public Response(ArticleDetailsEntity articleDetails, ArticleEntity article){
+            this(articleDetails, article, CounterDelta.empty());
+        }
+
+        // DB 값에 아직 flush 되지 않은 카운터 증감량을 더해서 응답
+        public Response(ArticleDetailsEntity articleDetails, ArticleEntity article, CounterDelta pending){
             this.id = article.getId();
             this.title = article.getTitle();
             this.category = article.getCategory().toString();
             this.author = article.getAuthor().getUsername();
+            this.authorName = article.getAuthor().getName();
             this.authorId = article.getAuthor().getId();
-            this.viewCounts = article.getViewCount();
-            this.commentsCounts = article.getCommentsCount();
-            this.likeCounts = article.getLikesCount();
+            this.genre = article.getGenre();
+            this.imageUrl = article.getImageUrl();
+            this.viewCounts = article.getViewCount() + pending.get(CounterField.VIEW);
+            this.commentsCounts = article.getCommentsCount() + pending.get(CounterField.COMMENTS);
+            this.likeCounts = article.getLikesCount() + pending.get(CounterField.LIKES);
             this.content = articleDetails.getContent();
             this.fileUrls = articleDetails.getImageUrls();
             this.comments = articleDetails.getComments() != null ?
@@ -4,11 +4,14 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.dto.MusicGenre;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
 import jsl.moum.moum.lifecycle.domain.Music;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import jsl.moum.community.article.domain.article.ArticleEntity;
+import jsl.moum.objectstorage.Thumbnails;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
@@ -57,19 +60,46 @@ public class ArticleDto {
 
 
         public Response(ArticleEntity article){
+            this(article, CounterDelta.empty());
+        }
+
+        // DB 값에 아직 flush 되지 않은 카운터 증감량을 더해서 응답
+        public Response(ArticleEntity article, CounterDelta pending){
             this.id = article.getId();
             this.title = article.getTitle();
             this.fileUrl = article.getImageUrl();
             this.category = article.getCategory();
             this.author = article.getAuthor().getUsername();
             this.authorName = article.getAuthor().getName();
-            this.viewCounts = article.getViewCount();
-            this.commentsCounts = article.getCommentsCount();
+            this.viewCounts = article.getViewCount() + pending.get(CounterField.VIEW);
+            this.commentsCounts = article.getCommentsCount() + pending.get(CounterField.COMMENTS);
             this.genre = article.getGenre();
-            this.likeCounts = article.getLikesCount();
+            this.likeCounts = article.getLikesCount() + pending.get(CounterField.LIKES);
             this.createdAt = article.getCreatedAt();
             this.updatedAt = article.getUpdatedAt();
         }
+
+        // 캐시된 상세 응답으로부터 목록용 응답 생성 (추천 목록 등 bulk 조회용)
+        // 캐시된 상세 + 현재 카운트(DB 값 + 증감량)
+        public Response(ArticleDetailsDto.Response details, CounterDelta counts){
+            this.id = details.getId();
+            this.title = details.getTitle();
+            this.fileUrl = details.getImageUrl();
+            this.category = ArticleEntity.ArticleCategories.valueOf(details.getCategory());
+            this.author = details.getAuthor();
+            this.authorName = details.getAuthorName();
+            this.viewCounts = counts.get(CounterField.VIEW);
+            this.commentsCounts = counts.get(CounterField.COMMENTS);
+            this.genre = details.getGenre();
+            this.likeCounts = counts.get(CounterField.LIKES);
+            this.createdAt = details.getCreatedAt();
+            this.updatedAt = details.getUpdatedAt();
+        }
+
+        // 목록 화면용 축소 이미지 (원본 업로드 후 비동기 생성)
+        public String getThumbnailUrl(){
+            return Thumbnails.urlOf(fileUrl);
+        }
     }
 
     @Getter
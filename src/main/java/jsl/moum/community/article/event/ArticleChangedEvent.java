@@ -0,0 +1,14 @@
+package jsl.moum.community.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 상세 내용(댓글 등)이 바뀐 경우 발행되는 이벤트
+ * 커밋 이후 게시글 상세 캐시를 비우는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleChangedEvent {
+    private final int articleId;
+}
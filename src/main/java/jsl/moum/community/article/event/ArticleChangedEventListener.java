@@ -0,0 +1,23 @@
+package jsl.moum.community.article.event;
+
+import jsl.moum.community.article.service.ArticleReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ArticleChangedEventListener {
+
+    private final ArticleReader articleReader;
+
+    /**
+     * 발행 측 트랜잭션이 커밋된 이후에 캐시를 비움
+     * 커밋 전에 비우면 그 사이 다른 요청이 커밋 전 DB 값을 다시 캐시에 적재할 수 있음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        articleReader.evict(event.getArticleId());
+    }
+}
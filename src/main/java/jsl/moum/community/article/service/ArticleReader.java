@@ -0,0 +1,135 @@
+package jsl.moum.community.article.service;
+
+import jsl.moum.community.article.domain.article.ArticleEntity;
+import jsl.moum.community.article.domain.article.ArticleRepository;
+import jsl.moum.community.article.domain.article.ArticleRepositoryCustom;
+import jsl.moum.community.article.domain.article_details.ArticleDetailsEntity;
+import jsl.moum.community.article.domain.article_details.ArticleDetailsRepositoryCustom;
+import jsl.moum.community.article.dto.ArticleDetailsDto;
+import jsl.moum.config.cache.TwoLevelCache;
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 캐시 조회 전용 컴포넌트
+ * ArticleService 내부 호출(self-invocation)은 프록시를 거치지 않아 @Cacheable 이 무시되므로 별도 빈으로 분리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleReader {
+
+    public static final String ARTICLE_CACHE = "article";
+
+    private final ArticleRepository articleRepository;
+    private final ArticleRepositoryCustom articleRepositoryCustom;
+    private final ArticleDetailsRepositoryCustom articleDetailsRepositoryCustom;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * 게시글 단건 조회 (캐시 적용)
+     */
+    @Cacheable(value = ARTICLE_CACHE, key = "#articleId")
+    @Transactional(readOnly = true)
+    public ArticleDetailsDto.Response findArticle(int articleId) {
+        log.debug("Finding article from DB: {}", articleId);
+        ArticleEntity article = articleRepository.findById(articleId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ARTICLE_NOT_FOUND));
+        ArticleDetailsEntity articleDetails = articleDetailsRepositoryCustom.findArticleDetailsByArticleId(articleId);
+        return new ArticleDetailsDto.Response(articleDetails, article);
+    }
+
+    /**
+     * 게시글 여러 건 조회
+     * 캐시에서 먼저 꺼내고, 없는 것만 article / article_details 각각 IN 쿼리 한 번으로 조회 후 캐시에 적재
+     * 존재하지 않는 게시글은 결과에서 빠짐
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, ArticleDetailsDto.Response> findArticles(Collection<Integer> articleIds) {
+        Map<Integer, ArticleDetailsDto.Response> found = new HashMap<>();
+        if (articleIds == null || articleIds.isEmpty()) {
+            return found;
+        }
+
+        Cache cache = getCache();
+        List<Integer> misses = new ArrayList<>();
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            // L1 -> L2(MGET 한 번) 순으로 조회
+            Map<Object, Object> cached = twoLevelCache.getAll(articleIds);
+            for (Integer articleId : new LinkedHashSet<>(articleIds)) {
+                Object value = cached.get(articleId);
+                if (value != null) {
+                    found.put(articleId, (ArticleDetailsDto.Response) value);
+                } else {
+                    misses.add(articleId);
+                }
+            }
+        } else {
+            for (Integer articleId : new LinkedHashSet<>(articleIds)) {
+                ArticleDetailsDto.Response cached = cache != null ? cache.get(articleId, ArticleDetailsDto.Response.class) : null;
+                if (cached != null) {
+                    found.put(articleId, cached);
+                } else {
+                    misses.add(articleId);
+                }
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return found;
+        }
+        log.debug("Finding articles from DB: {}", misses);
+
+        Map<Integer, ArticleDetailsEntity> detailsByArticleId = articleDetailsRepositoryCustom.findArticleDetailsByArticleIds(misses)
+                .stream()
+                .collect(Collectors.toMap(ArticleDetailsEntity::getArticleId, Function.identity(), (a, b) -> a));
+
+        Map<Integer, ArticleDetailsDto.Response> loaded = new HashMap<>();
+        for (ArticleEntity article : articleRepositoryCustom.findArticlesWithAuthorByIds(misses)) {
+            ArticleDetailsEntity articleDetails = detailsByArticleId.get(article.getId());
+            if (articleDetails == null) {
+                continue;
+            }
+            loaded.put(article.getId(), new ArticleDetailsDto.Response(articleDetails, article));
+        }
+
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.putAll(loaded);
+        } else if (cache != null) {
+            loaded.forEach(cache::put);
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    /**
+     * 게시글 캐시 무효화 (댓글 변경 등 상세 내용이 바뀐 경우)
+     */
+    @CacheEvict(value = ARTICLE_CACHE, key = "#articleId")
+    public void evict(int articleId) {
+        log.debug("Evicting article cache: {}", articleId);
+    }
+
+    private Cache getCache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager != null ? cacheManager.getCache(ARTICLE_CACHE) : null;
+    }
+}
@@ -9,11 +9,17 @@ import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.community.article.domain.article.ArticleRepositoryCustom;
 import jsl.moum.community.article.domain.article_details.ArticleDetailsEntity;
 import jsl.moum.community.article.domain.article_details.ArticleDetailsRepositoryCustom;
+import jsl.moum.community.article.event.ArticleChangedEvent;
 import jsl.moum.community.article.dto.ArticleDetailsDto;
 import jsl.moum.community.article.dto.ArticleDto;
 import jsl.moum.community.article.dto.UpdateArticleDto;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.global.response.ResponseCode;
 import jsl.moum.global.response.ResultResponse;
+import jsl.moum.objectstorage.AsyncStorageService;
 import jsl.moum.objectstorage.StorageService;
 import jsl.moum.report.domain.ArticleReportRepository;
 import jsl.moum.rank.service.RankingService;
@@ -21,7 +27,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +35,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import jsl.moum.community.article.domain.article.ArticleEntity;
 import jsl.moum.community.article.domain.article.ArticleRepository;
@@ -43,7 +50,12 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -56,8 +68,15 @@ public class ArticleService {
     private final MemberRepository memberRepository;
     private final ArticleDetailsRepositoryCustom articleDetailsRepositoryCustom;
     private final StorageService storageService;
+    private final AsyncStorageService asyncStorageService;
+    private final TransactionTemplate transactionTemplate;
     private final ArticleRepositoryCustom articleRepositoryCustom;
     private final RankingService rankingService;
+    private final CounterService counterService;
+    private final HotArticleService hotArticleService;
+    private final ArticleReader articleReader;
+    private final ArticleViewService articleViewService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final ObjectMapper objectMapper;
     private final ArticleReportRepository articleReportRepository;
@@ -67,9 +86,21 @@ public class ArticleService {
 
     /**
      * 게시글 작성(생성)
+     * 파일은 트랜잭션 밖에서 병렬 업로드하고 DB 저장만 트랜잭션으로 처리 (업로드 동안 커넥션 점유 X)
      */
-    @Transactional
     public ArticleDto.Response postArticle(ArticleDto.Request articleRequestDto, List<MultipartFile> files, String memberName) throws IOException {
+        List<String> newUrls = uploadFiles(files);
+
+        try {
+            return transactionTemplate.execute(status -> saveArticle(articleRequestDto, newUrls, memberName));
+        } catch (RuntimeException e) {
+            // DB 저장 실패 시 올라간 파일 정리
+            deleteExistingFiles(newUrls);
+            throw e;
+        }
+    }
+
+    private ArticleDto.Response saveArticle(ArticleDto.Request articleRequestDto, List<String> newUrls, String memberName) {
         MemberEntity author = memberRepository.findByUsername(memberName);
 
         // article 테이블 -> title 작성
@@ -83,8 +114,6 @@ public class ArticleService {
         ArticleEntity newArticle = articleRequest.toEntity();
         articleRepository.save(newArticle);
 
-        List<String> newUrls = uploadFiles(files, newArticle.getId());
-
         ArticleDetailsDto.Request articleDetailsRequestDto = ArticleDetailsDto.Request.builder()
                 .articleId(newArticle.getId())
                 .content(articleRequestDto.getContent())
@@ -107,41 +136,44 @@ public class ArticleService {
     /**
      * 게시글 조회 (캐시 적용)
      */
-    @Cacheable(value = "article", key = "#articleId")
     public ArticleDetailsDto.Response findArticle(int articleId) {
-        log.debug("Finding article from DB: {}", articleId);
-        ArticleEntity article = getArticle(articleId);
-        ArticleDetailsEntity articleDetails = getArticleDetails(articleId);
-        return new ArticleDetailsDto.Response(articleDetails, article);
+        return articleReader.findArticle(articleId);
     }
 
     /**
      * ID 목록으로 여러 게시글 조회 (추천 서비스용)
+     * 캐시 multi-get 후 miss 만 IN 쿼리로 조회, 요청 순서 유지 / 없는 게시글은 제외
      */
     public List<ArticleDto.Response> getArticlesByIds(List<Long> articleIds) {
-        return articleIds.stream()
-                .map(id -> {
-                    ArticleDetailsDto.Response detailsResponse = findArticle(id.intValue());
-                    return new ArticleDto.Response(detailsResponse);
-                })
+        List<Integer> ids = articleIds.stream()
+                .map(Long::intValue)
+                .toList();
+
+        Map<Integer, ArticleDetailsDto.Response> articles = articleReader.findArticles(ids);
+        Map<Integer, CounterDelta> counts = counterService.getCounts(CounterTarget.ARTICLE, articles.keySet());
+
+        return ids.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .map(details -> new ArticleDto.Response(details,
+                        counts.getOrDefault(details.getId(), CounterDelta.empty())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 게시글 조회 (조회수 증가 로직 포함 및 캐시 무효화)
+     * 게시글 조회 (캐시된 상세 + 응답 시점의 카운트)
+     * 카운트는 상세 캐시에 두지 않고 매 응답마다 Redis 의 DB 반영값 + 증감량으로 덮어씀 (flush 때 캐시를 비우지 않음)
+     * 조회수는 캐시를 비우지 않고 별도 경로(ArticleViewService)로 기록
      */
-    @Transactional
-    @CacheEvict(value = "article", key = "#articleId")
     public ArticleDetailsDto.Response getArticleById(int articleId, String loginUserName){
-        log.debug("Evicting cache and updating view count for article: {}", articleId);
-        ArticleEntity article = getArticle(articleId);
-        ArticleDetailsEntity articleDetails = getArticleDetails(articleId);
+        ArticleDetailsDto.Response article = articleReader.findArticle(articleId);
 
-        if(!loginUserName.equals(article.getAuthor().getUsername())){
-            article.viewCountUp(); // 조회수 증가
+        if(!loginUserName.equals(article.getAuthor())){
+            articleViewService.recordView(articleId, loginUserName);
         }
 
-        return new ArticleDetailsDto.Response(articleDetails, article);
+        return new ArticleDetailsDto.Response(article,
+                counterService.getCount(CounterTarget.ARTICLE, articleId));
     }
 
     /**
@@ -154,24 +186,52 @@ public class ArticleService {
                 .findAll(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt")))
                 .getContent();
 
-        return articles.stream()
-                .map(ArticleDto.Response::new)
-                .collect(Collectors.toList());
+        return toResponses(articles);
     }
 
     /**
      * 게시글 수정 (캐시 무효화)
+     * 새 파일 업로드는 트랜잭션 밖에서, 기존 파일 삭제는 커밋 이후에 수행
      */
-    @Transactional
     @CacheEvict(value = "article", key = "#articleDetailsId")
     public ArticleDetailsDto.Response updateArticleDetails(int articleDetailsId,
                                                            ArticleDetailsDto.Request articleDetailsRequestDto,
                                                            List<MultipartFile> files,
                                                            String memberName) throws IOException {
 
+        // 로그인유저 == 작성자 여부 체크 (업로드 전에 확인)
+        checkAuthor(memberName, getArticle(articleDetailsId).getAuthor().getUsername());
+
+        List<String> newFileUrls = null;
+        if(files == null){
+            throw new CustomException(ErrorCode.FILE_UPDATE_FAIL);
+        } else if(files.get(0).getSize() != 0){
+            newFileUrls = uploadFiles(files);
+        }
+
+        List<String> uploadedUrls = newFileUrls;
+        List<String> replacedUrls = new ArrayList<>();
+        ArticleDetailsDto.Response response;
+        try {
+            response = transactionTemplate.execute(status ->
+                    applyArticleUpdate(articleDetailsId, articleDetailsRequestDto, uploadedUrls, replacedUrls));
+        } catch (RuntimeException e) {
+            if (uploadedUrls != null) {
+                deleteExistingFiles(uploadedUrls);
+            }
+            throw e;
+        }
+
+        deleteExistingFiles(replacedUrls);
+        return response;
+    }
+
+    private ArticleDetailsDto.Response applyArticleUpdate(int articleDetailsId,
+                                                          ArticleDetailsDto.Request articleDetailsRequestDto,
+                                                          List<String> newFileUrls,
+                                                          List<String> replacedUrls) {
         ArticleDetailsEntity articleDetails = getArticleDetails(articleDetailsId);
         ArticleEntity article = getArticle(articleDetailsId);
-        String articleAuthor = article.getAuthor().getUsername();
         UpdateArticleDto.Request updateArticleDto = UpdateArticleDto.Request.builder()
                 .genre(articleDetailsRequestDto.getGenre())
                 .title(articleDetailsRequestDto.getTitle())
@@ -179,20 +239,14 @@ public class ArticleService {
                 .fileUrl(articleDetailsRequestDto.getFileUrls().get(0))
                 .build();
 
-        // 로그인유저 == 작성자 여부 체크
-        checkAuthor(memberName, articleAuthor);
-
         String newTitle = articleDetailsRequestDto.getTitle();
         String newContent = articleDetailsRequestDto.getContent();
         ArticleEntity.ArticleCategories newCategory = articleDetailsRequestDto.getCategory();
 
-        List<String> existingFileUrls = articleDetails.getImageUrls();
-        if(files == null){
-            throw new CustomException(ErrorCode.FILE_UPDATE_FAIL);
-        } else if(files.get(0).getSize() != 0){
-            log.info("if(files.get(0).getSize() != 0 || files != null)");
-            deleteExistingFiles(existingFileUrls);
-            List<String> newFileUrls = uploadFiles(files, articleDetailsId);
+        if(newFileUrls != null){
+            if(articleDetails.getImageUrls() != null){
+                replacedUrls.addAll(articleDetails.getImageUrls());
+            }
             articleDetails.updateFileUrls(newFileUrls);
         }
 
@@ -208,10 +262,9 @@ public class ArticleService {
     }
 
     /**
-     * 게시글 삭제 (캐시 무효화)
+     * 게시글 삭제 (캐시 무효화는 커밋 이후 ArticleChangedEventListener 에서)
      */
     @Transactional
-    @CacheEvict(value = "article", key = "#articleDetailsId")
     public ArticleDto.Response deleteArticleDetails(int articleDetailsId, String memberName){
 
         ArticleDetailsEntity articleDetails = getArticleDetails(articleDetailsId);
@@ -230,7 +283,9 @@ public class ArticleService {
         articleDetailsRepository.deleteById(articleDetailsId);
         articleRepository.deleteById(articleDetailsId);
         
+        hotArticleService.remove(articleDetailsId);
         rankingService.updateMemberExp(article.getAuthor().getId(), -1);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleDetailsId));
 
         return new ArticleDto.Response(article);
     }
@@ -240,12 +295,24 @@ public class ArticleService {
      */
     @Transactional(readOnly = true)
     public List<ArticleDto.Response> getHotArticleList(int page, int size) {
-        Pageable pageable = PageRequest.of(page,size);
-        Page<ArticleEntity> articles = articleRepositoryCustom.getAllHotArticles(pageable);
+        List<Integer> hotArticleIds = hotArticleService.getHotArticleIds(page, size);
+        if (hotArticleIds == null) {
+            // Redis 장애 발생 또는 인덱스 없음. RDB Fallback
+            log.warn("Redis 인기 게시글 조회 실패 또는 데이터 없음. RDB에서 Fallback 조회 시도.");
+            Pageable pageable = PageRequest.of(page,size);
+            Page<ArticleEntity> articles = articleRepositoryCustom.getAllHotArticles(pageable);
+            return toResponses(articles.getContent());
+        }
 
-        return articles.stream()
-                .map(ArticleDto.Response::new)
+        // id 목록 한 번에 조회 후 점수 순서대로 정렬 (삭제된 게시글은 제외)
+        Map<Integer, ArticleEntity> articleMap = articleRepository.findAllById(hotArticleIds).stream()
+                .collect(Collectors.toMap(ArticleEntity::getId, Function.identity()));
+        List<ArticleEntity> articles = hotArticleIds.stream()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+
+        return toResponses(articles);
     }
 
     /**
@@ -264,9 +331,7 @@ public class ArticleService {
             throw new CustomException(ErrorCode.ARTICLE_NOT_FOUND);
         }
 
-        return articles.stream()
-                .map(ArticleDto.Response::new)
-                .collect(Collectors.toList());
+        return toResponses(articles.getContent());
     }
 
     /**
@@ -277,9 +342,7 @@ public class ArticleService {
         Pageable pageable = PageRequest.of(page,size);
         Page<ArticleEntity> articles = articleDetailsRepositoryCustom.searchArticlesByTitleKeyword(keyword, category, pageable);
 
-        List<ArticleDto.Response> articleResponseList = articles.stream()
-                .map(ArticleDto.Response::new)
-                .collect(Collectors.toList());
+        List<ArticleDto.Response> articleResponseList = toResponses(articles.getContent());
 
         return articleResponseList;
     }
@@ -295,9 +358,7 @@ public class ArticleService {
         Pageable pageable = PageRequest.of(page,size);
         Page<ArticleEntity> articles = articleRepositoryCustom.findLikedArticlesByMember(memberId, pageable);
 
-        List<ArticleDto.Response> articleResponseList = articles.stream()
-                .map(ArticleDto.Response::new)
-                .collect(Collectors.toList());
+        List<ArticleDto.Response> articleResponseList = toResponses(articles.getContent());
 
         return articleResponseList;
     }
@@ -325,13 +386,31 @@ public class ArticleService {
         Pageable pageable = PageRequest.of(page,size);
         Page<ArticleEntity> articles = articleRepositoryCustom.searchArticlesWithFiltering(searchDto, pageable);
 
+        Map<Integer, CounterDelta> pending = getPendingDeltas(articles.getContent());
         Page<ArticleDto.Response> articleResponseList = articles
-                .map(ArticleDto.Response::new);
+                .map(article -> new ArticleDto.Response(article, pending.getOrDefault(article.getId(), CounterDelta.empty())));
 
         return articleResponseList;
     }
 
 
+    /**
+     * 목록 응답 변환 (대기 중인 카운터 증감량은 한 번에 조회해서 합산)
+     */
+    private List<ArticleDto.Response> toResponses(List<ArticleEntity> articles) {
+        Map<Integer, CounterDelta> pending = getPendingDeltas(articles);
+        return articles.stream()
+                .map(article -> new ArticleDto.Response(article, pending.getOrDefault(article.getId(), CounterDelta.empty())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Integer, CounterDelta> getPendingDeltas(List<ArticleEntity> articles) {
+        List<Integer> articleIds = articles.stream()
+                .map(ArticleEntity::getId)
+                .collect(Collectors.toList());
+        return counterService.getPendingDeltas(CounterTarget.ARTICLE, articleIds);
+    }
+
     private ArticleDetailsEntity getArticleDetails(int articleId) {
         return articleDetailsRepositoryCustom.findArticleDetailsByArticleId(articleId);
                 /*.orElseThrow(() -> new CustomException(ErrorCode.ARTICLE_DETAILS_NOT_FOUND));*/
@@ -349,20 +428,20 @@ public class ArticleService {
     }
 
 
-    private List<String> uploadFiles(List<MultipartFile> files, int targetId) throws IOException {
-        List<String> newFileUrls = new ArrayList<>();
+    private List<String> uploadFiles(List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        // "articles/{articleId}/{originalFileName}"
-        if (files != null && !files.isEmpty() && files.size() != 0) {
-            for (MultipartFile file : files) {
-                String originalFilename = file.getOriginalFilename();
-                String key = "articles/" + targetId + "/" + originalFilename;
-                String fileUrl = storageService.uploadImage(key, file);
-                log.info("================= 파일 리스트 업로드");
-                newFileUrls.add(fileUrl);
-            }
+        // "articles/{uuid}/{originalFileName}" (게시글 id 발급 전에 업로드하므로 uuid 사용)
+        Map<String, MultipartFile> filesByKey = new LinkedHashMap<>();
+        for (MultipartFile file : files) {
+            filesByKey.put("articles/" + UUID.randomUUID() + "/" + file.getOriginalFilename(), file);
         }
-        return newFileUrls;
+        log.info("================= 파일 리스트 업로드");
+        return asyncStorageService.uploadImages(filesByKey).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     private void deleteExistingFiles(List<String> existingFileUrls) {
@@ -0,0 +1,168 @@
+package jsl.moum.community.article.service;
+
+import jsl.moum.community.article.domain.view.ArticleViewFoldRepository;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
+import jsl.moum.config.redis.util.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 고유 조회수 기록
+ *
+ * 조회 시에는 일자별 HyperLogLog(article:uv:{yyyyMMdd}:{articleId})에 조회자를 PFADD 하고
+ * 조회된 게시글 id 를 dirty set(article:uv:dirty:{yyyyMMdd})에 남기기만 한다. (DB 쓰기 없음)
+ * 주기적으로 dirty 게시글의 PFCOUNT 를 읽어 지난 반영값(article_view_fold 테이블)과의 차이만큼
+ * view_count 에 한 번의 batch UPDATE 로 반영한다. 반영값은 view_count 와 같은 트랜잭션에서 갱신하므로
+ * 이후 Redis 정리가 실패해 같은 게시글을 다시 반영해도 중복 증가하지 않는다.
+ *
+ * 같은 날 같은 사용자가 여러 번 조회해도 조회수는 1 (HLL 오차 약 0.81%)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleViewService {
+
+    private static final String KEY_PREFIX = "article:uv:";
+    private static final String FOLD_LOCK_KEY = KEY_PREFIX + "fold-lock";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+    private static final Duration FOLD_LOCK_TTL = Duration.ofSeconds(60);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+    private final CounterService counterService;
+    private final ArticleViewFoldRepository articleViewFoldRepository;
+    private final HotArticleService hotArticleService;
+
+    public void recordView(int articleId, String viewer) {
+        String date = LocalDate.now().format(DATE_FORMAT);
+        byte[] sketchKey = bytes(sketchKey(date, articleId));
+        byte[] dirtyKey = bytes(dirtyKey(date));
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hyperLogLogCommands().pfAdd(sketchKey, bytes(viewer));
+                connection.keyCommands().expire(sketchKey, KEY_TTL.getSeconds());
+                connection.setCommands().sAdd(dirtyKey, bytes(String.valueOf(articleId)));
+                connection.keyCommands().expire(dirtyKey, KEY_TTL.getSeconds());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 고유 조회자 판별이 불가능하면 조회수는 그대로 반영 (카운터는 로컬 fallback 보유)
+            log.error("고유 조회자 기록 실패 - articleId: {}", articleId, e);
+            counterService.increment(CounterTarget.ARTICLE, articleId, CounterField.VIEW, 1);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${article.view.fold-interval-ms:60000}")
+    public void fold() {
+        String lockToken;
+        try {
+            lockToken = redisLock.tryLock(FOLD_LOCK_KEY, FOLD_LOCK_TTL);
+        } catch (DataAccessException e) {
+            log.error("고유 조회수 반영 락 획득 실패", e);
+            return;
+        }
+        if (lockToken == null) {
+            return; // 다른 노드가 반영 중
+        }
+
+        try {
+            // 자정 직후에는 전날 스케치에 남은 증가분도 함께 반영
+            LocalDate today = LocalDate.now();
+            foldDay(today.minusDays(1).format(DATE_FORMAT));
+            foldDay(today.format(DATE_FORMAT));
+        } catch (DataAccessException e) {
+            log.error("고유 조회수 반영 실패. 다음 주기에 재시도합니다.", e);
+        } finally {
+            try {
+                redisLock.unlock(FOLD_LOCK_KEY, lockToken);
+            } catch (DataAccessException e) {
+                log.error("고유 조회수 반영 락 해제 실패. TTL 만료 후 해제됩니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 반영값은 전날 스케치까지만 필요하므로 그 이전 일자는 삭제
+     */
+    @Scheduled(cron = "${article.view.fold-cleanup-cron:0 40 4 * * ?}")
+    public void cleanupFoldHistory() {
+        int deleted = articleViewFoldRepository.deleteBefore(LocalDate.now().minusDays(2).format(DATE_FORMAT));
+        log.debug("고유 조회수 반영 기록 정리. 삭제: {}", deleted);
+    }
+
+    /**
+     * dirty -> folding 으로 RENAME 후 반영, 성공 시 folding 삭제
+     * DB 반영에 실패하면 folding 키가 남아 다음 주기에 그대로 재시도된다. (PFCOUNT 는 줄지 않으므로 같은 차이가 다시 계산됨)
+     * DB 커밋 후 folding 삭제가 실패해도 반영값이 함께 커밋되어 있으므로 다시 계산한 차이는 0
+     */
+    private void foldDay(String date) {
+        String dirtyKey = dirtyKey(date);
+        String foldingKey = dirtyKey + ":folding";
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(foldingKey))) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(dirtyKey))) {
+                return;
+            }
+            redisTemplate.renameIfAbsent(dirtyKey, foldingKey);
+        }
+
+        Set<String> members = redisTemplate.opsForSet().members(foldingKey);
+        if (members == null || members.isEmpty()) {
+            redisTemplate.delete(foldingKey);
+            return;
+        }
+
+        List<Integer> articleIds = members.stream().map(Integer::valueOf).toList();
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Integer articleId : articleIds) {
+                connection.hyperLogLogCommands().pfCount(bytes(sketchKey(date, articleId)));
+            }
+            return null;
+        });
+
+        Map<Integer, Long> viewCounts = new HashMap<>();
+        for (int i = 0; i < articleIds.size(); i++) {
+            viewCounts.put(articleIds.get(i), ((Number) counts.get(i)).longValue());
+        }
+
+        Map<Integer, CounterDelta> deltas = articleViewFoldRepository.fold(date, viewCounts);
+        if (!deltas.isEmpty()) {
+            Map<Integer, Integer> scoreDeltas = new HashMap<>();
+            deltas.forEach((articleId, delta) -> scoreDeltas.put(articleId, delta.get(CounterField.VIEW)));
+            hotArticleService.incrementAll(scoreDeltas);
+            counterService.invalidate(CounterTarget.ARTICLE, deltas.keySet());
+            log.debug("고유 조회수 반영 완료. date: {}, 게시글 수: {}", date, deltas.size());
+        }
+        redisTemplate.delete(foldingKey);
+    }
+
+    private String sketchKey(String date, int articleId) {
+        return KEY_PREFIX + date + ":" + articleId;
+    }
+
+    private String dirtyKey(String date) {
+        return KEY_PREFIX + "dirty:" + date;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
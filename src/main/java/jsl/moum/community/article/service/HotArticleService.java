@@ -0,0 +1,153 @@
+package jsl.moum.community.article.service;
+
+import jsl.moum.community.article.domain.article.ArticleEntity;
+import jsl.moum.community.article.domain.article.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 인기 게시글 점수 인덱스 (Redis Sorted Set: article:hot)
+ *
+ * 조회/댓글/좋아요 증감 시 점수를 바로 올리고, 주기적으로 전체 점수에 감쇠율을 곱해서 오래된 게시글이 내려가도록 함
+ * 인기 게시글 목록은 ZREVRANGE + id 목록 조회로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotArticleService {
+
+    public static final String HOT_ARTICLE_KEY = "article:hot";
+    private static final double DECAY_RATE = 0.9; // 감쇠 주기마다 점수 * 0.9
+    private static final long MAX_SIZE = 1000; // 상위 1,000개만 유지
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ArticleRepository articleRepository;
+
+    /**
+     * 조회/댓글/좋아요 모두 가중치 1 (기존 인기글 쿼리의 viewCount + commentsCount 기준에 좋아요 추가)
+     */
+    public void increment(int articleId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().incrementScore(HOT_ARTICLE_KEY, String.valueOf(articleId), delta);
+        } catch (DataAccessException e) {
+            log.error("Redis 인기 게시글 점수 갱신 실패. articleId: {}", articleId, e);
+        }
+    }
+
+    /**
+     * 여러 게시글 점수 증가를 pipeline 한 번으로
+     */
+    public void incrementAll(Map<Integer, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        byte[] key = HOT_ARTICLE_KEY.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltas.forEach((articleId, delta) -> {
+                    if (delta != 0) {
+                        connection.zSetCommands().zIncrBy(key, delta, String.valueOf(articleId).getBytes(StandardCharsets.UTF_8));
+                    }
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("Redis 인기 게시글 점수 일괄 갱신 실패. 게시글 수: {}", deltas.size(), e);
+        }
+    }
+
+    public void remove(int articleId) {
+        try {
+            redisTemplate.opsForZSet().remove(HOT_ARTICLE_KEY, String.valueOf(articleId));
+        } catch (DataAccessException e) {
+            log.error("Redis 인기 게시글 삭제 실패. articleId: {}", articleId, e);
+        }
+    }
+
+    /**
+     * 점수 내림차순 게시글 id 목록
+     * Redis 장애 또는 인덱스가 비어있으면 null 반환하여 Fallback 트리거
+     * 인덱스 범위(상위 MAX_SIZE 개)를 넘는 페이지는 빈 목록 (RDB 는 정렬 기준이 달라 앞 페이지와 겹치거나 빠지는 게시글이 생김)
+     */
+    public List<Integer> getHotArticleIds(int page, int size) {
+        Set<String> ids;
+        try {
+            long start = (long) page * size;
+            ids = redisTemplate.opsForZSet().reverseRange(HOT_ARTICLE_KEY, start, start + size - 1);
+            if (ids == null || ids.isEmpty()) {
+                Long indexSize = redisTemplate.opsForZSet().zCard(HOT_ARTICLE_KEY);
+                if (indexSize == null || indexSize == 0) {
+                    return null;
+                }
+                return Collections.emptyList();
+            }
+        } catch (DataAccessException e) {
+            log.error("Redis 인기 게시글 조회 실패. Fallback을 시도합니다.", e);
+            return null;
+        }
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        return ids.stream()
+                .map(Integer::parseInt)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 시간 감쇠: ZUNIONSTORE article:hot 1 article:hot WEIGHTS 0.9 후 상위 MAX_SIZE 개만 유지
+     * 인덱스가 없으면 (Redis 초기화 등) 최근 게시글로 초기 점수 적재
+     */
+    @Scheduled(cron = "${article.hot.decay-cron:0 0 * * * ?}")
+    public void decay() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(HOT_ARTICLE_KEY))) {
+                seed();
+                return;
+            }
+            redisTemplate.opsForZSet().unionAndStore(HOT_ARTICLE_KEY, Collections.emptyList(), HOT_ARTICLE_KEY,
+                    Aggregate.SUM, Weights.of(DECAY_RATE));
+            redisTemplate.opsForZSet().removeRange(HOT_ARTICLE_KEY, 0, -(MAX_SIZE + 1));
+        } catch (DataAccessException e) {
+            log.error("Redis 인기 게시글 점수 감쇠 실패. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private void seed() {
+        List<ArticleEntity> recentArticles = articleRepository
+                .findAll(PageRequest.of(0, (int) MAX_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")))
+                .getContent();
+        if (recentArticles.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (ArticleEntity article : recentArticles) {
+            double score = article.getViewCount() + article.getCommentsCount() + article.getLikesCount();
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(article.getId()), score));
+        }
+        redisTemplate.opsForZSet().add(HOT_ARTICLE_KEY, tuples);
+        log.info("인기 게시글 인덱스 초기 적재 완료. 게시글 수: {}", tuples.size());
+    }
+}
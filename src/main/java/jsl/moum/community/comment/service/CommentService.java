@@ -3,11 +3,16 @@ package jsl.moum.community.comment.service;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.community.article.dto.ArticleDetailsDto;
+import jsl.moum.community.article.event.ArticleChangedEvent;
 import jsl.moum.community.comment.domain.CommentEntity;
 import jsl.moum.community.comment.domain.CommentRepository;
 import jsl.moum.community.comment.dto.CommentDto;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.rank.service.RankingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jsl.moum.community.article.domain.article.ArticleEntity;
@@ -30,6 +35,8 @@ public class CommentService {
     private final ArticleDetailsRepository articleDetailsRepository;
     private final MemberRepository memberRepository;
     private final RankingService rankingService;
+    private final CounterService counterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 생성
@@ -55,12 +62,12 @@ public class CommentService {
         CommentEntity newComment = commentRequest.toEntity();
         commentRepository.save(newComment);
 
-        // 게시글에 조회수 +1 하고 저장
-        article.commentsCountUp();
-        articleRepository.save(article);
+        // 게시글에 댓글수 +1
+        counterService.increment(CounterTarget.ARTICLE, article.getId(), CounterField.COMMENTS, 1);
 
         // 게시글_상세 테이블에 댓글 추가됐으니 게시글_상세 저장
         articleDetailsRepository.save(articleDetails);
+        eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
 
         rankingService.updateMemberExp(author.getId(), 1);
 
@@ -83,6 +90,7 @@ public class CommentService {
         String newContent = commentRequestDto.getContent();
         comment.updateComment(newContent);
         commentRepository.save(comment);
+        eventPublisher.publishEvent(new ArticleChangedEvent(comment.getArticleDetails().getArticleId()));
 
         return new CommentDto.Response(comment);
     }
@@ -98,13 +106,15 @@ public class CommentService {
                 .orElseThrow(()->new CustomException(ErrorCode.COMMENT_ALREADY_DELETED));
 
         int articleId = comment.getArticleDetails().getArticleId();
-        ArticleEntity article = getArticle(articleId);
-        article.commentsCountDown();
 
         // 작성자-로그인유저 일치 여부 확인
         checkAuthor(username, comment.getAuthor().getUsername());
 
         commentRepository.deleteById(commentId);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
+
+        // 게시글에 댓글수 -1
+        counterService.increment(CounterTarget.ARTICLE, articleId, CounterField.COMMENTS, -1);
 
         rankingService.updateMemberExp(comment.getAuthor().getId(), -1);
 
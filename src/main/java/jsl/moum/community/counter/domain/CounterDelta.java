@@ -0,0 +1,34 @@
+package jsl.moum.community.counter.domain;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 게시글 하나의 카운터 증감량 (또는 DB 값에 증감량을 더한 현재 카운트)
+ */
+public class CounterDelta {
+
+    private final Map<CounterField, Long> values = new EnumMap<>(CounterField.class);
+
+    public static CounterDelta empty() {
+        return new CounterDelta();
+    }
+
+    public void add(CounterField field, long value) {
+        if (value != 0) {
+            values.merge(field, value, Long::sum);
+        }
+    }
+
+    public void addAll(CounterDelta other) {
+        other.values.forEach(this::add);
+    }
+
+    public int get(CounterField field) {
+        return values.getOrDefault(field, 0L).intValue();
+    }
+
+    public boolean isEmpty() {
+        return values.values().stream().allMatch(v -> v == 0);
+    }
+}
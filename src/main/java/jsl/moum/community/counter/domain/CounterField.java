@@ -0,0 +1,14 @@
+package jsl.moum.community.counter.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum CounterField {
+    VIEW("view_count"),
+    LIKES("likes_count"),
+    COMMENTS("comments_count");
+
+    private final String columnName;
+}
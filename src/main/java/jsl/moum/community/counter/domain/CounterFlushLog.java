@@ -0,0 +1,31 @@
+package jsl.moum.community.counter.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영 완료된 카운터 / 경험치 flush batch id
+ * 증감량 UPDATE 와 같은 트랜잭션에 기록 -> Redis 정리 실패 후 재시도해도 같은 batch 가 두 번 반영되지 않음
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "counter_flush_log",
+        indexes = {
+                @Index(name = "idx_counter_flush_log_applied_at", columnList = "applied_at")
+        }
+)
+public class CounterFlushLog {
+
+    @Id
+    @Column(name = "batch_id", length = 64)
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,144 @@
+package jsl.moum.community.counter.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class CounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모아둔 증감량을 한 번의 batch UPDATE로 반영
+     *
+     UPDATE article
+     SET view_count = COALESCE(view_count, 0) + ?, likes_count = COALESCE(likes_count, 0) + ?, ...
+     WHERE id = ?;
+     */
+    @Transactional
+    public void applyDeltas(CounterTarget target, Map<Integer, CounterDelta> deltas) {
+        update(target, deltas);
+    }
+
+    /**
+     * batch id 기록과 증감량 반영을 한 트랜잭션으로 처리
+     * 이미 반영된 batch id 면 아무것도 하지 않고 false 반환 (Redis 정리 실패 후 재시도 시 중복 반영 방지)
+     */
+    @Transactional
+    public boolean applyDeltas(CounterTarget target, Map<Integer, CounterDelta> deltas, String batchId) {
+        if (!markBatchApplied(batchId)) {
+            return false;
+        }
+        update(target, deltas);
+        return true;
+    }
+
+    /**
+     * batch id 반영 기록 (호출 측 트랜잭션에 참여, 경험치 flush 에서도 사용)
+     * 이미 기록된 batch id 면 false
+     */
+    public boolean markBatchApplied(String batchId) {
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO counter_flush_log (batch_id, applied_at) VALUES (?, ?)",
+                batchId, Timestamp.valueOf(LocalDateTime.now()));
+        return inserted > 0;
+    }
+
+    /**
+     * DB에 반영된 카운트 조회 (캐시된 응답에 덮어쓸 카운트, PK IN 조회)
+     */
+    public Map<Integer, CounterDelta> findCounts(CounterTarget target, Collection<Integer> ids) {
+        Map<Integer, CounterDelta> counts = new HashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return counts;
+        }
+
+        List<CounterField> fields = target.getFields();
+        String columns = fields.stream()
+                .map(field -> "COALESCE(" + field.getColumnName() + ", 0)")
+                .collect(Collectors.joining(", "));
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        String sql = "SELECT id, " + columns + " FROM " + target.getTableName() + " WHERE id IN (" + placeholders + ")";
+
+        jdbcTemplate.query(sql, rs -> {
+            CounterDelta count = CounterDelta.empty();
+            for (int i = 0; i < fields.size(); i++) {
+                count.add(fields.get(i), rs.getLong(i + 2));
+            }
+            counts.put(rs.getInt(1), count);
+        }, ids.toArray());
+        return counts;
+    }
+
+    /**
+     * Redis base 로 채울 DB 카운트 (flushing batch 가 이미 반영되었으면 그 증감량을 뺀 값)
+     * 카운트와 batch 반영 여부를 같은 스냅샷에서 읽어야 하므로 호출 측 트랜잭션과 별도로 새 트랜잭션에서 조회
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Map<Integer, CounterDelta> findCountsExcludingBatch(CounterTarget target, Collection<Integer> ids,
+                                                               String batchId, Map<Integer, CounterDelta> batchDeltas) {
+        Map<Integer, CounterDelta> counts = findCounts(target, ids);
+        if (batchId == null || !isBatchApplied(batchId)) {
+            return counts;
+        }
+        counts.forEach((id, count) -> {
+            CounterDelta delta = batchDeltas.get(id);
+            if (delta != null) {
+                target.getFields().forEach(field -> count.add(field, -delta.get(field)));
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * batch 반영 여부 (호출 측 트랜잭션이 있으면 같은 스냅샷 기준)
+     */
+    public boolean isBatchApplied(String batchId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM counter_flush_log WHERE batch_id = ?", Integer.class, batchId);
+        return count != null && count > 0;
+    }
+
+    public int deleteFlushLogBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM counter_flush_log WHERE applied_at < ?", Timestamp.valueOf(before));
+    }
+
+    private void update(CounterTarget target, Map<Integer, CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<CounterField> fields = target.getFields();
+        String setClause = fields.stream()
+                .map(field -> field.getColumnName() + " = COALESCE(" + field.getColumnName() + ", 0) + ?")
+                .collect(Collectors.joining(", "));
+        String sql = "UPDATE " + target.getTableName() + " SET " + setClause + " WHERE id = ?";
+
+        // 여러 노드가 동시에 flush 하더라도 데드락이 나지 않도록 id 오름차순으로 갱신
+        List<Object[]> batchArgs = new ArrayList<>();
+        new TreeMap<>(deltas).forEach((id, delta) -> {
+            Object[] args = new Object[fields.size() + 1];
+            for (int i = 0; i < fields.size(); i++) {
+                args[i] = delta.get(fields.get(i));
+            }
+            args[fields.size()] = id;
+            batchArgs.add(args);
+        });
+
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+}
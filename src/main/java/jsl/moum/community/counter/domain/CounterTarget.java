@@ -0,0 +1,16 @@
+package jsl.moum.community.counter.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public enum CounterTarget {
+    ARTICLE("article", List.of(CounterField.VIEW, CounterField.LIKES, CounterField.COMMENTS)),
+    PERFORM_ARTICLE("perform_article", List.of(CounterField.VIEW, CounterField.LIKES));
+
+    private final String tableName;
+    private final List<CounterField> fields; // 해당 테이블에 존재하는 카운터 컬럼들
+}
@@ -0,0 +1,19 @@
+package jsl.moum.community.counter.event;
+
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조회수/좋아요수/댓글수 증감 이벤트
+ * 발행 측(좋아요, 댓글 등)은 이벤트만 던지고, 실제 누적은 커밋 이후 CounterService가 처리
+ */
+@Getter
+@AllArgsConstructor
+public class CounterChangedEvent {
+    private final CounterTarget target;
+    private final int id;
+    private final CounterField field;
+    private final int delta;
+}
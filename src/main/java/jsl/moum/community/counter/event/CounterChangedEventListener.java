@@ -0,0 +1,23 @@
+package jsl.moum.community.counter.event;
+
+import jsl.moum.community.counter.service.CounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CounterChangedEventListener {
+
+    private final CounterService counterService;
+
+    /**
+     * 발행 측 트랜잭션이 커밋된 경우에만 누적 (롤백된 좋아요/댓글이 카운트에 남아 DB까지 반영되지 않도록)
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 누적
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCounterChanged(CounterChangedEvent event) {
+        counterService.apply(event.getTarget(), event.getId(), event.getField(), event.getDelta());
+    }
+}
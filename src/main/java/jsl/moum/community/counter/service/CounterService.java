@@ -0,0 +1,463 @@
+package jsl.moum.community.counter.service;
+
+import jsl.moum.community.article.service.HotArticleService;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterRepository;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.event.CounterChangedEvent;
+import jsl.moum.config.redis.util.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수/좋아요수/댓글수 write-behind 카운터
+ *
+ * 증감량은 Redis Hash(counter:{target}:pending, field = {id}:{field})에 HINCRBY로 누적하고,
+ * 주기적으로 모아서 한 번의 batch UPDATE로 DB에 반영한다.
+ * Redis 장애 시에는 노드 로컬 LongAdder에 누적했다가 같은 flush 주기에 반영한다.
+ *
+ * 현재 카운트 조회는 DB에 반영된 값(counter:{target}:base, flushing batch 제외)을 Redis 에 두고
+ * base + flushing + pending 을 스크립트 한 번으로 읽는다. base 가 없는 게시글만 DB에서 읽어 채운다.
+ * flush 시작(RENAME)/완료(base 정리)마다 version 을 올려, 그 사이에 DB에서 읽은 값으로는 base 를 채우지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounterService {
+
+    private static final String KEY_PREFIX = "counter:";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    // flushing hash 에 함께 저장하는 batch id (hash 삭제 시 같이 지워짐)
+    private static final String BATCH_ID_FIELD = "__batch";
+    private static final Duration BASE_TTL = Duration.ofMinutes(10);
+    private static final int FILL_RETRY = 2;
+
+    // KEYS: pending, flushing, version / ARGV: batch id 필드, batch id
+    private static final String START_FLUSH_SCRIPT =
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "  redis.call('INCR', KEYS[3]) " +
+            "end " +
+            "redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2]) " +
+            "return 1";
+    private static final RedisScript<Long> START_FLUSH_REDIS_SCRIPT = new DefaultRedisScript<>(START_FLUSH_SCRIPT, Long.class);
+
+    // KEYS: flushing, base, version (DB에 반영된 게시글의 base 를 지우고 flushing 삭제)
+    private static final String FINISH_FLUSH_SCRIPT =
+            "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do " +
+            "  redis.call('HDEL', KEYS[2], field) " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('INCR', KEYS[3]) " +
+            "return 1";
+    private static final RedisScript<Long> FINISH_FLUSH_REDIS_SCRIPT = new DefaultRedisScript<>(FINISH_FLUSH_SCRIPT, Long.class);
+
+    // KEYS: base, version / ARGV: 필드... (카운터 밖에서 DB가 바뀐 게시글의 base 삭제)
+    private static final String INVALIDATE_SCRIPT =
+            "for i = 1, #ARGV do redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+            "redis.call('INCR', KEYS[2]) " +
+            "return 1";
+    private static final RedisScript<Long> INVALIDATE_REDIS_SCRIPT = new DefaultRedisScript<>(INVALIDATE_SCRIPT, Long.class);
+
+    // KEYS: base, pending, flushing, version / ARGV: batch id 필드, 필드...
+    // 반환: [version, batch id, base..., pending..., flushing...] (없는 값은 "")
+    private static final String READ_SCRIPT =
+            "local result = {redis.call('GET', KEYS[4]) or '0', redis.call('HGET', KEYS[3], ARGV[1]) or ''} " +
+            "for k = 1, 3 do " +
+            "  for i = 2, #ARGV do result[#result + 1] = redis.call('HGET', KEYS[k], ARGV[i]) or '' end " +
+            "end " +
+            "return result";
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_REDIS_SCRIPT = new DefaultRedisScript<>(READ_SCRIPT, List.class);
+
+    // KEYS: base, version / ARGV: 읽은 시점 version, ttl(ms), 필드, 값, ...
+    // 읽은 이후 flush 가 시작/완료되었으면 채우지 않고 0 반환
+    private static final String FILL_SCRIPT =
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "if redis.call('PTTL', KEYS[1]) < 0 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 1";
+    private static final RedisScript<Long> FILL_REDIS_SCRIPT = new DefaultRedisScript<>(FILL_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+    private final CounterRepository counterRepository;
+    private final HotArticleService hotArticleService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Redis 장애 시 사용하는 로컬 누적값 (key = {target}:{id}:{field})
+    private final Map<String, LongAdder> localCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 증감 이벤트만 발행하고 실제 누적은 발행 측 트랜잭션 커밋 이후 (CounterChangedEventListener)
+     */
+    public void increment(CounterTarget target, int id, CounterField field, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        eventPublisher.publishEvent(new CounterChangedEvent(target, id, field, delta));
+    }
+
+    public void apply(CounterTarget target, int id, CounterField field, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().increment(pendingKey(target), hashField(id, field), delta);
+        } catch (DataAccessException e) {
+            log.error("Redis 카운터 증가 실패. 로컬 카운터에 누적합니다. target: {}, id: {}", target, id, e);
+            localCounters.computeIfAbsent(localKey(target, id, field), k -> new LongAdder()).add(delta);
+        }
+
+        if (target == CounterTarget.ARTICLE) {
+            hotArticleService.increment(id, delta); // 인기 게시글 점수 반영
+        }
+    }
+
+    /**
+     * 현재 카운트 (DB 반영값 + 아직 반영되지 않은 증감량)
+     * 캐시된 응답의 카운트는 캐싱 시점 값이므로 응답 시 이 값으로 덮어씀
+     * DB 반영값은 Redis base 에서 읽고, base 가 없는 게시글만 DB 조회 (Redis 장애 시 DB 값 + 로컬 증감량)
+     */
+    public CounterDelta getCount(CounterTarget target, int id) {
+        return getCounts(target, List.of(id)).getOrDefault(id, CounterDelta.empty());
+    }
+
+    public Map<Integer, CounterDelta> getCounts(CounterTarget target, Collection<Integer> ids) {
+        Map<Integer, CounterDelta> counts;
+        if (ids == null || ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            counts = readCounts(target, ids);
+        } catch (DataAccessException e) {
+            log.error("Redis 카운터 조회 실패. DB 값만 반환합니다. target: {}", target, e);
+            counts = counterRepository.findCounts(target, ids);
+        }
+        addLocal(target, ids, counts);
+        return counts;
+    }
+
+    private Map<Integer, CounterDelta> readCounts(CounterTarget target, Collection<Integer> ids) {
+        List<Integer> idList = new ArrayList<>(ids);
+        List<CounterField> fields = target.getFields();
+        List<String> args = new ArrayList<>();
+        args.add(BATCH_ID_FIELD);
+        for (Integer id : idList) {
+            for (CounterField field : fields) {
+                args.add(hashField(id, field));
+            }
+        }
+        int size = args.size() - 1;
+
+        Map<Integer, CounterDelta> counts = new HashMap<>();
+        for (int attempt = 0; attempt < FILL_RETRY; attempt++) {
+            List<?> result = redisTemplate.execute(READ_REDIS_SCRIPT,
+                    List.of(baseKey(target), pendingKey(target), flushingKey(target), versionKey(target)),
+                    args.toArray());
+            String version = String.valueOf(result.get(0));
+            String batchId = String.valueOf(result.get(1));
+
+            counts = new HashMap<>();
+            Map<Integer, CounterDelta> flushing = new HashMap<>();
+            List<Integer> missing = new ArrayList<>();
+            for (int i = 0; i < idList.size(); i++) {
+                Integer id = idList.get(i);
+                CounterDelta count = CounterDelta.empty();
+                boolean hasBase = true;
+                for (int j = 0; j < fields.size(); j++) {
+                    int index = i * fields.size() + j;
+                    Object base = result.get(2 + index);
+                    hasBase &= !isBlank(base);
+                    count.add(fields.get(j), parse(base) + parse(result.get(2 + size + index)));
+                    long flushingValue = parse(result.get(2 + 2 * size + index));
+                    count.add(fields.get(j), flushingValue);
+                    flushing.computeIfAbsent(id, k -> CounterDelta.empty()).add(fields.get(j), flushingValue);
+                }
+                if (!hasBase) {
+                    missing.add(id);
+                }
+                counts.put(id, count);
+            }
+            if (missing.isEmpty()) {
+                return counts;
+            }
+
+            // base 가 없는 게시글: DB 값(flushing batch 제외)을 읽어 base 로 채움
+            Map<Integer, CounterDelta> bases = counterRepository.findCountsExcludingBatch(
+                    target, missing, batchId.isEmpty() ? null : batchId, flushing);
+            List<String> fillArgs = new ArrayList<>(List.of(version, String.valueOf(BASE_TTL.toMillis())));
+            for (Integer id : idList) {
+                if (!missing.contains(id)) {
+                    continue;
+                }
+                CounterDelta base = bases.get(id);
+                if (base == null) {
+                    counts.remove(id); // DB에 없는 게시글
+                    continue;
+                }
+                CounterDelta count = CounterDelta.empty();
+                count.addAll(base);
+                int offset = idList.indexOf(id) * fields.size();
+                for (int j = 0; j < fields.size(); j++) {
+                    count.add(fields.get(j), parse(result.get(2 + size + offset + j)));
+                    fillArgs.add(hashField(id, fields.get(j)));
+                    fillArgs.add(String.valueOf(base.get(fields.get(j))));
+                }
+                count.addAll(flushing.getOrDefault(id, CounterDelta.empty()));
+                counts.put(id, count);
+            }
+            if (fillArgs.size() == 2) {
+                return counts;
+            }
+            Long filled = redisTemplate.execute(FILL_REDIS_SCRIPT,
+                    List.of(baseKey(target), versionKey(target)), fillArgs.toArray());
+            if (filled != null && filled == 1L) {
+                return counts;
+            }
+            // 읽는 사이 flush 가 시작/완료됨 -> 다시 읽음
+        }
+        return counts;
+    }
+
+    /**
+     * 카운터를 거치지 않고 DB 카운트가 바뀐 게시글(고유 조회수 반영, 로컬 카운터 flush)의 base 삭제
+     * 다음 조회 시 DB에서 다시 채움
+     */
+    public void invalidate(CounterTarget target, Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<String> fields = new ArrayList<>();
+        for (Integer id : ids) {
+            for (CounterField field : target.getFields()) {
+                fields.add(hashField(id, field));
+            }
+        }
+        try {
+            redisTemplate.execute(INVALIDATE_REDIS_SCRIPT, List.of(baseKey(target), versionKey(target)), fields.toArray());
+        } catch (DataAccessException e) {
+            // base 는 TTL(BASE_TTL) 이 지나면 DB에서 다시 채워짐
+            log.error("카운터 base 삭제 실패. target: {}, 게시글 수: {}", target, ids.size(), e);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감량 조회 (DB 값 + 증감량 = 실제 값)
+     */
+    public CounterDelta getPendingDelta(CounterTarget target, int id) {
+        return getPendingDeltas(target, List.of(id)).getOrDefault(id, CounterDelta.empty());
+    }
+
+    public Map<Integer, CounterDelta> getPendingDeltas(CounterTarget target, Collection<Integer> ids) {
+        Map<Integer, CounterDelta> result = new HashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+
+        List<Object> hashFields = new ArrayList<>();
+        List<Integer> fieldIds = new ArrayList<>();
+        List<CounterField> fieldTypes = new ArrayList<>();
+        for (Integer id : ids) {
+            for (CounterField field : target.getFields()) {
+                hashFields.add(hashField(id, field));
+                fieldIds.add(id);
+                fieldTypes.add(field);
+            }
+        }
+
+        try {
+            // flush 도중인 값(flushing)은 batch 가 아직 DB에 커밋되지 않은 경우에만 합산
+            // 커밋 후 flushing 삭제 전 구간에 읽으면 DB 값에 이미 포함되어 있으므로 두 번 더하지 않음
+            List<Object> pending = redisTemplate.opsForHash().multiGet(pendingKey(target), hashFields);
+            List<Object> flushingFields = new ArrayList<>(hashFields);
+            flushingFields.add(BATCH_ID_FIELD);
+            List<Object> flushing = redisTemplate.opsForHash().multiGet(flushingKey(target), flushingFields);
+            boolean includeFlushing = !isApplied(flushing.get(hashFields.size()), flushing.subList(0, hashFields.size()));
+            for (int i = 0; i < hashFields.size(); i++) {
+                long value = parse(pending.get(i)) + (includeFlushing ? parse(flushing.get(i)) : 0L);
+                if (value != 0) {
+                    result.computeIfAbsent(fieldIds.get(i), k -> CounterDelta.empty()).add(fieldTypes.get(i), value);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("Redis 카운터 조회 실패. DB 값만 반환합니다. target: {}", target, e);
+        }
+
+        addLocal(target, ids, result);
+        return result;
+    }
+
+    private void addLocal(CounterTarget target, Collection<Integer> ids, Map<Integer, CounterDelta> result) {
+        for (Integer id : ids) {
+            for (CounterField field : target.getFields()) {
+                LongAdder adder = localCounters.get(localKey(target, id, field));
+                if (adder != null && adder.sum() != 0) {
+                    result.computeIfAbsent(id, k -> CounterDelta.empty()).add(field, adder.sum());
+                }
+            }
+        }
+    }
+
+    /**
+     * flushing batch 가 이미 DB에 반영되었는지 (조회한 게시글의 flushing 값이 있을 때만 flush 기록 조회)
+     * 호출 측 트랜잭션 안에서 조회하므로 같은 트랜잭션에서 읽은 DB 값과 같은 시점 기준으로 판단
+     */
+    private boolean isApplied(Object batchId, List<Object> flushingValues) {
+        if (batchId == null || flushingValues.stream().allMatch(Objects::isNull)) {
+            return false;
+        }
+        return counterRepository.isBatchApplied(batchId.toString());
+    }
+
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:5000}")
+    public void flush() {
+        for (CounterTarget target : CounterTarget.values()) {
+            flushLocal(target);
+            try {
+                flushRedis(target);
+            } catch (DataAccessException e) {
+                log.error("카운터 flush 실패. 다음 주기에 재시도합니다. target: {}", target, e);
+            }
+        }
+    }
+
+    /**
+     * pending -> flushing 으로 RENAME 후 DB 반영, 성공 시 flushing 삭제 (반영된 게시글의 base 도 함께 삭제)
+     * DB 반영에 실패하면 flushing 키가 남아 다음 주기에 그대로 재시도된다.
+     *
+     * flushing hash 마다 batch id 를 하나 붙이고 DB 반영과 같은 트랜잭션에 기록
+     * -> DB 커밋 후 flushing 삭제가 실패해도 다음 주기에 같은 batch 를 다시 더하지 않음
+     */
+    private void flushRedis(CounterTarget target) {
+        String lockKey = KEY_PREFIX + target.getTableName() + ":flush-lock";
+        String lockToken = redisLock.tryLock(lockKey, FLUSH_LOCK_TTL);
+        if (lockToken == null) {
+            return; // 다른 노드가 flush 중
+        }
+
+        try {
+            String pendingKey = pendingKey(target);
+            String flushingKey = flushingKey(target);
+
+            Long started = redisTemplate.execute(START_FLUSH_REDIS_SCRIPT,
+                    List.of(pendingKey, flushingKey, versionKey(target)), BATCH_ID_FIELD, UUID.randomUUID().toString());
+            if (started == null || started == 0L) {
+                return;
+            }
+
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+            String batchId = String.valueOf(entries.remove(BATCH_ID_FIELD));
+            Map<Integer, CounterDelta> deltas = new HashMap<>();
+            entries.forEach((key, value) -> {
+                String[] parts = key.toString().split(":");
+                int id = Integer.parseInt(parts[0]);
+                CounterField field = CounterField.valueOf(parts[1]);
+                deltas.computeIfAbsent(id, k -> CounterDelta.empty()).add(field, parse(value));
+            });
+
+            boolean applied = counterRepository.applyDeltas(target, deltas, batchId);
+            redisTemplate.execute(FINISH_FLUSH_REDIS_SCRIPT, List.of(flushingKey, baseKey(target), versionKey(target)));
+            if (!applied) {
+                log.warn("이미 반영된 카운터 batch. flushing 키만 삭제합니다. target: {}, batchId: {}", target, batchId);
+                return;
+            }
+            log.debug("카운터 flush 완료. target: {}, 게시글 수: {}", target, deltas.size());
+        } finally {
+            redisLock.unlock(lockKey, lockToken);
+        }
+    }
+
+    /**
+     * 반영 완료 batch id 는 flushing 재시도 구간(수 초 ~ 수 분)만 필요하므로 하루 지난 기록은 삭제
+     */
+    @Scheduled(cron = "${counter.flush-log-cleanup-cron:0 30 4 * * ?}")
+    public void cleanupFlushLog() {
+        int deleted = counterRepository.deleteFlushLogBefore(LocalDateTime.now().minusDays(1));
+        log.debug("카운터 flush 기록 정리. 삭제: {}", deleted);
+    }
+
+    private void flushLocal(CounterTarget target) {
+        String prefix = target.name() + ":";
+        Map<String, Long> drained = new HashMap<>();
+        localCounters.forEach((key, adder) -> {
+            if (key.startsWith(prefix)) {
+                long value = adder.sumThenReset();
+                if (value != 0) {
+                    drained.put(key, value);
+                }
+            }
+        });
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, CounterDelta> deltas = new HashMap<>();
+        drained.forEach((key, value) -> {
+            String[] parts = key.split(":");
+            deltas.computeIfAbsent(Integer.parseInt(parts[1]), k -> CounterDelta.empty())
+                    .add(CounterField.valueOf(parts[2]), value);
+        });
+
+        try {
+            counterRepository.applyDeltas(target, deltas);
+            invalidate(target, deltas.keySet());
+        } catch (DataAccessException e) {
+            log.error("로컬 카운터 flush 실패. 다음 주기에 재시도합니다. target: {}", target, e);
+            drained.forEach((key, value) -> localCounters.computeIfAbsent(key, k -> new LongAdder()).add(value));
+        }
+    }
+
+    private String pendingKey(CounterTarget target) {
+        return KEY_PREFIX + target.getTableName() + ":pending";
+    }
+
+    private String flushingKey(CounterTarget target) {
+        return KEY_PREFIX + target.getTableName() + ":flushing";
+    }
+
+    private String baseKey(CounterTarget target) {
+        return KEY_PREFIX + target.getTableName() + ":base";
+    }
+
+    private String versionKey(CounterTarget target) {
+        return KEY_PREFIX + target.getTableName() + ":version";
+    }
+
+    private String hashField(int id, CounterField field) {
+        return id + ":" + field.name();
+    }
+
+    private String localKey(CounterTarget target, int id, CounterField field) {
+        return target.name() + ":" + id + ":" + field.name();
+    }
+
+    private long parse(Object value) {
+        return isBlank(value) ? 0L : Long.parseLong(value.toString());
+    }
+
+    private boolean isBlank(Object value) {
+        return value == null || value.toString().isEmpty();
+    }
+}
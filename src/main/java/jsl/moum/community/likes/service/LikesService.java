@@ -4,6 +4,9 @@ import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.community.article.domain.article.ArticleEntity;
 import jsl.moum.community.article.domain.article.ArticleRepository;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.community.likes.domain.LikesEntity;
 import jsl.moum.community.likes.domain.LikesRepository;
 import jsl.moum.community.likes.domain.LikesRepositoryCustom;
@@ -11,6 +14,7 @@ import jsl.moum.community.likes.dto.LikesDto;
 import jsl.moum.community.perform.domain.entity.PerformArticleEntity;
 import jsl.moum.community.perform.domain.repository.PerformArticleRepository;
 import jsl.moum.rank.service.RankingService;
+import jsl.moum.rank.service.TeamRankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,18 +31,20 @@ public class LikesService {
     private final PerformArticleRepository performArticleRepository;
     private final LikesRepositoryCustom likesRepositoryCustom;
     private final RankingService rankingService;
+    private final CounterService counterService;
+    private final TeamRankingService teamRankingService;
 
     public LikesDto.Toggle isMemberLikesArticle(int memberId, int articleId){
         boolean isLikedArticle = likesRepositoryCustom.isAlreadyLikesOnArticle(memberId, articleId);
         ArticleEntity article = findArticle(articleId);
-        int likesCount = article.getLikesCount();
+        int likesCount = getArticleLikesCount(article);
         return new LikesDto.Toggle(isLikedArticle, likesCount);
     }
 
     public LikesDto.Toggle isMemberLikesPerformArticle(int memberId, int performArticleId){
         boolean isLikedArticle = likesRepositoryCustom.isAlreadyLikesOnPerformArticle(memberId, performArticleId);
         PerformArticleEntity performArticle = findPerformArticle(performArticleId);
-        int likesCount = performArticle.getLikesCount();
+        int likesCount = getPerformArticleLikesCount(performArticle);
         return new LikesDto.Toggle(isLikedArticle, likesCount);
     }
 
@@ -55,11 +61,10 @@ public class LikesService {
             // 좋아요 삭제
             likesRepository.deleteById(likesEntity.getId());
 
-            // 게시글 좋아요 수 감소 및 저장
-            article.updateLikesCount(-1);
-            articleRepository.save(article);
+            // 게시글 좋아요 수 감소
+            counterService.increment(CounterTarget.ARTICLE, articleId, CounterField.LIKES, -1);
             rankingService.updateMemberExp(article.getAuthor().getId(), -1);
-            return new LikesDto.Toggle(false, article.getLikesCount());
+            return new LikesDto.Toggle(false, getArticleLikesCount(article));
         }
     }
 
@@ -74,11 +79,10 @@ public class LikesService {
             // 좋아요 삭제
             likesRepository.deleteById(likesEntity.getId());
 
-            // 게시글 좋아요 수 감소 및 저장
-            performArticle.updateLikesCount(-1);
-            performArticleRepository.save(performArticle);
-            performArticle.getTeam().updateTeamExpAndRank(-1);
-            return new LikesDto.Toggle(false, performArticle.getLikesCount());
+            // 게시글 좋아요 수 감소
+            counterService.increment(CounterTarget.PERFORM_ARTICLE, performArticleId, CounterField.LIKES, -1);
+            teamRankingService.updateTeamExp(performArticle.getTeam(), -1);
+            return new LikesDto.Toggle(false, getPerformArticleLikesCount(performArticle));
         }
     }
 
@@ -99,11 +103,10 @@ public class LikesService {
         LikesEntity newLikes = likesRequest.toEntity();
         likesRepository.save(newLikes);
 
-        // 좋아요 +1 후 저장
-        article.updateLikesCount(1);
-        articleRepository.save(article);
+        // 좋아요 +1
+        counterService.increment(CounterTarget.ARTICLE, articleId, CounterField.LIKES, 1);
         rankingService.updateMemberExp(article.getAuthor().getId(), 1);
-        return new LikesDto.Toggle(true, article.getLikesCount());
+        return new LikesDto.Toggle(true, getArticleLikesCount(article));
     }
 
     private LikesDto.Toggle createPerformLikesByMemberId(int memberId, int performArticleId){
@@ -118,13 +121,12 @@ public class LikesService {
         LikesEntity newLikes = likesRequest.toEntity();
         likesRepository.save(newLikes);
 
-        // 좋아요 +1 후 저장
-        performArticle.updateLikesCount(1);
-        performArticleRepository.save(performArticle);
+        // 좋아요 +1
+        counterService.increment(CounterTarget.PERFORM_ARTICLE, performArticleId, CounterField.LIKES, 1);
 
-        performArticle.getTeam().updateTeamExpAndRank(1);
+        teamRankingService.updateTeamExp(performArticle.getTeam(), 1);
 
-        return new LikesDto.Toggle(true, performArticle.getLikesCount());
+        return new LikesDto.Toggle(true, getPerformArticleLikesCount(performArticle));
     }
 
 
@@ -155,9 +157,8 @@ public class LikesService {
         LikesEntity newLikes = likesRequest.toEntity();
         likesRepository.save(newLikes);
 
-        // 좋아요 +1 후 저장
-        article.updateLikesCount(1);
-        articleRepository.save(article);
+        // 좋아요 +1
+        counterService.increment(CounterTarget.ARTICLE, articleId, CounterField.LIKES, 1);
 
         rankingService.updateMemberExp(article.getAuthor().getId(), 1);
 
@@ -186,8 +187,7 @@ public class LikesService {
 
         // 게시글 좋아요 수 감소 및 저장
         ArticleEntity article = findArticle(articleId);
-        article.updateLikesCount(-1);
-        articleRepository.save(article);
+        counterService.increment(CounterTarget.ARTICLE, articleId, CounterField.LIKES, -1);
 
         rankingService.updateMemberExp(article.getAuthor().getId(), -1);
 
@@ -217,11 +217,10 @@ public class LikesService {
         LikesEntity newLikes = likesRequest.toEntity();
         likesRepository.save(newLikes);
 
-        // 좋아요 +1 후 저장
-        //performArticle.updateLikesCount(1);
-        performArticleRepository.save(performArticle);
+        // 좋아요 +1
+        counterService.increment(CounterTarget.PERFORM_ARTICLE, performArticleId, CounterField.LIKES, 1);
 
-        performArticle.getTeam().updateTeamExpAndRank(1);
+        teamRankingService.updateTeamExp(performArticle.getTeam(), 1);
 
         return new LikesDto.Response(newLikes);
     }
@@ -248,14 +247,24 @@ public class LikesService {
 
         // 게시글 좋아요 수 감소 및 저장
         PerformArticleEntity performArticle = findPerformArticle(performArticleId);
-        performArticle.updateLikesCount(-1);
-        performArticleRepository.save(performArticle);
+        counterService.increment(CounterTarget.PERFORM_ARTICLE, performArticleId, CounterField.LIKES, -1);
 
-        performArticle.getTeam().updateTeamExpAndRank(-1);
+        teamRankingService.updateTeamExp(performArticle.getTeam(), -1);
 
         return new LikesDto.Response(likesEntity);
     }
 
+    private int getArticleLikesCount(ArticleEntity article){
+        return article.getLikesCount()
+                + counterService.getPendingDelta(CounterTarget.ARTICLE, article.getId()).get(CounterField.LIKES);
+    }
+
+    private int getPerformArticleLikesCount(PerformArticleEntity performArticle){
+        int likesCount = performArticle.getLikesCount() != null ? performArticle.getLikesCount() : 0;
+        return likesCount
+                + counterService.getPendingDelta(CounterTarget.PERFORM_ARTICLE, performArticle.getId()).get(CounterField.LIKES);
+    }
+
     public ArticleEntity findArticle(int articleId){
         return articleRepository.findById(articleId)
                 .orElseThrow(()-> new CustomException(ErrorCode.ARTICLE_NOT_FOUND));
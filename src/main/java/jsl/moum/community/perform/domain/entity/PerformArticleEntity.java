@@ -9,14 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-@Slf4j
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -60,10 +58,11 @@ public class PerformArticleEntity {
     @Enumerated(EnumType.STRING)
     private MusicGenre genre;
 
-    @Column(name = "likes_count")
+    // 카운터 컬럼은 CounterRepository batch UPDATE 로만 갱신 (dirty checking 으로 덮어쓰지 않도록)
+    @Column(name = "likes_count", updatable = false)
     private Integer likesCount = 0;
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
 
     // 멤버가 참여해있는 공연들
@@ -145,18 +144,4 @@ public class PerformArticleEntity {
             this.genre = genre;
         }
     }
-
-    public void updateLikesCount(int count){
-        if(this.likesCount != null){
-            this.likesCount += count;
-        }
-        log.info("updateLikesCount() method called, likesCount: {}", this.likesCount);
-    }
-
-    public void updateViewCount(int count){
-        if(this.viewCount != null){
-            this.viewCount += count;
-        }
-        log.info("updateViewCount() method called, viewCount: {}", this.viewCount);
-    }
 }
@@ -9,6 +9,8 @@ import jakarta.validation.constraints.NotNull;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.dto.MemberDto;
 import jsl.moum.auth.dto.MusicGenre;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
 import jsl.moum.community.perform.domain.entity.PerformArticleEntity;
 import jsl.moum.community.perform.domain.entity.PerformMember;
 import lombok.AllArgsConstructor;
@@ -77,6 +79,11 @@ public class PerformArticleDto {
         private final Integer viewCount;
 
         public Response(PerformArticleEntity performArticle){
+            this(performArticle, CounterDelta.empty());
+        }
+
+        // DB 값에 아직 flush 되지 않은 카운터 증감량을 더해서 응답
+        public Response(PerformArticleEntity performArticle, CounterDelta pending){
             this.id = performArticle.getId();
             this.teamName = performArticle.getTeam().getTeamName();
             this.teamId = performArticle.getTeam().getId();
@@ -90,8 +97,8 @@ public class PerformArticleDto {
             this.performancePrice = performArticle.getPerformancePrice();
             this.performanceImageUrl = performArticle.getPerformanceImageUrl();
             this.genre = (performArticle.getGenre() != null) ? performArticle.getGenre() : null;
-            this.viewCount = (performArticle.getViewCount() != null ? performArticle.getViewCount() : null);
-            this.likesCount = (performArticle.getLikesCount() != null ? performArticle.getLikesCount() : null);
+            this.viewCount = (performArticle.getViewCount() != null ? performArticle.getViewCount() + pending.get(CounterField.VIEW) : null);
+            this.likesCount = (performArticle.getLikesCount() != null ? performArticle.getLikesCount() + pending.get(CounterField.LIKES) : null);
 
             // 멤버 id만 말고 객체 그대로 리턴할 경우에 이걸로
 //            this.members = performArticle.getPerformMembers().stream()
@@ -3,6 +3,10 @@ package jsl.moum.community.perform.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.community.perform.domain.entity.PerformArticleEntity;
 import jsl.moum.community.perform.domain.entity.PerformMember;
 import jsl.moum.community.perform.domain.repository.PerformArticleRepository;
@@ -32,6 +36,7 @@ import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,6 +52,7 @@ public class PerformArticleService {
     private final PerformArticleRepositoryCustom performArticleRepositoryCustom;
     private final LifecycleRepository lifecycleRepository;
     private final ObjectMapper objectMapper;
+    private final CounterService counterService;
 
     @Value("${ncp.object-storage.bucket}")
     private String bucket;
@@ -155,13 +161,14 @@ public class PerformArticleService {
     /*
         단건 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PerformArticleDto.Response getPerformArticleById(int performArticleId){
         PerformArticleEntity target = performArticleRepository.findById(performArticleId)
                 .orElseThrow(()-> new CustomException(ErrorCode.ILLEGAL_ARGUMENT));
 
-        target.updateViewCount(1);
-        return new PerformArticleDto.Response(target);
+        // 조회수는 row lock 없이 카운터에 누적 후 주기적으로 반영
+        counterService.increment(CounterTarget.PERFORM_ARTICLE, performArticleId, CounterField.VIEW, 1);
+        return new PerformArticleDto.Response(target, counterService.getPendingDelta(CounterTarget.PERFORM_ARTICLE, performArticleId));
     }
 
     /*
@@ -174,7 +181,7 @@ public class PerformArticleService {
             throw new CustomException(ErrorCode.ILLEGAL_ARGUMENT);
         }
 
-        return new PerformArticleDto.Response(target);
+        return new PerformArticleDto.Response(target, counterService.getPendingDelta(CounterTarget.PERFORM_ARTICLE, target.getId()));
     }
 
     /*
@@ -186,11 +193,7 @@ public class PerformArticleService {
                 PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"))
         ).getContent();
 
-        List<PerformArticleDto.Response> responseList = performArticles.stream()
-                .map(PerformArticleDto.Response::new)
-                .toList();
-
-        return responseList;
+        return toResponses(performArticles);
     }
 
     /*
@@ -201,10 +204,7 @@ public class PerformArticleService {
         Pageable pageable = PageRequest.of(page,size);
         Page<PerformArticleEntity> performArticles = performArticleRepositoryCustom.getThisMonthPerformArticles(pageable);
 
-        Page<PerformArticleDto.Response> responseList = performArticles
-                .map(PerformArticleDto.Response::new);
-
-        return responseList;
+        return toResponses(performArticles);
     }
 
     /*
@@ -254,10 +254,31 @@ public class PerformArticleService {
         Pageable pageable = PageRequest.of(page, size);
         Page<PerformArticleEntity> teams = performArticleRepositoryCustom.searchPerformArticlesWithFiltering(searchDto, pageable);
 
-        Page<PerformArticleDto.Response> performArticleList = teams
-                .map(PerformArticleDto.Response::new);
+        return toResponses(teams);
+    }
 
-        return performArticleList;
+    /**
+     * 목록 응답 변환 (대기 중인 카운터 증감량은 한 번에 조회해서 합산)
+     */
+    private List<PerformArticleDto.Response> toResponses(List<PerformArticleEntity> performArticles) {
+        Map<Integer, CounterDelta> pending = getPendingDeltas(performArticles);
+        return performArticles.stream()
+                .map(performArticle -> new PerformArticleDto.Response(performArticle,
+                        pending.getOrDefault(performArticle.getId(), CounterDelta.empty())))
+                .toList();
+    }
+
+    private Page<PerformArticleDto.Response> toResponses(Page<PerformArticleEntity> performArticles) {
+        Map<Integer, CounterDelta> pending = getPendingDeltas(performArticles.getContent());
+        return performArticles.map(performArticle -> new PerformArticleDto.Response(performArticle,
+                pending.getOrDefault(performArticle.getId(), CounterDelta.empty())));
+    }
+
+    private Map<Integer, CounterDelta> getPendingDeltas(List<PerformArticleEntity> performArticles) {
+        List<Integer> performArticleIds = performArticles.stream()
+                .map(PerformArticleEntity::getId)
+                .toList();
+        return counterService.getPendingDeltas(CounterTarget.PERFORM_ARTICLE, performArticleIds);
     }
 
 
@@ -1,11 +1,12 @@
 package jsl.moum.config;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jsl.moum.auth.domain.repository.MemberRepository;
-import jsl.moum.auth.domain.repository.RefreshRepository;
+import jsl.moum.auth.domain.repository.RefreshTokenStore;
 import jsl.moum.auth.jwt.CustomLogoutFilter;
 import jsl.moum.auth.jwt.JwtFilter;
 import jsl.moum.auth.jwt.JwtUtil;
+import jsl.moum.auth.jwt.VerifiedTokenCache;
+import jsl.moum.auth.service.TokenRevocationRegistry;
 import jsl.moum.auth.jwt.LoginFilter;
 import jsl.moum.common.CommonService;
 import lombok.NonNull;
@@ -34,8 +35,9 @@ public class SecurityConfig {
     //AuthenticationManager가 인자로 받을 AuthenticationConfiguraion 객체 생성자 주입
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
-    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenStore refreshTokenStore;
     private final CommonService commonService;
 
     //AuthenticationManager Bean 등록
@@ -70,19 +72,20 @@ public class SecurityConfig {
                         .requestMatchers("/login", "/test/**","/", "/join","/reissue","/send-mail","verify-code","/re-join","/api/health-check","/actuator/**").permitAll()
                         .requestMatchers("/storage/upload").permitAll()
                         .requestMatchers("/public/**").permitAll()
+                        .requestMatchers("/ws/**").permitAll() // 토큰 검증은 ChatHandshakeInterceptor 에서
                         .requestMatchers("*/favicon.ico").permitAll()
                         .requestMatchers("/admin/login", "/admin/logout").permitAll()
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()); // 나머지는 로그인한 유저만 인가허용
 
         http
-                .addFilterBefore(new JwtFilter(jwtUtil), LoginFilter.class);
+                .addFilterBefore(new JwtFilter(verifiedTokenCache, tokenRevocationRegistry), LoginFilter.class);
 
         http
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration),jwtUtil, refreshRepository, memberRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration),jwtUtil, refreshTokenStore), UsernamePasswordAuthenticationFilter.class);
 
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore), LogoutFilter.class);
 
         //세션 설정
         http
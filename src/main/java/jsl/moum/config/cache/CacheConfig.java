@@ -0,0 +1,59 @@
+package jsl.moum.config.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jsl.moum.auth.dto.MemberAuthDto;
+import jsl.moum.auth.service.MemberAuthReader;
+import jsl.moum.community.article.dto.ArticleDetailsDto;
+import jsl.moum.community.article.service.ArticleReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    @Value("${cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${cache.redis.ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisTemplate<String, String> redisTemplate,
+                                             ObjectMapper objectMapper,
+                                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        // blue/green 배포 중 DTO 필드가 추가되어도 이전 버전이 쓴 L2 값을 읽을 수 있도록
+        ObjectMapper cacheObjectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisTemplate,
+                cacheObjectMapper,
+                localMaximumSize,
+                Duration.ofSeconds(localTtlSeconds),
+                Duration.ofSeconds(redisTtlSeconds),
+                Map.of(
+                        ArticleReader.ARTICLE_CACHE, ArticleDetailsDto.Response.class,
+                        MemberAuthReader.MEMBER_AUTH_CACHE, MemberAuthDto.class
+                ),
+                // 인증 정보에는 비밀번호 해시가 포함되므로 Redis(L2)에 저장하지 않음
+                Set.of(MemberAuthReader.MEMBER_AUTH_CACHE)
+        );
+
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.CACHE_INVALIDATE_CHANNEL));
+        return cacheManager;
+    }
+}
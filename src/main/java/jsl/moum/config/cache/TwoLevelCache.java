@@ -0,0 +1,294 @@
+package jsl.moum.config.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * L1(Caffeine, 노드 로컬) + L2(Redis, 노드 공유) 2단 캐시
+ *
+ * 조회 : L1 -> L2 -> (miss 시 호출측에서 DB 조회 후 put)
+ * 저장 : L2, L1 모두 저장
+ * 삭제 : L2, L1 삭제 후 다른 노드에 L1 무효화 메시지 발행
+ *
+ * L2 값은 타입 정보 없이 JSON 으로만 저장(캐시마다 값 타입이 고정)
+ * Redis 장애 시 L2 는 miss 로 취급하고 L1 + DB 로 동작
+ * localOnly 캐시는 L2 에 저장하지 않음 (비밀번호 해시 등 Redis 에 두면 안 되는 값), 무효화 메시지는 그대로 발행
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String KEY_PREFIX = "cache:";
+
+    private final String name;
+    private final Class<?> valueType;
+    private final Cache<String, Object> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final boolean localOnly;
+    private final TwoLevelCacheManager cacheManager;
+
+    public TwoLevelCache(String name, Class<?> valueType, Cache<String, Object> localCache,
+                         RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                         Duration redisTtl, boolean localOnly, TwoLevelCacheManager cacheManager) {
+        super(false);
+        this.name = name;
+        this.valueType = valueType;
+        this.localCache = localCache;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localOnly = localOnly;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null || localOnly) {
+            return value;
+        }
+
+        value = deserialize(getFromRedis(toRedisKey(key)));
+        if (value != null) {
+            localCache.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        try {
+            T loaded = valueLoader.call();
+            put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * 여러 키 한 번에 조회
+     * L1 에 없는 키만 MGET 한 번으로 L2 조회, 둘 다 없는 키는 결과에서 빠짐
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> localMisses = new ArrayList<>();
+        for (Object key : new LinkedHashSet<>(keys)) {
+            Object value = localCache.getIfPresent(toLocalKey(key));
+            if (value != null) {
+                found.put(key, value);
+            } else {
+                localMisses.add(key);
+            }
+        }
+
+        if (localMisses.isEmpty() || localOnly) {
+            return found;
+        }
+
+        List<String> redisValues = multiGetFromRedis(localMisses.stream().map(this::toRedisKey).toList());
+        if (redisValues == null) {
+            return found;
+        }
+
+        for (int i = 0; i < localMisses.size(); i++) {
+            Object value = deserialize(redisValues.get(i));
+            if (value != null) {
+                Object key = localMisses.get(i);
+                found.put(key, value);
+                localCache.put(toLocalKey(key), value);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        putAll(Map.of(key, value));
+    }
+
+    /**
+     * 여러 건 한 번에 저장 (L2 는 파이프라인으로 SET EX)
+     */
+    public void putAll(Map<?, ?> values) {
+        Map<byte[], byte[]> serialized = new HashMap<>();
+        values.forEach((key, value) -> {
+            localCache.put(toLocalKey(key), value);
+            if (localOnly) {
+                return;
+            }
+            String json = serialize(value);
+            if (json != null) {
+                serialized.put(toRedisKey(key).getBytes(StandardCharsets.UTF_8), json.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        if (serialized.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                serialized.forEach((key, value) -> connection.stringCommands()
+                        .set(key, value, Expiration.from(redisTtl), RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("L2 캐시 저장 실패 - cache: {}", name, e);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!localOnly) {
+            try {
+                redisTemplate.delete(toRedisKey(key));
+            } catch (DataAccessException e) {
+                log.error("L2 캐시 삭제 실패 - cache: {}, key: {}", name, key, e);
+            }
+        }
+        evictLocal(toLocalKey(key));
+        cacheManager.publishEviction(name, toLocalKey(key));
+    }
+
+    /**
+     * 여러 키 한 번에 삭제 (L2 는 DEL 한 번)
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (!localOnly) {
+            try {
+                redisTemplate.delete(keys.stream().map(this::toRedisKey).toList());
+            } catch (DataAccessException e) {
+                log.error("L2 캐시 다건 삭제 실패 - cache: {}", name, e);
+            }
+        }
+        for (Object key : keys) {
+            evictLocal(toLocalKey(key));
+            cacheManager.publishEviction(name, toLocalKey(key));
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (localOnly) {
+            clearLocal();
+            cacheManager.publishEviction(name, TwoLevelCacheManager.ALL_KEYS);
+            return;
+        }
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + name + "::*").count(1000).build();
+            List<String> keys = new ArrayList<>();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (DataAccessException e) {
+            log.error("L2 캐시 전체 삭제 실패 - cache: {}", name, e);
+        }
+        clearLocal();
+        cacheManager.publishEviction(name, TwoLevelCacheManager.ALL_KEYS);
+    }
+
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private String getFromRedis(String redisKey) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey);
+        } catch (DataAccessException e) {
+            log.error("L2 캐시 조회 실패 - key: {}", redisKey, e);
+            return null;
+        }
+    }
+
+    private List<String> multiGetFromRedis(List<String> redisKeys) {
+        try {
+            return redisTemplate.opsForValue().multiGet(redisKeys);
+        } catch (DataAccessException e) {
+            log.error("L2 캐시 다건 조회 실패 - cache: {}", name, e);
+            return null;
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("L2 캐시 직렬화 실패 - cache: {}", name, e);
+            return null;
+        }
+    }
+
+    private Object deserialize(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, valueType);
+        } catch (JsonProcessingException e) {
+            // 배포 간 DTO 구조가 바뀐 경우 등 -> miss 로 취급하고 DB 에서 다시 적재
+            log.warn("L2 캐시 역직렬화 실패 - cache: {}", name, e);
+            return null;
+        }
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private String toRedisKey(Object key) {
+        return KEY_PREFIX + name + "::" + key;
+    }
+}
@@ -0,0 +1,99 @@
+package jsl.moum.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TwoLevelCache 를 관리하는 CacheManager
+ * 캐시 이름별 값 타입을 미리 등록해두고(L2 역직렬화용), 등록된 캐시만 제공
+ * localOnlyCacheNames 에 포함된 캐시는 L1 에만 저장 (노드 간 무효화 메시지는 동일하게 사용)
+ *
+ * 한 노드에서 evict/clear 가 일어나면 CACHE_INVALIDATE_CHANNEL 로 메시지를 발행하고
+ * 다른 노드(blue/green 포함)는 메시지를 받아 자신의 L1 만 비움 (L2 는 공유 저장소라 이미 삭제됨)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String CACHE_INVALIDATE_CHANNEL = "cache:invalidate";
+    static final String ALL_KEYS = "*";
+
+    private static final String DELIMITER = "|";
+
+    // 자신이 발행한 무효화 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                long localMaximumSize, Duration localTtl, Duration redisTtl,
+                                Map<String, Class<?>> valueTypes, Set<String> localOnlyCacheNames) {
+        this.redisTemplate = redisTemplate;
+        valueTypes.forEach((name, valueType) -> caches.put(name, new TwoLevelCache(
+                name,
+                valueType,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                redisTemplate,
+                objectMapper,
+                redisTtl,
+                localOnlyCacheNames.contains(name),
+                this
+        )));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    void publishEviction(String cacheName, String localKey) {
+        try {
+            redisTemplate.convertAndSend(CACHE_INVALIDATE_CHANNEL, String.join(DELIMITER, nodeId, cacheName, localKey));
+        } catch (DataAccessException e) {
+            // 다른 노드의 L1 은 TTL 만료로 정리됨
+            log.error("캐시 무효화 메시지 발행 실패 - cache: {}, key: {}", cacheName, localKey, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (ALL_KEYS.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+}
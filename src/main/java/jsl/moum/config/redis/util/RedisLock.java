@@ -0,0 +1,51 @@
+package jsl.moum.config.redis.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 소유자 토큰 기반 Redis 락 (SET NX PX)
+ *
+ * 해제/연장은 값이 내 토큰일 때만 (compare-and-delete / compare-and-expire)
+ * -> 작업이 TTL 을 넘겨 다른 노드가 락을 가져간 뒤에 실수로 그 락을 지우지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 락 획득 시 소유자 토큰, 이미 다른 소유자가 있으면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    public boolean unlock(String key, String token) {
+        Long result = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        return result != null && result == 1L;
+    }
+
+    public boolean extend(String key, String token, Duration ttl) {
+        Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+}
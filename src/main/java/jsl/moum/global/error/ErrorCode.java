@@ -74,6 +74,7 @@ public enum ErrorCode {
     CHATROOM_MEMBER_INVITE_FAIL(400, "F-CH005", "채팅방에 멤버(들) 초대 실패"),
     CHATROOM_MEMBER_REMOVE_FAIL(400, "F-CH006", "채팅방에서 멤버(들) 삭제 실패"),
     CHATROOM_FIND_FAIL(404, "F-CH007", "채팅방이 존재하지 않습니다"),
+    NOT_CHATROOM_MEMBER(403, "F-CH008", "채팅방 멤버가 아닙니다."),
 
     // Team
     MEMBER_ALREADY_INVITED(400, "F-T001", "이미 초대된 멤버입니다."),
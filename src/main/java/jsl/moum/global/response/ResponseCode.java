@@ -74,6 +74,9 @@ public enum ResponseCode {
     CHATROOM_INVITE_SUCCESS(200, "S-CH005", "채팅방에 멤버(들) 초대 성공"),
     CHATROOM_MEMBER_REMOVE_SUCCESS(200, "S-CH006", "채팅방에서 멤버(들) 삭제 성공"),
     CHATROOM_FIND_SUCCESS(200, "S-CH007", "채팅방 조회 성공"),
+    CHAT_MESSAGE_LIST_GET_SUCCESS(200, "S-CH008", "채팅 메시지 목록 조회 성공"),
+    CHAT_READ_SUCCESS(200, "S-CH009", "채팅방 읽음 처리 성공"),
+    CHAT_READ_CURSOR_GET_SUCCESS(200, "S-CH010", "채팅방 읽음 위치 조회 성공"),
 
     // Moum
     CREATE_MOUM_SUCCESS(201,"S-MM001", "모음 생성 성공"),
@@ -17,6 +17,7 @@ import lombok.Builder;
 import lombok.Getter;
 import jsl.moum.moum.team.domain.TeamMemberEntity;
 import jsl.moum.moum.team.dto.TeamDto;
+import jsl.moum.objectstorage.Thumbnails;
 import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
@@ -117,6 +118,11 @@ public class ProfileDto {
                     .collect(Collectors.toList())
                     : null;
         }
+
+        // 목록 화면용 축소 이미지 (원본 업로드 후 비동기 생성)
+        public String getProfileThumbnailUrl(){
+            return Thumbnails.urlOf(profileImageUrl);
+        }
     }
 }
 
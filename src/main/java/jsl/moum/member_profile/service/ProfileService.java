@@ -1,5 +1,7 @@
 package jsl.moum.member_profile.service;
 
+import jsl.moum.auth.event.MemberAuthChangedEvent;
+import jsl.moum.rank.event.LeaderboardChangedEvent;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepositoryCustom;
 import jsl.moum.auth.dto.MemberSortDto;
@@ -7,6 +9,7 @@ import jsl.moum.record.domain.dto.RecordDto;
 import jsl.moum.record.domain.entity.RecordEntity;
 import jsl.moum.record.domain.repository.RecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,7 @@ public class ProfileService {
 
     private final MemberRepository memberRepository;
     private final StorageService storageService;
+    private final ApplicationEventPublisher eventPublisher;
     private final RecordRepository recordRepository;
     private final MemberRepositoryCustom memberRepositoryCustom;
 
@@ -136,6 +140,10 @@ public class ProfileService {
         }
 
         memberRepository.save(memberEntity);
+        // username, 이름이 바뀔 수 있으므로 변경 전 username 기준으로 인증 캐시 삭제
+        eventPublisher.publishEvent(new MemberAuthChangedEvent(loginUserName));
+        // 리더보드에 표시되는 username, 프로필 이미지가 바뀔 수 있으므로 스냅샷 갱신 요청
+        eventPublisher.publishEvent(new LeaderboardChangedEvent());
         return new ProfileDto.Response(memberEntity);
 
     }
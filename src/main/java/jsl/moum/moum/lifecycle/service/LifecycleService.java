@@ -21,6 +21,7 @@ import jsl.moum.moum.lifecycle.dto.LifecyclePracticeRoomDto;
 import jsl.moum.moum.lifecycle.dto.ProcessDto;
 import jsl.moum.moum.team.domain.*;
 import jsl.moum.rank.service.RankingService;
+import jsl.moum.rank.service.TeamRankingService;
 import jsl.moum.objectstorage.StorageService;
 import jsl.moum.record.domain.dto.RecordDto;
 import jsl.moum.record.domain.entity.MoumMemberRecordEntity;
@@ -60,6 +61,7 @@ public class LifecycleService {
     private final PracticeRoomRepository practiceRoomRepository;
     private final PerformanceHallRepository performanceHallRepository;
     private final RankingService rankingService;
+    private final TeamRankingService teamRankingService;
 
     @Value("${ncp.object-storage.bucket}")
     private String bucket;
@@ -260,7 +262,7 @@ public class LifecycleService {
             rankingService.updateMemberExp(member.getId(), 1);
         }
 
-        team.updateTeamExpAndRank(1);
+        teamRankingService.updateTeamExp(team, 1);
 
         moum.getProcess().changeFinishStatus(true);
         moum.getProcess().updateAndGetProcessPercentage();
@@ -298,7 +300,7 @@ public class LifecycleService {
 
         // 팀의 기록 삭제 및 경험치 및 랭킹 업데이트
         team.removeRecord(record);
-        team.updateTeamExpAndRank(-1);
+        teamRankingService.updateTeamExp(team, -1);
 
         // 모음 상태를 다시 되살리기
         moum.getProcess().changeFinishStatus(false);
@@ -22,7 +22,8 @@ import java.util.List;
 @Table(
         name = "team",
         indexes = {
-                @Index(name = "idx_team_leader_id", columnList = "leader_id")
+                @Index(name = "idx_team_leader_id", columnList = "leader_id"),
+                @Index(name = "idx_team_exp", columnList = "exp")
         }
 )
 public class TeamEntity {
@@ -1,8 +1,18 @@
 package jsl.moum.moum.team.domain;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TeamRepository extends JpaRepository<TeamEntity, Integer> {
 
     TeamEntity findByTeamName(String teamName);
+
+    // Redis 장애 시 Fallback을 위한 팀 랭킹 조회 메소드
+    Page<TeamEntity> findByOrderByExpDesc(Pageable pageable);
+
+    @Query("SELECT count(t) + 1 FROM TeamEntity t WHERE t.exp > :exp")
+    long findRankByExp(@Param("exp") Integer exp);
 }
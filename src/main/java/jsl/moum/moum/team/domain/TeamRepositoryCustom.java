@@ -46,13 +46,19 @@ public class TeamRepositoryCustom {
      * 팀 목록 필터링 조회하기 : 랭킹순조회, 멤버수순조회, 검색조회(팀이름+팀설명), 장르별, 지역별
      */
     public Page<TeamEntity> searchTeamsWithFiltering(TeamDto.SearchDto dto, Pageable pageable) {
-        List<TeamEntity> content = jpaQueryFactory
+        JPAQuery<TeamEntity> query = jpaQueryFactory
                 .selectFrom(teamEntity)
-                .leftJoin(teamMemberEntity).on(teamMemberEntity.team.id.eq(teamEntity.id))
                 .where(
                         whereConditions(dto)
-                )
-                .groupBy(teamEntity.id)  // for 멤버수 순
+                );
+
+        // 멤버수 순 정렬일 때만 team_member 조인 + GROUP BY (랭킹순/최신순은 team 인덱스로 정렬)
+        if (Boolean.TRUE.equals(dto.getFilterByMembersCount())) {
+            query.leftJoin(teamMemberEntity).on(teamMemberEntity.team.id.eq(teamEntity.id))
+                    .groupBy(teamEntity.id);
+        }
+
+        List<TeamEntity> content = query
                 .orderBy(
                         orderByConditions(dto).toArray(new OrderSpecifier[0])
                 )
@@ -61,12 +67,11 @@ public class TeamRepositoryCustom {
                 .fetch();
 
         JPAQuery<Long> countQuery = jpaQueryFactory
-                .select(teamEntity.countDistinct())
+                .select(teamEntity.count())
                 .from(teamEntity)
-                .leftJoin(teamMemberEntity).on(teamMemberEntity.team.id.eq(teamEntity.id))
                 .where(
                         whereConditions(dto)
-                ).groupBy(teamEntity.id);
+                );
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
@@ -98,12 +103,12 @@ public class TeamRepositoryCustom {
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
 
         // 랭킹 순
-        if (dto.getFilterByExp()) {
+        if (Boolean.TRUE.equals(dto.getFilterByExp())) {
             orderSpecifiers.add(teamEntity.exp.desc());
         }
 
         // 멤버수
-        if (dto.getFilterByMembersCount()) {
+        if (Boolean.TRUE.equals(dto.getFilterByMembersCount())) {
             orderSpecifiers.add(
                     Expressions.numberTemplate(Long.class, "count({0})", teamMemberEntity.id).desc()
             );
@@ -9,6 +9,7 @@ import jsl.moum.moum.team.domain.TeamEntity;
 import jsl.moum.moum.team.domain.TeamMemberEntity;
 import jsl.moum.rank.Rank;
 import jsl.moum.record.domain.dto.RecordDto;
+import jsl.moum.objectstorage.Thumbnails;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -94,6 +95,11 @@ public class TeamDto {
                     .map(RecordDto.Response::new)
                     .collect(Collectors.toList()) : null;
         }
+
+        // 목록 화면용 축소 이미지 (원본 업로드 후 비동기 생성)
+        public String getThumbnailUrl(){
+            return Thumbnails.urlOf(fileUrl);
+        }
     }
 
 
@@ -11,6 +11,7 @@ import jsl.moum.moum.lifecycle.domain.repository.LifecycleRepository;
 import jsl.moum.moum.lifecycle.domain.entity.LifecycleRepositoryCustom;
 import jsl.moum.moum.team.domain.*;
 import jsl.moum.rank.service.RankingService;
+import jsl.moum.rank.service.TeamRankingService;
 import jsl.moum.objectstorage.StorageService;
 import jsl.moum.record.domain.dto.RecordDto;
 import jsl.moum.record.domain.entity.RecordEntity;
@@ -50,6 +51,7 @@ public class TeamService {
     private final TeamRepositoryCustom teamRepositoryCustom;
     private final ObjectMapper objectMapper;
     private final RankingService rankingService;
+    private final TeamRankingService teamRankingService;
 
     @Value("${ncp.object-storage.bucket}")
     private String bucket;
@@ -140,7 +142,7 @@ public class TeamService {
 
         teamRepository.save(newTeam);
 
-        newTeam.updateTeamExpAndRank(1);
+        teamRankingService.updateTeamExp(newTeam, 1);
 
         TeamMemberEntity teamMember = TeamMemberEntity.builder()
                 .team(newTeam)
@@ -186,7 +188,7 @@ public class TeamService {
         // 팀 멤버 저장
         teamMemberRepository.save(teamMember);
 
-        team.updateTeamExpAndRank(1);
+        teamRankingService.updateTeamExp(team, 1);
         updateAllMembersExp(teamId,1);
 
         return new MemberDto.Response(targetMember); // 팀 정보 반환
@@ -272,7 +274,7 @@ public class TeamService {
         teamMemberRepositoryCustom.deleteTeamMemberTable(teamId);
         teamRepository.deleteById(teamId);
 
-        targetTeam.updateTeamExpAndRank(-1);
+        teamRankingService.removeTeam(teamId);
         updateAllMembersExp(teamId,-1);
 
         return new TeamDto.Response(targetTeam);
@@ -310,7 +312,7 @@ public class TeamService {
         // 강퇴 대상 멤버가 팀의 멤버인지 확인
         teamMemberRepositoryCustom.deleteMemberFromTeamById(teamId, targetMemberId);
 
-        team.updateTeamExpAndRank(-1);
+        teamRankingService.updateTeamExp(team, -1);
         updateAllMembersExp(teamId,-1);
 
         return new TeamDto.Response(team);
@@ -332,7 +334,7 @@ public class TeamService {
             throw new CustomException(ErrorCode.NOT_TEAM_MEMBER);
         }
 
-        team.updateTeamExpAndRank(-1);
+        teamRankingService.updateTeamExp(team, -1);
         updateAllMembersExp(teamId,-1);
 
         teamMemberRepositoryCustom.deleteMemberFromTeamById(teamId, member.getId());
@@ -0,0 +1,121 @@
+package jsl.moum.objectstorage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 여러 파일 병렬 업로드
+ *
+ * - 업로드 전용 bounded 스레드풀에서 StorageService 업로드를 실행 (큐가 가득 차면 요청 스레드에서 직접 실행)
+ * - 호출측은 DB 트랜잭션 밖에서 호출하여 업로드 동안 커넥션을 점유하지 않도록 한다
+ * - 하나라도 실패하면 이미 올라간 파일은 삭제(보상)하고 예외를 그대로 던짐
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncStorageService {
+
+    private final StorageService storageService;
+
+    @Value("${ncp.object-storage.upload.pool-size:8}")
+    private int poolSize;
+
+    @Value("${ncp.object-storage.upload.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolTaskExecutor uploadExecutor;
+
+    @PostConstruct
+    public void init() {
+        uploadExecutor = new ThreadPoolTaskExecutor();
+        uploadExecutor.setCorePoolSize(poolSize);
+        uploadExecutor.setMaxPoolSize(poolSize);
+        uploadExecutor.setQueueCapacity(queueCapacity);
+        uploadExecutor.setThreadNamePrefix("storage-upload-");
+        uploadExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        uploadExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
+    /**
+     * 이미지 한 건 비동기 업로드, 완료 시 파일 URL
+     */
+    public CompletableFuture<String> uploadImageAsync(String key, MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return storageService.uploadImage(key, file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, uploadExecutor);
+    }
+
+    /**
+     * 이미지 여러 건 병렬 업로드 후 모두 끝날 때까지 대기
+     * 반환 URL 순서는 filesByKey 순회 순서와 같음 (순서가 필요하면 LinkedHashMap 사용)
+     */
+    public List<String> uploadImages(Map<String, MultipartFile> filesByKey) throws IOException {
+        List<String> keys = new ArrayList<>(filesByKey.keySet());
+        List<CompletableFuture<String>> futures = keys.stream()
+                .map(key -> uploadImageAsync(key, filesByKey.get(key)))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            deleteUploaded(keys, futures);
+            throw unwrap(e);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 실패한 업로드가 있으면 성공한 것만 골라 삭제
+     */
+    private void deleteUploaded(List<String> keys, List<CompletableFuture<String>> futures) {
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<String> future = futures.get(i);
+            if (future.isCompletedExceptionally() || future.join() == null) {
+                continue;
+            }
+            try {
+                storageService.deleteFile(keys.get(i));
+            } catch (RuntimeException e) {
+                log.error("업로드 보상 삭제 실패 - key: {}", keys.get(i), e);
+            }
+        }
+    }
+
+    private IOException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CustomException customException) {
+            throw customException;
+        }
+        if (cause instanceof UncheckedIOException uncheckedIOException) {
+            return uncheckedIOException.getCause();
+        }
+        log.error("파일 업로드 실패", cause);
+        throw new CustomException(ErrorCode.FILE_UPLOAD_FAIL);
+    }
+}
@@ -0,0 +1,174 @@
+package jsl.moum.objectstorage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jsl.moum.objectstorage.event.ImageUploadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 업로드된 이미지의 썸네일 생성
+ *
+ * 업로드 요청과 분리하기 위해 원본을 Object Storage 에서 다시 받아 별도 스레드풀에서 처리
+ * (multipart 임시 파일은 요청이 끝나면 지워지므로 요청 스레드의 스트림을 넘기지 않음)
+ * 썸네일은 부가 기능이므로 큐가 가득 차거나 실패하면 로그만 남기고 건너뜀
+ * 디코딩 전에 헤더에서 크기를 읽어 픽셀 수가 큰 이미지는 디코딩하지 않음 (메모리 보호)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageDerivativeService {
+
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private final StorageService storageService;
+
+    @Value("${image.thumbnail.max-size:320}")
+    private int maxSize;
+
+    @Value("${image.thumbnail.quality:0.8}")
+    private float quality;
+
+    @Value("${image.thumbnail.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${image.thumbnail.pool-size:2}")
+    private int poolSize;
+
+    @Value("${image.thumbnail.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolTaskExecutor thumbnailExecutor;
+
+    @PostConstruct
+    public void init() {
+        thumbnailExecutor = new ThreadPoolTaskExecutor();
+        thumbnailExecutor.setCorePoolSize(poolSize);
+        thumbnailExecutor.setMaxPoolSize(poolSize);
+        thumbnailExecutor.setQueueCapacity(queueCapacity);
+        thumbnailExecutor.setThreadNamePrefix("thumbnail-");
+        thumbnailExecutor.setRejectedExecutionHandler((task, executor) -> log.warn("썸네일 작업 큐 초과 - 생성 건너뜀"));
+        thumbnailExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailExecutor.shutdown();
+    }
+
+    @EventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        if (Thumbnails.isThumbnailKey(event.getKey()) || !Thumbnails.isSupported(event.getKey())) {
+            return;
+        }
+        thumbnailExecutor.execute(() -> createThumbnail(event.getKey()));
+    }
+
+    void createThumbnail(String key) {
+        try {
+            String thumbnailKey = Thumbnails.keyOf(key);
+            byte[] thumbnail = resize(storageService.downloadFile(key));
+            if (thumbnail == null) {
+                // 썸네일 URL 이 404 로 남지 않도록 원본을 그대로 복사
+                log.debug("썸네일 생성 불가 - 원본 복사. key: {}", key);
+                storageService.copyFile(key, thumbnailKey);
+            } else {
+                storageService.uploadFile(thumbnailKey, thumbnail, THUMBNAIL_CONTENT_TYPE);
+            }
+            // 생성 중 원본이 삭제되었으면(업로드 보상 삭제 등) 썸네일도 삭제
+            if (!storageService.exists(key)) {
+                log.debug("원본이 삭제되어 썸네일 삭제 - key: {}", key);
+                storageService.deleteFile(thumbnailKey);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("썸네일 생성 실패 - key: {}", key, e);
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소한 JPEG (원본이 더 작으면 크기 유지, 투명 배경은 흰색)
+     * ImageIO 가 읽지 못하는 형식(webp, heic)이거나 픽셀 수가 maxPixels 를 넘으면 null
+     */
+    byte[] resize(byte[] original) throws IOException {
+        BufferedImage source = decode(original);
+        if (source == null) {
+            return null;
+        }
+
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(target, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 헤더에서 크기만 먼저 읽어 픽셀 예산을 확인한 뒤, 썸네일 크기의 2배 정도로 서브샘플링하여 디코딩
+     */
+    private BufferedImage decode(byte[] original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("썸네일 대상 이미지가 너무 큼 - {}x{}", width, height);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -2,9 +2,11 @@ package jsl.moum.objectstorage;
 
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.exception.CustomException;
+import jsl.moum.objectstorage.event.ImageUploadedEvent;
 import lombok.RequiredArgsConstructor;
 import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -12,9 +14,16 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +33,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class StorageService {
 
+    // Tika 는 thread-safe 하므로 요청마다 생성하지 않고 공유
+    private static final Tika TIKA = new Tika();
+
     private final S3Client s3Client;
+    private final ApplicationEventPublisher eventPublisher;
     private final List<String> allowedImageTypes = List.of("image/jpeg", "image/png", "image/gif", "image/bmp", "image/tiff", "image/webp", "image/heic");
 
     @Value("${ncp.object-storage.bucket}")
@@ -34,30 +47,43 @@ public class StorageService {
      * S3에 업로드
      */
     public String uploadFile(String key, MultipartFile multipartFile) throws IOException {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return putObject(key, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+        }
+    }
+
+    /**
+     * 이미지 업로드
+     * 스트림을 한 번만 열어 앞부분(헤더)으로 형식을 판별한 뒤 reset 하여 그대로 S3로 전송
+     * Content-Type 은 클라이언트가 보낸 값 대신 판별된 값을 사용
+     */
+    public String uploadImage(String key, MultipartFile multipartFile) throws IOException {
+        if(multipartFile.isEmpty()){
+            return null;
+        }
+        try (InputStream inputStream = new BufferedInputStream(multipartFile.getInputStream())) {
+            String detectedMimeType = detectImageType(inputStream);
+            String fileUrl = putObject(key, inputStream, multipartFile.getSize(), detectedMimeType);
+            // 썸네일은 비동기로 생성 (ImageDerivativeService)
+            eventPublisher.publishEvent(new ImageUploadedEvent(key));
+            return fileUrl;
+        }
+    }
+
+    private String putObject(String key, InputStream inputStream, long size, String contentType) {
         s3Client.putObject(
                 PutObjectRequest.builder()
                         .bucket(bucket)
                         .key(key)
-                        .contentType(multipartFile.getContentType())
+                        .contentType(contentType)
                         .acl("public-read")
                         .build(),
-                RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize())
+                RequestBody.fromInputStream(inputStream, size)
         );
         // NCP에서 파일 URL 반환
         return "https://kr.object.ncloudstorage.com/" + bucket + "/" + key;
     }
 
-    public String uploadImage(String key, MultipartFile multipartFile) throws IOException {
-        if(multipartFile.isEmpty()){
-            return null;
-        }
-        if(!isValidImageType(multipartFile)){
-            throw new CustomException(ErrorCode.INVALID_FILE_TYPE);
-        }
-        String fileUrl = uploadFile(key, multipartFile);
-        return fileUrl;
-    }
-
     /**
      * S3에 QR 이미지 업로드 전용
      */
@@ -75,6 +101,13 @@ public class StorageService {
         return "https://kr.object.ncloudstorage.com/" + bucket + "/" + key;
     }
 
+    /**
+     * S3에 메모리 상의 파일 업로드 (썸네일 등 서버에서 생성한 파일)
+     */
+    public String uploadFile(String key, byte[] bytes, String contentType) {
+        return putObject(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
     /**
      * S3에 여러 파일 업로드
      */
@@ -102,6 +135,55 @@ public class StorageService {
         ).readAllBytes();
     }
 
+    /**
+     * S3 내부 복사 (썸네일을 만들 수 없는 이미지는 원본을 썸네일 경로로 복사)
+     */
+    public void copyFile(String sourceKey, String targetKey) {
+        s3Client.copyObject(
+                CopyObjectRequest.builder()
+                        .sourceBucket(bucket)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(bucket)
+                        .destinationKey(targetKey)
+                        .acl("public-read")
+                        .build()
+        );
+    }
+
+    /**
+     * S3에 파일이 존재하는지 확인
+     */
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(
+                    HeadObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .build()
+            );
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * prefix 아래 모든 key 목록 (1,000개 단위 페이지를 이어서 조회)
+     */
+    public List<String> listKeys(String prefix) {
+        List<String> keys = new ArrayList<>();
+        s3Client.listObjectsV2Paginator(
+                ListObjectsV2Request.builder()
+                        .bucket(bucket)
+                        .prefix(prefix)
+                        .build()
+        ).contents().forEach(object -> keys.add(object.key()));
+        return keys;
+    }
+
     /**
      * S3에서 파일 삭제
      */
@@ -112,13 +194,27 @@ public class StorageService {
                         .key(key)
                         .build()
         );
+        // 썸네일도 함께 삭제 (없는 key 삭제는 오류 없이 무시됨)
+        if (!Thumbnails.isThumbnailKey(key)) {
+            s3Client.deleteObject(
+                    DeleteObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(Thumbnails.keyOf(key))
+                            .build()
+            );
+        }
     }
 
-    private boolean isValidImageType(MultipartFile file){
-        Tika tika = new Tika();
+    /**
+     * mark/reset 을 지원하는 스트림이면 Tika 가 헤더만 읽고 위치를 되돌림
+     */
+    private String detectImageType(InputStream inputStream) {
         try {
-            String detectedMimeType = tika.detect(file.getInputStream()).toLowerCase();
-            return allowedImageTypes.contains(detectedMimeType);
+            String detectedMimeType = TIKA.detect(inputStream).toLowerCase();
+            if (!allowedImageTypes.contains(detectedMimeType)) {
+                throw new CustomException(ErrorCode.INVALID_FILE_TYPE);
+            }
+            return detectedMimeType;
         } catch (IOException e) {
             throw new CustomException(ErrorCode.INVALID_FILE_TYPE);
         }
@@ -0,0 +1,76 @@
+package jsl.moum.objectstorage;
+
+import jsl.moum.config.redis.util.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기동 시 썸네일이 없는 기존 이미지의 썸네일 생성
+ *
+ * 썸네일 URL 을 내려주는 경로(게시글, 팀, 채팅방, 프로필)만 대상
+ * 이미 썸네일이 있는 이미지는 건너뛰므로 한 번 채운 뒤에는 목록 조회만 하고 끝남
+ * (업로드 시 큐 초과로 건너뛴 썸네일도 다음 기동 시 채워짐)
+ * 여러 노드가 동시에 기동해도 락을 잡은 한 노드만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ThumbnailBackfill {
+
+    private static final List<String> IMAGE_PREFIXES = List.of("articles/", "teams/", "chatrooms/", "profiles/");
+    private static final String LOCK_KEY = "image:thumbnail:backfill-lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final StorageService storageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final RedisLock redisLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String lockToken;
+        try {
+            lockToken = redisLock.tryLock(LOCK_KEY, LOCK_TTL);
+        } catch (RuntimeException e) {
+            log.error("썸네일 채우기 락 획득 실패. 다음 기동 시 다시 시도합니다.", e);
+            return;
+        }
+        if (lockToken == null) {
+            return; // 다른 노드가 실행 중
+        }
+
+        try {
+            int created = 0;
+            for (String prefix : IMAGE_PREFIXES) {
+                created += backfill(prefix);
+            }
+            if (created > 0) {
+                log.info("기존 이미지 썸네일 채움 - {}건", created);
+            }
+        } catch (RuntimeException e) {
+            log.error("기존 이미지 썸네일 채우기 실패. 다음 기동 시 다시 시도합니다.", e);
+        } finally {
+            redisLock.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    private int backfill(String prefix) {
+        Set<String> thumbnailKeys = new HashSet<>(storageService.listKeys(Thumbnails.keyOf(prefix)));
+        int created = 0;
+        for (String key : storageService.listKeys(prefix)) {
+            if (!Thumbnails.isSupported(key) || thumbnailKeys.contains(Thumbnails.keyOf(key))) {
+                continue;
+            }
+            imageDerivativeService.createThumbnail(key);
+            created++;
+        }
+        return created;
+    }
+}
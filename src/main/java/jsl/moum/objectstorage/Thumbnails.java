@@ -0,0 +1,56 @@
+package jsl.moum.objectstorage;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 썸네일 key / URL 규칙
+ *
+ * 원본   : {bucket}/{key}
+ * 썸네일 : {bucket}/thumbnails/{key}  (JPEG, 긴 변 기준 축소)
+ *
+ * 썸네일은 업로드 후 비동기로 생성되므로 업로드 직후에는 아직 없을 수 있음
+ * -> 클라이언트는 썸네일 로드 실패 시 원본 URL 로 대체
+ * 썸네일 생성 이전에 올라온 이미지는 ThumbnailBackfill 이 기동 시 채움
+ * 썸네일을 만들 수 없는 형식(webp, heic)은 URL 을 내려주지 않고, 그 외 읽지 못한 이미지는 원본을 복사해 둠
+ */
+public final class Thumbnails {
+
+    public static final String KEY_PREFIX = "thumbnails/";
+    private static final String STORAGE_HOST = "https://kr.object.ncloudstorage.com/";
+    private static final List<String> UNSUPPORTED_EXTENSIONS = List.of(".webp", ".heic", ".heif");
+
+    private Thumbnails() {
+    }
+
+    public static String keyOf(String key) {
+        return KEY_PREFIX + key;
+    }
+
+    public static boolean isThumbnailKey(String key) {
+        return key.startsWith(KEY_PREFIX);
+    }
+
+    /**
+     * 원본 URL -> 썸네일 URL (Object Storage URL 이 아니거나 썸네일을 만들 수 없는 형식이면 null)
+     */
+    public static String urlOf(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(STORAGE_HOST) || !isSupported(imageUrl)) {
+            return null;
+        }
+        String path = imageUrl.substring(STORAGE_HOST.length());
+        int bucketEnd = path.indexOf('/');
+        if (bucketEnd < 0) {
+            return null;
+        }
+        return STORAGE_HOST + path.substring(0, bucketEnd + 1) + KEY_PREFIX + path.substring(bucketEnd + 1);
+    }
+
+    /**
+     * 썸네일을 만들 수 있는 형식인지 (key / URL 의 확장자 기준)
+     */
+    public static boolean isSupported(String keyOrUrl) {
+        String lower = keyOrUrl.toLowerCase(Locale.ROOT);
+        return UNSUPPORTED_EXTENSIONS.stream().noneMatch(lower::endsWith);
+    }
+}
@@ -0,0 +1,14 @@
+package jsl.moum.objectstorage.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이미지 원본이 Object Storage 에 업로드된 직후 발행되는 이벤트
+ * 썸네일 등 파생 이미지 생성에 사용
+ */
+@Getter
+@AllArgsConstructor
+public class ImageUploadedEvent {
+    private final String key;
+}
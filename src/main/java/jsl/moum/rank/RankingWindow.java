@@ -0,0 +1,29 @@
+package jsl.moum.rank;
+
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기간별 랭킹 집계 구간 (오늘 포함 최근 days 일)
+ */
+@Getter
+@AllArgsConstructor
+public enum RankingWindow {
+    DAILY("일간", 1),
+    WEEKLY("주간", 7),
+    MONTHLY("월간", 30);
+
+    private final String description;
+    private final int days;
+
+    public static RankingWindow from(String value) {
+        for (RankingWindow window : values()) {
+            if (window.name().equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new CustomException(ErrorCode.ILLEGAL_ARGUMENT);
+    }
+}
@@ -1,8 +1,12 @@
 package jsl.moum.rank.controller;
 
 import jsl.moum.auth.domain.CustomUserDetails;
+import jsl.moum.rank.RankingWindow;
 import jsl.moum.rank.dto.RankingInfoResponse;
+import jsl.moum.rank.dto.TeamRankingInfoResponse;
 import jsl.moum.rank.service.RankingService;
+import jsl.moum.rank.service.TeamRankingService;
+import jsl.moum.rank.service.WindowedRankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,6 +23,8 @@ import java.util.List;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final TeamRankingService teamRankingService;
+    private final WindowedRankingService windowedRankingService;
 
     @GetMapping("/top/{topN}")
     public ResponseEntity<List<RankingInfoResponse>> getTopRankings(@PathVariable int topN) {
@@ -26,6 +32,13 @@ public class RankingController {
         return ResponseEntity.ok(topRankings);
     }
 
+    // window: daily, weekly, monthly
+    @GetMapping("/window/{window}/top/{topN}")
+    public ResponseEntity<List<RankingInfoResponse>> getWindowTopRankings(@PathVariable String window, @PathVariable int topN) {
+        List<RankingInfoResponse> topRankings = windowedRankingService.getTopRankings(RankingWindow.from(window), topN);
+        return ResponseEntity.ok(topRankings);
+    }
+
     @GetMapping("/me")
     public ResponseEntity<RankingInfoResponse> getMyRank(@AuthenticationPrincipal CustomUserDetails userDetails) {
         RankingInfoResponse memberRank = rankingService.getMyRank(userDetails);
@@ -34,4 +47,19 @@ public class RankingController {
         }
         return ResponseEntity.ok(memberRank);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/teams/top/{topN}")
+    public ResponseEntity<List<TeamRankingInfoResponse>> getTopTeamRankings(@PathVariable int topN) {
+        List<TeamRankingInfoResponse> topTeamRankings = teamRankingService.getTopTeamRankings(topN);
+        return ResponseEntity.ok(topTeamRankings);
+    }
+
+    @GetMapping("/teams/{teamId}")
+    public ResponseEntity<TeamRankingInfoResponse> getTeamRank(@PathVariable int teamId) {
+        TeamRankingInfoResponse teamRank = teamRankingService.getTeamRank(teamId);
+        if (teamRank == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(teamRank);
+    }
+}
@@ -0,0 +1,15 @@
+package jsl.moum.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경험치 반영 결과 (반영 전/후 exp) - 경험치 분포 히스토그램 갱신용
+ */
+@Getter
+@AllArgsConstructor
+public class ExpChange {
+    private final Integer memberId;
+    private final int beforeExp;
+    private final int afterExp;
+}
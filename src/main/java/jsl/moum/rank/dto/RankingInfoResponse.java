@@ -11,6 +11,8 @@ public class RankingInfoResponse {
     private Integer memberId;
     private String username;
     private Integer exp;
+    private Integer gainedExp; // 기간별 랭킹 조회 시 해당 기간에 획득한 경험치
     private Rank tier;
     private String profileImageUrl;
+    private Double topPercentile; // 상위 몇 % 인지 (경험치 히스토그램 기준)
 }
@@ -0,0 +1,16 @@
+package jsl.moum.rank.dto;
+
+import jsl.moum.rank.Rank;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TeamRankingInfoResponse {
+    private Long rank;
+    private Integer teamId;
+    private String teamName;
+    private Integer exp;
+    private Rank tier;
+    private String fileUrl;
+}
@@ -0,0 +1,8 @@
+package jsl.moum.rank.event;
+
+/**
+ * 랭킹 점수 외에 리더보드에 표시되는 정보(username, 프로필 이미지 등)가 바뀐 경우 발행되는 이벤트
+ * 커밋 이후 랭킹 버전을 올려 각 노드의 리더보드 스냅샷을 다시 만들도록 함
+ */
+public class LeaderboardChangedEvent {
+}
@@ -0,0 +1,22 @@
+package jsl.moum.rank.event;
+
+import jsl.moum.rank.service.RankingRedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class LeaderboardChangedEventListener {
+
+    private final RankingRedisService rankingRedisService;
+
+    /**
+     * 커밋 이후에 버전을 올려야 스냅샷 재구성 시 변경된 회원 정보를 읽음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLeaderboardChanged(LeaderboardChangedEvent event) {
+        rankingRedisService.publishRankingChanged();
+    }
+}
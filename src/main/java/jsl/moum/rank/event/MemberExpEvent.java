@@ -0,0 +1,15 @@
+package jsl.moum.rank.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 멤버 경험치 변경 이벤트
+ * 발행 측(좋아요, 댓글, 게시글 작성 등)은 이벤트만 던지고, 실제 반영은 MemberExpAggregator가 모아서 처리
+ */
+@Getter
+@AllArgsConstructor
+public class MemberExpEvent {
+    private final Integer memberId;
+    private final int expToAdd;
+}
@@ -0,0 +1,23 @@
+package jsl.moum.rank.event;
+
+import jsl.moum.rank.service.MemberExpAggregator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class MemberExpEventListener {
+
+    private final MemberExpAggregator memberExpAggregator;
+
+    /**
+     * 발행 측 트랜잭션이 커밋된 경우에만 누적 (롤백된 좋아요/댓글에 경험치가 쌓이지 않도록)
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 누적
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberExpEvent(MemberExpEvent event) {
+        memberExpAggregator.add(event.getMemberId(), event.getExpToAdd());
+    }
+}
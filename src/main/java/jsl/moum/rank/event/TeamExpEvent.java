@@ -0,0 +1,15 @@
+package jsl.moum.rank.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팀 경험치 변경 이벤트 (팀 삭제 시 removed = true)
+ */
+@Getter
+@AllArgsConstructor
+public class TeamExpEvent {
+    private final Integer teamId;
+    private final int expToAdd;
+    private final boolean removed;
+}
@@ -0,0 +1,26 @@
+package jsl.moum.rank.event;
+
+import jsl.moum.rank.service.TeamRankingRedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TeamExpEventListener {
+
+    private final TeamRankingRedisService teamRankingRedisService;
+
+    /**
+     * 팀 엔티티 변경이 커밋된 이후에만 Redis 팀 랭킹 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamExpEvent(TeamExpEvent event) {
+        if (event.isRemoved()) {
+            teamRankingRedisService.removeTeam(event.getTeamId());
+        } else {
+            teamRankingRedisService.incrementTeamScore(event.getTeamId(), event.getExpToAdd());
+        }
+    }
+}
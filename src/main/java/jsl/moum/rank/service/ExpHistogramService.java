@@ -0,0 +1,125 @@
+package jsl.moum.rank.service;
+
+import jsl.moum.batch.RankingSyncBatchConfig;
+import jsl.moum.rank.dto.ExpChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경험치 분포 히스토그램 (Redis Hash, field = exp, value = 해당 exp 를 가진 멤버 수)
+ *
+ * Top N 밖의 멤버 순위를 member 테이블 count 스캔 없이 O(버킷 수)로 계산하기 위해 사용
+ * 경험치 반영 / 회원가입 시 증분 갱신, rankingRebuildJob 에서 전체 재구성
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExpHistogramService {
+
+    public static final String HISTOGRAM_KEY = RankingSyncBatchConfig.RANKING_KEY + ":histogram";
+    private static final String STAGING_KEY = HISTOGRAM_KEY + ":staging";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void memberJoined(Integer exp) {
+        try {
+            redisTemplate.opsForHash().increment(HISTOGRAM_KEY, String.valueOf(exp == null ? 0 : exp), 1);
+        } catch (DataAccessException e) {
+            log.error("Redis 경험치 히스토그램 갱신 실패. 다음 재구성 배치에서 보정됩니다.", e);
+        }
+    }
+
+    /**
+     * 반영 전 exp 버킷 -1, 반영 후 exp 버킷 +1 (버킷별로 합친 뒤 파이프라인으로 전송)
+     */
+    public void applyChanges(List<ExpChange> changes) {
+        Map<Integer, Long> bucketDeltas = new HashMap<>();
+        for (ExpChange change : changes) {
+            if (change.getBeforeExp() != change.getAfterExp()) {
+                bucketDeltas.merge(change.getBeforeExp(), -1L, Long::sum);
+                bucketDeltas.merge(change.getAfterExp(), 1L, Long::sum);
+            }
+        }
+        bucketDeltas.values().removeIf(delta -> delta == 0);
+        if (bucketDeltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            byte[] key = HISTOGRAM_KEY.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                bucketDeltas.forEach((exp, delta) -> connection.hashCommands()
+                        .hIncrBy(key, String.valueOf(exp).getBytes(StandardCharsets.UTF_8), delta));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("Redis 경험치 히스토그램 갱신 실패. 다음 재구성 배치에서 보정됩니다.", e);
+        }
+    }
+
+    /**
+     * exp 기준 순위 (나보다 exp 가 높은 멤버 수 + 1) 와 전체 멤버 수
+     * 히스토그램이 없거나 Redis 장애 시 null 반환하여 Fallback 트리거
+     */
+    public RankPosition getRankPosition(int exp) {
+        Map<Object, Object> histogram;
+        try {
+            histogram = redisTemplate.opsForHash().entries(HISTOGRAM_KEY);
+        } catch (DataAccessException e) {
+            log.error("Redis 경험치 히스토그램 조회 실패. Fallback을 시도합니다.", e);
+            return null;
+        }
+        if (histogram == null || histogram.isEmpty()) {
+            return null;
+        }
+
+        long higher = 0;
+        long total = 0;
+        for (Map.Entry<Object, Object> bucket : histogram.entrySet()) {
+            long count = Long.parseLong(bucket.getValue().toString());
+            total += count;
+            if (Integer.parseInt(bucket.getKey().toString()) > exp) {
+                higher += count;
+            }
+        }
+        return new RankPosition(higher + 1, total);
+    }
+
+    /**
+     * 전체 재구성 (staging 에 적재 후 RENAME 으로 교체)
+     */
+    public void rebuild(Map<Integer, Long> countsByExp) {
+        redisTemplate.delete(STAGING_KEY);
+        if (countsByExp.isEmpty()) {
+            redisTemplate.delete(HISTOGRAM_KEY);
+            return;
+        }
+
+        Map<String, String> entries = new HashMap<>();
+        countsByExp.forEach((exp, count) -> entries.put(String.valueOf(exp), String.valueOf(count)));
+        redisTemplate.opsForHash().putAll(STAGING_KEY, entries);
+        redisTemplate.rename(STAGING_KEY, HISTOGRAM_KEY);
+        log.info("경험치 히스토그램 재구성 완료. 버킷 수: {}", entries.size());
+    }
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(HISTOGRAM_KEY));
+    }
+
+    public record RankPosition(long rank, long total) {
+
+        // 상위 몇 % 인지 (소수점 둘째 자리까지)
+        public double topPercentile() {
+            return total == 0 ? 0 : Math.round(rank * 10000.0 / total) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package jsl.moum.rank.service;
+
+import jakarta.annotation.PostConstruct;
+import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.rank.dto.RankingInfoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 노드별 상위 랭킹 스냅샷 (rank + username/tier/profileImage 까지 조인된 결과)
+ *
+ * 랭킹 Sorted Set 이 바뀌면 RankingRedisService 가 버전을 올리고 채널로 알림 -> 스냅샷 재구성
+ * 알림이 몰려도 재구성은 refresh-interval 마다 최대 한 번 (알림은 표시만 하고 주기 작업에서 재구성)
+ * 알림이 유실되는 경우를 대비해 주기적으로 버전도 비교
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardCache implements MessageListener {
+
+    public static final int MAX_SIZE = 100;
+
+    private final RankingRedisService rankingRedisService;
+    private final MemberRepository memberRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean changed = new AtomicBoolean(false);
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RankingRedisService.RANKING_CHANGED_CHANNEL));
+    }
+
+    public List<RankingInfoResponse> getTopRankings(int topN) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = refresh();
+        }
+        List<RankingInfoResponse> rankings = current.rankings();
+        return rankings.subList(0, Math.min(topN, rankings.size()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        changed.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.leaderboard-refresh-interval-ms:1000}")
+    public void refreshIfChanged() {
+        if (changed.getAndSet(false)) {
+            refreshIfStale();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.leaderboard-poll-interval-ms:10000}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot;
+        Long version = rankingRedisService.getRankingVersion();
+        // version 이 null 이면 Redis 장애 상태 -> RDB Fallback 결과로 계속 갱신
+        if (current == null || version == null || !Objects.equals(version, current.version())) {
+            refresh();
+        }
+    }
+
+    private synchronized Snapshot refresh() {
+        // 버전을 먼저 읽어야 재구성 도중 바뀐 내용이 다음 갱신에서 누락되지 않음
+        Long version = rankingRedisService.getRankingVersion();
+        List<RankingInfoResponse> rankings = loadFromRedis();
+        if (rankings == null) {
+            // Redis 장애 발생 또는 데이터 없음. RDB Fallback
+            log.warn("Redis 랭킹 조회 실패 또는 데이터 없음. RDB에서 Fallback 조회 시도.");
+            rankings = loadFromRdb();
+            version = null;
+        }
+
+        Snapshot refreshed = new Snapshot(version, List.copyOf(rankings));
+        snapshot = refreshed;
+        log.debug("리더보드 스냅샷 갱신. version: {}, size: {}", version, rankings.size());
+        return refreshed;
+    }
+
+    private List<RankingInfoResponse> loadFromRedis() {
+        Set<ZSetOperations.TypedTuple<String>> typedTuples = rankingRedisService.getTopRankersWithScores(MAX_SIZE);
+        if (typedTuples == null || typedTuples.isEmpty()) {
+            return null;
+        }
+
+        List<Integer> memberIds = typedTuples.stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .map(Integer::parseInt)
+                .collect(Collectors.toList());
+
+        Map<Integer, MemberEntity> memberMap = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(MemberEntity::getId, Function.identity()));
+
+        long rank = 1;
+        List<RankingInfoResponse> responseList = new ArrayList<>();
+        for (Integer memberId : memberIds) {
+            MemberEntity member = memberMap.get(memberId);
+            if (member != null) {
+                responseList.add(toResponse(member, rank++));
+            }
+        }
+        return responseList;
+    }
+
+    private List<RankingInfoResponse> loadFromRdb() {
+        List<MemberEntity> members = memberRepository.findByOrderByExpDesc(PageRequest.of(0, MAX_SIZE)).getContent();
+        List<RankingInfoResponse> responseList = new ArrayList<>();
+        long rank = 1;
+        for (MemberEntity member : members) {
+            responseList.add(toResponse(member, rank++));
+        }
+        return responseList;
+    }
+
+    private RankingInfoResponse toResponse(MemberEntity member, long rank) {
+        return RankingInfoResponse.builder()
+                .rank(rank)
+                .memberId(member.getId())
+                .username(member.getUsername())
+                .exp(member.getExp())
+                .tier(member.getTier())
+                .profileImageUrl(member.getProfileImageUrl())
+                .build();
+    }
+
+    private record Snapshot(Long version, List<RankingInfoResponse> rankings) {
+    }
+}
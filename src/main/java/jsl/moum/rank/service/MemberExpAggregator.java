@@ -0,0 +1,213 @@
+package jsl.moum.rank.service;
+
+import jakarta.annotation.PreDestroy;
+import jsl.moum.config.redis.util.RedisLock;
+import jsl.moum.rank.dto.ExpChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멤버별 경험치 증감량을 모아두었다가 주기적으로 한 번에 반영
+ * ex) +1, +1, -1 -> +1 한 번만 DB / Redis 에 반영
+ *
+ * 증감량은 Redis Hash(ranking:exp:pending, field = memberId)에 HINCRBY로 누적 (노드가 죽어도 유실되지 않음)
+ * flush 시 pending -> flushing 으로 RENAME 후 batch id 와 함께 DB 반영, 성공 시 flushing 삭제 (CounterService 와 같은 방식)
+ * Redis 장애 시에는 노드 메모리에 누적했다가, Redis 가 복구되면 pending 으로 옮겨 같은 경로로 반영한다.
+ *
+ * 랭킹 재구성 배치는 pause() 로 flush 락을 잡아 DB 스냅샷 ~ RENAME 사이의 반영을 멈춘다.
+ * (그 사이 증감량은 pending 에 남아 있다가 resume() 이후 교체된 랭킹에 반영됨)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberExpAggregator {
+
+    private static final String PENDING_KEY = "ranking:exp:pending";
+    private static final String FLUSHING_KEY = "ranking:exp:flushing";
+    private static final String FLUSH_LOCK_KEY = "ranking:exp:flush-lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    // flushing hash 에 함께 저장하는 batch id (hash 삭제 시 같이 지워짐)
+    private static final String BATCH_ID_FIELD = "__batch";
+
+    // KEYS: pending, flushing / ARGV: batch id 필드, batch id
+    private static final String START_FLUSH_SCRIPT =
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "end " +
+            "redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2]) " +
+            "return 1";
+    private static final RedisScript<Long> START_FLUSH_REDIS_SCRIPT = new DefaultRedisScript<>(START_FLUSH_SCRIPT, Long.class);
+
+    private final RankingService rankingService;
+    private final RankingRedisService rankingRedisService;
+    private final ExpHistogramService expHistogramService;
+    private final WindowedRankingService windowedRankingService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+
+    // Redis 장애 시 사용하는 로컬 누적값
+    private final Map<Integer, Integer> pendingExp = new ConcurrentHashMap<>();
+
+    public void add(Integer memberId, int expToAdd) {
+        if (memberId == null || expToAdd == 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(memberId), expToAdd);
+        } catch (DataAccessException e) {
+            log.error("Redis 경험치 누적 실패. 로컬에 누적합니다. memberId: {}", memberId, e);
+            addLocal(memberId, expToAdd);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.exp-flush-interval-ms:3000}")
+    public void flush() {
+        flushLocal();
+        try {
+            flushRedis();
+        } catch (DataAccessException e) {
+            log.error("경험치 flush 실패. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 경험치 반영 일시 정지 (flush 락 획득). 다른 노드가 flush 중이면 null
+     */
+    public String pause(Duration ttl) {
+        return redisLock.tryLock(FLUSH_LOCK_KEY, ttl);
+    }
+
+    public void resume(String token) {
+        if (!redisLock.unlock(FLUSH_LOCK_KEY, token)) {
+            log.warn("경험치 반영 재개 시 락이 이미 만료되었습니다. 재구성 배치가 락 TTL 을 넘겼는지 확인이 필요합니다.");
+        }
+    }
+
+    /**
+     * DB 반영에 실패하면 flushing 키가 남아 다음 주기에 그대로 재시도된다.
+     * DB 커밋 후 flushing 삭제가 실패해도 batch id 가 함께 커밋되어 있으므로 다시 더하지 않음
+     */
+    private void flushRedis() {
+        String lockToken = redisLock.tryLock(FLUSH_LOCK_KEY, FLUSH_LOCK_TTL);
+        if (lockToken == null) {
+            return; // 다른 노드가 flush 중
+        }
+
+        try {
+            Long started = redisTemplate.execute(START_FLUSH_REDIS_SCRIPT,
+                    List.of(PENDING_KEY, FLUSHING_KEY), BATCH_ID_FIELD, UUID.randomUUID().toString());
+            if (started == null || started == 0L) {
+                return;
+            }
+
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+            String batchId = String.valueOf(entries.remove(BATCH_ID_FIELD));
+            Map<Integer, Integer> deltas = new HashMap<>();
+            entries.forEach((memberId, exp) -> {
+                int value = Integer.parseInt(exp.toString());
+                if (value != 0) {
+                    deltas.put(Integer.valueOf(memberId.toString()), value);
+                }
+            });
+
+            List<ExpChange> changes;
+            try {
+                changes = deltas.isEmpty() ? List.of() : rankingService.applyMemberExpDeltas(deltas, batchId);
+            } catch (RuntimeException e) {
+                log.error("경험치 일괄 반영 실패. 다음 주기에 재시도합니다. 대상 멤버 수: {}", deltas.size(), e);
+                return;
+            }
+            redisTemplate.delete(FLUSHING_KEY);
+            if (changes == null) {
+                log.warn("이미 반영된 경험치 batch. flushing 키만 삭제합니다. batchId: {}", batchId);
+                return;
+            }
+            applyRanking(deltas, changes);
+        } finally {
+            redisLock.unlock(FLUSH_LOCK_KEY, lockToken);
+        }
+    }
+
+    /**
+     * Redis 가 복구되었으면 pending 으로 옮겨 락이 걸린 flushRedis 경로로 반영
+     * (Redis 장애가 계속되는 동안에만 DB 에 직접 반영)
+     */
+    private void flushLocal() {
+        Map<Integer, Integer> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Iterator<Map.Entry<Integer, Integer>> iterator = drained.entrySet().iterator();
+        try {
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, Integer> entry = iterator.next();
+                redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(entry.getKey()), entry.getValue());
+                iterator.remove();
+            }
+            return;
+        } catch (DataAccessException e) {
+            log.warn("Redis 장애로 로컬 경험치를 DB 에 직접 반영합니다. 대상 멤버 수: {}", drained.size());
+        }
+
+        List<ExpChange> changes;
+        try {
+            changes = rankingService.applyMemberExpDeltas(drained);
+        } catch (RuntimeException e) {
+            // DB 반영 실패 시 다음 주기에 재시도
+            log.error("경험치 일괄 반영 실패. 다음 주기에 재시도합니다. 대상 멤버 수: {}", drained.size(), e);
+            drained.forEach(this::addLocal);
+            return;
+        }
+        applyRanking(drained, changes);
+    }
+
+    /**
+     * DB 커밋 이후 Redis 랭킹 반영 (실패해도 다음 배치 실행 시 동기화됨)
+     */
+    private void applyRanking(Map<Integer, Integer> deltas, List<ExpChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        rankingRedisService.applyMemberScores(changes);
+        rankingRedisService.publishRankingChanged();
+        windowedRankingService.recordExpDeltas(deltas);
+        expHistogramService.applyChanges(changes);
+        log.debug("경험치 일괄 반영 완료. 대상 멤버 수: {}", deltas.size());
+    }
+
+    private void addLocal(Integer memberId, int expToAdd) {
+        pendingExp.merge(memberId, expToAdd, Integer::sum);
+    }
+
+    private Map<Integer, Integer> drain() {
+        Map<Integer, Integer> drained = new HashMap<>();
+        for (Integer memberId : pendingExp.keySet()) {
+            Integer exp = pendingExp.remove(memberId);
+            if (exp != null && exp != 0) {
+                drained.put(memberId, exp);
+            }
+        }
+        return drained;
+    }
+}
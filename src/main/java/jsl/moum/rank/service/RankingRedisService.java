@@ -1,14 +1,19 @@
 package jsl.moum.rank.service;
 
 import jsl.moum.batch.RankingSyncBatchConfig;
+import jsl.moum.rank.dto.ExpChange;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -16,6 +21,28 @@ import java.util.Set;
 @Slf4j
 public class RankingRedisService {
 
+    // 랭킹 Sorted Set 이 바뀔 때마다 증가하는 버전 / 변경 알림 채널 (노드별 리더보드 캐시 갱신용)
+    public static final String RANKING_VERSION_KEY = RankingSyncBatchConfig.RANKING_KEY + ":version";
+    public static final String RANKING_CHANGED_CHANNEL = RankingSyncBatchConfig.RANKING_KEY + ":changed";
+    public static final long TOP_N = 10000; // 랭킹 Sorted Set 에는 상위 10,000명만 유지
+
+    // 이미 Top N 에 있는 멤버는 증감량만 더하고, 없는 멤버는 반영 후 exp 가 Top N 에 들 때만 절대값으로 추가
+    // (ZINCRBY 로 Trim 된 멤버가 증감량만 가진 채 다시 추가되는 것을 방지)
+    private static final String APPLY_SCORE_SCRIPT =
+            "if redis.call('ZSCORE', KEYS[1], ARGV[1]) then " +
+            "  redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[4]) then " +
+            "  local lowest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+            "  if tonumber(ARGV[3]) <= tonumber(lowest[2]) then " +
+            "    return 0 " +
+            "  end " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, 0) " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+            "return 1";
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public Set<ZSetOperations.TypedTuple<String>> getTopRankersWithScores(int topN) {
@@ -27,21 +54,77 @@ public class RankingRedisService {
         }
     }
 
-    public Long getRankForMember(Integer memberId) {
+    /**
+     * Redis 랭킹 순위 (0부터 시작). Sorted Set 의 점수가 DB exp 와 다르면 신뢰하지 않고 null 반환
+     * (Top N 에 없거나 아직 동기화되지 않은 멤버는 히스토그램 / RDB 로 Fallback)
+     */
+    public Long getRankForMember(Integer memberId, int exp) {
         try {
-            return redisTemplate.opsForZSet().reverseRank(RankingSyncBatchConfig.RANKING_KEY, String.valueOf(memberId));
+            byte[] member = bytes(String.valueOf(memberId));
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zRevRank(bytes(RankingSyncBatchConfig.RANKING_KEY), member);
+                connection.zSetCommands().zScore(bytes(RankingSyncBatchConfig.RANKING_KEY), member);
+                return null;
+            });
+            Long rank = (Long) results.get(0);
+            Double score = (Double) results.get(1);
+            if (rank == null || score == null || score.longValue() != exp) {
+                return null;
+            }
+            return rank;
         } catch (DataAccessException e) {
             log.error("Redis getRankForMember 실패. Fallback을 시도합니다.", e);
             return null; // 실패 시 null 반환하여 Fallback 트리거
         }
     }
 
-    public void incrementMemberScore(Integer memberId, int scoreToAdd) {
+    /**
+     * 경험치 반영 결과를 파이프라인으로 한 번에 Redis 랭킹에 반영
+     * Top N 에 있는 멤버는 증감량을 더하고, 없는 멤버는 반영 후 exp 가 Top N 에 들 때만 추가
+     */
+    public void applyMemberScores(List<ExpChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] key = bytes(RankingSyncBatchConfig.RANKING_KEY);
+            byte[] script = bytes(APPLY_SCORE_SCRIPT);
+            byte[] topN = bytes(String.valueOf(TOP_N));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ExpChange change : changes) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, key,
+                            bytes(String.valueOf(change.getMemberId())),
+                            bytes(String.valueOf(change.getAfterExp() - change.getBeforeExp())),
+                            bytes(String.valueOf(change.getAfterExp())),
+                            topN);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("Redis applyMemberScores 실패. DB에는 반영되었으며 Redis 랭킹은 다음 배치 실행 시 동기화됩니다. 대상 멤버 수: {}", changes.size(), e);
+        }
+    }
+
+    public void publishRankingChanged() {
         try {
-            redisTemplate.opsForZSet().incrementScore(RankingSyncBatchConfig.RANKING_KEY, String.valueOf(memberId), scoreToAdd);
+            Long version = redisTemplate.opsForValue().increment(RANKING_VERSION_KEY);
+            redisTemplate.convertAndSend(RANKING_CHANGED_CHANNEL, String.valueOf(version));
         } catch (DataAccessException e) {
-            // 쓰기 실패 시에는 에러 로그만 남기고, DB에만 반영되도록 예외를 전파하지 않음
-            log.error("Redis incrementMemberScore 실패. DB에는 반영되지만 Redis 랭킹은 다음 배치 실행 시 동기화됩니다. memberId: {}", memberId, e);
+            log.error("Redis publishRankingChanged 실패. 각 노드의 리더보드는 다음 폴링 시 갱신됩니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    public Long getRankingVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(RANKING_VERSION_KEY);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (DataAccessException e) {
+            log.error("Redis getRankingVersion 실패.", e);
+            return null;
+        }
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -3,19 +3,19 @@ package jsl.moum.rank.service;
 import jsl.moum.auth.domain.CustomUserDetails;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.community.counter.domain.CounterRepository;
+import jsl.moum.rank.dto.ExpChange;
 import jsl.moum.rank.dto.RankingInfoResponse;
+import jsl.moum.rank.event.MemberExpEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,67 +24,23 @@ public class RankingService {
 
     private final MemberRepository memberRepository;
     private final RankingRedisService rankingRedisService;
-
-    @Transactional(readOnly = true)
+    private final ApplicationEventPublisher eventPublisher;
+    private final LeaderboardCache leaderboardCache;
+    private final ExpHistogramService expHistogramService;
+    private final CounterRepository counterRepository;
+
+    /**
+     * 상위 랭킹 조회 (노드 메모리의 리더보드 스냅샷에서 조회)
+     */
     public List<RankingInfoResponse> getTopRankings(int topN) {
         if (topN <= 0) {
             topN = 10;
         }
-        if (topN > 100) {
-            topN = 100;
-        }
-
-        Set<ZSetOperations.TypedTuple<String>> typedTuples = rankingRedisService.getTopRankersWithScores(topN);
-
-        if (typedTuples == null || typedTuples.isEmpty()) {
-            // Redis 장애 발생 또는 데이터 없음. RDB Fallback
-            log.warn("Redis 랭킹 조회 실패 또는 데이터 없음. RDB에서 Fallback 조회 시도.");
-            return getTopRankingsFromRdbFallback(topN);
+        if (topN > LeaderboardCache.MAX_SIZE) {
+            topN = LeaderboardCache.MAX_SIZE;
         }
 
-        List<Integer> memberIds = typedTuples.stream()
-                .map(ZSetOperations.TypedTuple::getValue)
-                .map(Integer::parseInt)
-                .collect(Collectors.toList());
-
-        List<MemberEntity> members = memberRepository.findAllById(memberIds);
-        Map<Integer, MemberEntity> memberMap = members.stream()
-                .collect(Collectors.toMap(MemberEntity::getId, member -> member));
-
-        long rank = 1;
-        List<RankingInfoResponse> responseList = new ArrayList<>();
-        for (ZSetOperations.TypedTuple<String> tuple : typedTuples) {
-            Integer memberId = Integer.parseInt(tuple.getValue());
-            MemberEntity member = memberMap.get(memberId);
-            if (member != null) {
-                responseList.add(RankingInfoResponse.builder()
-                        .rank(rank++)
-                        .memberId(member.getId())
-                        .username(member.getUsername())
-                        .exp(member.getExp())
-                        .tier(member.getTier())
-                        .profileImageUrl(member.getProfileImageUrl())
-                        .build());
-            }
-        }
-        return responseList;
-    }
-
-    private List<RankingInfoResponse> getTopRankingsFromRdbFallback(int topN) {
-        List<MemberEntity> members = memberRepository.findByOrderByExpDesc(PageRequest.of(0, topN)).getContent();
-        List<RankingInfoResponse> responseList = new ArrayList<>();
-        long rank = 1;
-        for (MemberEntity member : members) {
-            responseList.add(RankingInfoResponse.builder()
-                    .rank(rank++)
-                    .memberId(member.getId())
-                    .username(member.getUsername())
-                    .exp(member.getExp())
-                    .tier(member.getTier())
-                    .profileImageUrl(member.getProfileImageUrl())
-                    .build());
-        }
-        return responseList;
+        return leaderboardCache.getTopRankings(topN);
     }
 
     @Transactional(readOnly = true)
@@ -94,58 +50,74 @@ public class RankingService {
         }
         Integer memberId = userDetails.getMemberId();
 
-        Long rank = rankingRedisService.getRankForMember(memberId);
-
-        if (rank == null) {
-            // Redis 장애 발생 또는 데이터 없음. RDB Fallback
-            log.warn("Redis 개인 랭킹 조회 실패 또는 데이터 없음. RDB에서 Fallback 조회 시도.");
-            return getMyRankFromRdbFallback(memberId);
-        }
-
         MemberEntity member = memberRepository.findById(memberId)
                 .orElse(null);
-        
+
         if (member == null) {
             return null;
         }
 
+        int exp = member.getExp() != null ? member.getExp() : 0;
+        Long rank = rankingRedisService.getRankForMember(memberId, exp);
+        ExpHistogramService.RankPosition position = expHistogramService.getRankPosition(exp);
+
+        if (rank != null) {
+            rank = rank + 1;
+        } else if (position != null) {
+            // Top N 밖이거나 Redis 랭킹에 없음. 경험치 히스토그램으로 순위 계산
+            rank = position.rank();
+        } else {
+            // Redis 장애 발생 또는 히스토그램 없음. RDB Fallback
+            log.warn("Redis 개인 랭킹 조회 실패 또는 데이터 없음. RDB에서 Fallback 조회 시도.");
+            rank = memberRepository.findRankByExp(exp);
+        }
+
         return RankingInfoResponse.builder()
-                .rank(rank + 1)
+                .rank(rank)
                 .memberId(member.getId())
                 .username(member.getUsername())
                 .exp(member.getExp())
                 .tier(member.getTier())
                 .profileImageUrl(member.getProfileImageUrl())
+                .topPercentile(position != null ? position.topPercentile() : null)
                 .build();
     }
 
-    private RankingInfoResponse getMyRankFromRdbFallback(Integer memberId) {
-        MemberEntity member = memberRepository.findById(memberId)
-                .orElse(null);
+    /**
+     * 경험치 변경 요청 (이벤트만 발행하고 실제 반영은 MemberExpAggregator 에서 모아서 처리)
+     */
+    public void updateMemberExp(Integer memberId, int expToAdd) {
+        eventPublisher.publishEvent(new MemberExpEvent(memberId, expToAdd));
+    }
 
-        if (member == null) {
+    /**
+     * Redis 에 모인 경험치 증감량을 batch id 기록과 함께 반영
+     * 이미 반영된 batch 면 아무것도 하지 않고 null 반환 (DB 커밋 후 flushing 정리 실패 시 중복 반영 방지)
+     */
+    @Transactional
+    public List<ExpChange> applyMemberExpDeltas(Map<Integer, Integer> expDeltas, String batchId) {
+        if (!counterRepository.markBatchApplied(batchId)) {
             return null;
         }
-
-        long rank = memberRepository.findRankByExp(member.getExp());
-
-        return RankingInfoResponse.builder()
-                .rank(rank)
-                .memberId(member.getId())
-                .username(member.getUsername())
-                .exp(member.getExp())
-                .tier(member.getTier())
-                .profileImageUrl(member.getProfileImageUrl())
-                .build();
+        return applyMemberExpDeltas(expDeltas);
     }
 
+    /**
+     * 멤버별로 모인 경험치 증감량을 한 트랜잭션에서 반영
+     */
     @Transactional
-    public void updateMemberExp(Integer memberId, int expToAdd) {
-        MemberEntity member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found with id: " + memberId));
-
-        member.updateMemberExpAndRank(expToAdd);
+    public List<ExpChange> applyMemberExpDeltas(Map<Integer, Integer> expDeltas) {
+        List<MemberEntity> members = memberRepository.findAllById(expDeltas.keySet());
+        if (members.size() != expDeltas.size()) {
+            log.warn("경험치 반영 대상 중 존재하지 않는 멤버가 있습니다. 요청: {}, 조회: {}", expDeltas.size(), members.size());
+        }
 
-        rankingRedisService.incrementMemberScore(memberId, expToAdd);
+        List<ExpChange> changes = new ArrayList<>();
+        for (MemberEntity member : members) {
+            int beforeExp = member.getExp() != null ? member.getExp() : 0;
+            member.updateMemberExpAndRank(expDeltas.get(member.getId()));
+            changes.add(new ExpChange(member.getId(), beforeExp, member.getExp()));
+        }
+        return changes;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package jsl.moum.rank.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamRankingRedisService {
+
+    public static final String TEAM_RANKING_KEY = "ranking:team:exp";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Set<ZSetOperations.TypedTuple<String>> getTopTeamsWithScores(int topN) {
+        try {
+            return redisTemplate.opsForZSet().reverseRangeWithScores(TEAM_RANKING_KEY, 0, topN - 1);
+        } catch (DataAccessException e) {
+            log.error("Redis getTopTeamsWithScores 실패. Fallback을 시도합니다.", e);
+            return null; // 실패 시 null 반환하여 Fallback 트리거
+        }
+    }
+
+    public Long getRankForTeam(Integer teamId) {
+        try {
+            return redisTemplate.opsForZSet().reverseRank(TEAM_RANKING_KEY, String.valueOf(teamId));
+        } catch (DataAccessException e) {
+            log.error("Redis getRankForTeam 실패. Fallback을 시도합니다.", e);
+            return null; // 실패 시 null 반환하여 Fallback 트리거
+        }
+    }
+
+    public void incrementTeamScore(Integer teamId, int scoreToAdd) {
+        try {
+            redisTemplate.opsForZSet().incrementScore(TEAM_RANKING_KEY, String.valueOf(teamId), scoreToAdd);
+        } catch (DataAccessException e) {
+            // 쓰기 실패 시에는 에러 로그만 남기고, DB에만 반영되도록 예외를 전파하지 않음
+            log.error("Redis incrementTeamScore 실패. DB에는 반영되지만 Redis 팀 랭킹은 다음 배치 실행 시 동기화됩니다. teamId: {}", teamId, e);
+        }
+    }
+
+    public void removeTeam(Integer teamId) {
+        try {
+            redisTemplate.opsForZSet().remove(TEAM_RANKING_KEY, String.valueOf(teamId));
+        } catch (DataAccessException e) {
+            log.error("Redis removeTeam 실패. Redis 팀 랭킹은 다음 배치 실행 시 동기화됩니다. teamId: {}", teamId, e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package jsl.moum.rank.service;
+
+import jsl.moum.moum.team.domain.TeamEntity;
+import jsl.moum.moum.team.domain.TeamRepository;
+import jsl.moum.rank.dto.TeamRankingInfoResponse;
+import jsl.moum.rank.event.TeamExpEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamRankingService {
+
+    private final TeamRepository teamRepository;
+    private final TeamRankingRedisService teamRankingRedisService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<TeamRankingInfoResponse> getTopTeamRankings(int topN) {
+        if (topN <= 0) {
+            topN = 10;
+        }
+        if (topN > 100) {
+            topN = 100;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> typedTuples = teamRankingRedisService.getTopTeamsWithScores(topN);
+
+        if (typedTuples == null || typedTuples.isEmpty()) {
+            // Redis 장애 발생 또는 데이터 없음. RDB Fallback
+            log.warn("Redis 팀 랭킹 조회 실패 또는 데이터 없음. RDB에서 Fallback 조회 시도.");
+            return getTopTeamRankingsFromRdbFallback(topN);
+        }
+
+        List<Integer> teamIds = typedTuples.stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .map(Integer::parseInt)
+                .collect(Collectors.toList());
+
+        Map<Integer, TeamEntity> teamMap = teamRepository.findAllById(teamIds).stream()
+                .collect(Collectors.toMap(TeamEntity::getId, Function.identity()));
+
+        long rank = 1;
+        List<TeamRankingInfoResponse> responseList = new ArrayList<>();
+        for (Integer teamId : teamIds) {
+            TeamEntity team = teamMap.get(teamId);
+            if (team != null) {
+                responseList.add(toResponse(team, rank++));
+            }
+        }
+        return responseList;
+    }
+
+    private List<TeamRankingInfoResponse> getTopTeamRankingsFromRdbFallback(int topN) {
+        List<TeamEntity> teams = teamRepository.findByOrderByExpDesc(PageRequest.of(0, topN)).getContent();
+        List<TeamRankingInfoResponse> responseList = new ArrayList<>();
+        long rank = 1;
+        for (TeamEntity team : teams) {
+            responseList.add(toResponse(team, rank++));
+        }
+        return responseList;
+    }
+
+    @Transactional(readOnly = true)
+    public TeamRankingInfoResponse getTeamRank(int teamId) {
+        TeamEntity team = teamRepository.findById(teamId)
+                .orElse(null);
+
+        if (team == null) {
+            return null;
+        }
+
+        Long rank = teamRankingRedisService.getRankForTeam(teamId);
+        if (rank == null) {
+            // Redis 장애 발생 또는 데이터 없음. RDB Fallback
+            log.warn("Redis 팀 랭킹 조회 실패 또는 데이터 없음. RDB에서 Fallback 조회 시도.");
+            return toResponse(team, teamRepository.findRankByExp(team.getExp() != null ? team.getExp() : 0));
+        }
+        return toResponse(team, rank + 1);
+    }
+
+    /**
+     * 팀 경험치 변경 (엔티티는 호출 측 트랜잭션에서 변경, Redis 팀 랭킹은 커밋 이후 반영)
+     */
+    public void updateTeamExp(TeamEntity team, int expToAdd) {
+        team.updateTeamExpAndRank(expToAdd);
+        eventPublisher.publishEvent(new TeamExpEvent(team.getId(), expToAdd, false));
+    }
+
+    /**
+     * 삭제된 팀을 랭킹에서 제거 (커밋 이후 반영)
+     */
+    public void removeTeam(int teamId) {
+        eventPublisher.publishEvent(new TeamExpEvent(teamId, 0, true));
+    }
+
+    private TeamRankingInfoResponse toResponse(TeamEntity team, long rank) {
+        return TeamRankingInfoResponse.builder()
+                .rank(rank)
+                .teamId(team.getId())
+                .teamName(team.getTeamName())
+                .exp(team.getExp())
+                .tier(team.getTier())
+                .fileUrl(team.getFileUrl())
+                .build();
+    }
+}
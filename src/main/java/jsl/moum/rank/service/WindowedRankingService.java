@@ -0,0 +1,155 @@
+package jsl.moum.rank.service;
+
+import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.batch.RankingSyncBatchConfig;
+import jsl.moum.rank.RankingWindow;
+import jsl.moum.rank.dto.RankingInfoResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기간별(일간/주간/월간) 랭킹
+ *
+ * 경험치 증감량을 일자별 Sorted Set(ranking:exp:daily:{yyyyMMdd})에 누적하고,
+ * 주간/월간은 해당 일자 키들을 ZUNIONSTORE 로 합친 결과를 짧은 TTL 로 캐시해서 조회 (Lua 로 합치기와 TTL 설정을 원자적으로)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WindowedRankingService {
+
+    private static final String DAILY_KEY_PREFIX = RankingSyncBatchConfig.RANKING_KEY + ":daily:";
+    private static final String WINDOW_KEY_PREFIX = RankingSyncBatchConfig.RANKING_KEY + ":window:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 가장 긴 구간(월간)보다 조금 더 길게 유지 후 자동 만료
+    private static final Duration DAILY_KEY_TTL = Duration.ofDays(RankingWindow.MONTHLY.getDays() + 2);
+    private static final Duration WINDOW_CACHE_TTL = Duration.ofSeconds(60);
+
+    // KEYS: 캐시 키, 일자 키들 / ARGV: 캐시 TTL(초)
+    // 캐시가 없을 때만 ZUNIONSTORE + EXPIRE 를 한 번에 실행 (중간에 실패해도 TTL 없는 캐시 키가 남지 않음)
+    private static final String UNION_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 1 end " +
+            "redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 0";
+    private static final RedisScript<Long> UNION_REDIS_SCRIPT = new DefaultRedisScript<>(UNION_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberRepository memberRepository;
+
+    /**
+     * 오늘 일자 버킷에 멤버별 경험치 증감량 누적 (파이프라인으로 한 번에 전송)
+     */
+    public void recordExpDeltas(Map<Integer, Integer> expDeltas) {
+        if (expDeltas.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] key = dailyKey(LocalDate.now()).getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                expDeltas.forEach((memberId, exp) -> connection.zSetCommands()
+                        .zIncrBy(key, exp, String.valueOf(memberId).getBytes(StandardCharsets.UTF_8)));
+                connection.keyCommands().expire(key, DAILY_KEY_TTL.getSeconds());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("Redis 기간별 랭킹 기록 실패. 대상 멤버 수: {}", expDeltas.size(), e);
+        }
+    }
+
+    public List<RankingInfoResponse> getTopRankings(RankingWindow window, int topN) {
+        if (topN <= 0) {
+            topN = 10;
+        }
+        if (topN > 100) {
+            topN = 100;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> typedTuples;
+        try {
+            String key = resolveWindowKey(window);
+            // 기간 내 획득 경험치가 양수인 멤버만 대상
+            typedTuples = redisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, 1, Double.POSITIVE_INFINITY, 0, topN);
+        } catch (DataAccessException e) {
+            log.error("Redis 기간별 랭킹 조회 실패. window: {}", window, e);
+            return Collections.emptyList();
+        }
+
+        if (typedTuples == null || typedTuples.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> memberIds = new ArrayList<>();
+        List<Integer> gainedExps = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : typedTuples) {
+            memberIds.add(Integer.parseInt(tuple.getValue()));
+            gainedExps.add(tuple.getScore() != null ? tuple.getScore().intValue() : 0);
+        }
+
+        Map<Integer, MemberEntity> memberMap = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(MemberEntity::getId, Function.identity()));
+
+        long rank = 1;
+        List<RankingInfoResponse> responseList = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            MemberEntity member = memberMap.get(memberIds.get(i));
+            if (member != null) {
+                responseList.add(RankingInfoResponse.builder()
+                        .rank(rank++)
+                        .memberId(member.getId())
+                        .username(member.getUsername())
+                        .exp(member.getExp())
+                        .gainedExp(gainedExps.get(i))
+                        .tier(member.getTier())
+                        .profileImageUrl(member.getProfileImageUrl())
+                        .build());
+            }
+        }
+        return responseList;
+    }
+
+    /**
+     * 일간은 오늘 버킷을 그대로, 주간/월간은 ZUNIONSTORE 결과 캐시 키 반환 (없으면 생성)
+     */
+    private String resolveWindowKey(RankingWindow window) {
+        LocalDate today = LocalDate.now();
+        if (window.getDays() == 1) {
+            return dailyKey(today);
+        }
+
+        String windowKey = WINDOW_KEY_PREFIX + window.name() + ":" + today.format(DAY_FORMAT);
+        List<String> keys = new ArrayList<>();
+        keys.add(windowKey);
+        for (int i = 0; i < window.getDays(); i++) {
+            keys.add(dailyKey(today.minusDays(i)));
+        }
+        // 여러 노드가 동시에 만들어도 결과가 같으므로 별도 락은 두지 않음
+        redisTemplate.execute(UNION_REDIS_SCRIPT, keys, String.valueOf(WINDOW_CACHE_TTL.getSeconds()));
+        return windowKey;
+    }
+
+    private String dailyKey(LocalDate date) {
+        return DAILY_KEY_PREFIX + date.format(DAY_FORMAT);
+    }
+}
@@ -12,8 +12,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,13 +41,8 @@ public class RecommendationService {
                     .collect(Collectors.toList());
 
             // 2. ID 목록으로 콘텐츠 상세 정보 조회
-            Map<Long, ArticleDto.Response> articlesMap = articleService.getArticlesByIds(recommendedArticleIds).stream()
-                    .collect(Collectors.toMap(ArticleDto.Response::getId, Function.identity()));
-
-            // 3. Redis에서 가져온 추천 순서대로 정렬
-            return recommendedArticleIds.stream()
-                    .map(articlesMap::get)
-                    .collect(Collectors.toList());
+            // (캐시 multi-get + miss 만 IN 쿼리, 추천 순서 유지 / 삭제된 게시글은 제외)
+            return articleService.getArticlesByIds(recommendedArticleIds);
         } catch (RedisConnectionFailureException e) {
             // Redis 연결 실패 시 Fallback 로직 실행
             log.error("redis 문제 발생, fallback 실행",e);
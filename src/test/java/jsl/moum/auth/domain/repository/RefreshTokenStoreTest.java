@@ -0,0 +1,124 @@
+package jsl.moum.auth.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenStoreTest {
+
+    @InjectMocks
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("로그인 저장은 토큰 / family / user 키를 스크립트 한 번으로 저장")
+    @SuppressWarnings("unchecked")
+    void save_stores_all_keys_in_one_script() {
+        // when
+        refreshTokenStore.save("user", "refresh", Duration.ofDays(14));
+
+        // then
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keysCaptor.capture(), any(), any(), any());
+        List<String> keys = keysCaptor.getValue();
+        assertEquals(3, keys.size());
+        assertTrue(keys.get(1).startsWith("refresh:family:"));
+        assertEquals("refresh:user:user", keys.get(2));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        verify(setOperations, never()).add(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("재발급 성공 시 기존 토큰을 소모하고 새 토큰과 used 표시를 스크립트 한 번으로 저장")
+    @SuppressWarnings("unchecked")
+    void rotate_consumes_old_token_and_stores_new_one_atomically() {
+        // given
+        when(valueOperations.getAndDelete(startsWith("refresh:"))).thenReturn("family-1:user");
+
+        // when
+        boolean rotated = refreshTokenStore.rotate("old", "new", Duration.ofDays(14));
+
+        // then
+        assertTrue(rotated);
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object> argsCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keysCaptor.capture(),
+                argsCaptor.capture(), argsCaptor.capture(), argsCaptor.capture(), argsCaptor.capture(), argsCaptor.capture());
+        List<String> keys = keysCaptor.getValue();
+        assertEquals(4, keys.size());
+        assertEquals("refresh:family:family-1", keys.get(1));
+        assertEquals("refresh:user:user", keys.get(2));
+        assertTrue(keys.get(3).startsWith("refresh:used:"));
+        assertEquals("family-1:user", argsCaptor.getAllValues().get(0));
+        assertEquals("family-1", argsCaptor.getAllValues().get(4));
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰으로 재발급하면 실패하고 family 의 현재 토큰까지 폐기")
+    void rotate_with_reused_token_revokes_family() {
+        // given
+        when(valueOperations.getAndDelete(anyString())).thenReturn(null);
+        when(valueOperations.get(startsWith("refresh:used:"))).thenReturn("family-1");
+        when(valueOperations.getAndDelete("refresh:family:family-1")).thenReturn("current-hash");
+
+        // when
+        boolean rotated = refreshTokenStore.rotate("old", "new", Duration.ofDays(14));
+
+        // then
+        assertFalse(rotated);
+        verify(redisTemplate).delete("refresh:current-hash");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 폐기 시 토큰 키와 함께 family 키도 삭제")
+    @SuppressWarnings("unchecked")
+    void revokeAll_deletes_family_keys() {
+        // given
+        when(setOperations.members("refresh:user:user")).thenReturn(Set.of("h1", "h2"));
+        when(valueOperations.multiGet(anyCollection())).thenReturn(Arrays.asList("family-1:user", null));
+
+        // when
+        refreshTokenStore.revokeAll("user");
+
+        // then
+        ArgumentCaptor<Collection<String>> keysCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(redisTemplate).delete(keysCaptor.capture());
+        Collection<String> keys = keysCaptor.getValue();
+        assertTrue(keys.containsAll(List.of("refresh:user:user", "refresh:h1", "refresh:h2", "refresh:family:family-1")));
+        assertEquals(4, keys.size());
+    }
+}
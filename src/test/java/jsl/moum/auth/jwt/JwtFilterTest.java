@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jsl.moum.auth.domain.CustomUserDetails;
 import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.auth.service.TokenRevocationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Date;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,7 +32,10 @@ class JwtFilterTest {
     private JwtFilter jwtFilter;
 
     @Mock
-    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
 
     @Mock
     private HttpServletRequest request;
@@ -59,12 +64,12 @@ class JwtFilterTest {
         expiredToken = "expiredToken";
         invalidCategoryToken = "invalidCategoryToken";
 
-        when(jwtUtil.isExpired(validToken)).thenReturn(false);
-        when(jwtUtil.isExpired(expiredToken)).thenThrow(new io.jsonwebtoken.ExpiredJwtException(null, null, null));
-        when(jwtUtil.getCategory(validToken)).thenReturn("access");
-        when(jwtUtil.getCategory(invalidCategoryToken)).thenReturn("refresh");
-        when(jwtUtil.getUsername(validToken)).thenReturn(mockUsername);
-        when(jwtUtil.getRole(validToken)).thenReturn(mockRole);
+        Date expiration = new Date(System.currentTimeMillis() + 100000);
+        when(verifiedTokenCache.getClaims(validToken))
+                .thenReturn(new TokenClaims("access", mockUsername, mockRole, new Date(), expiration));
+        when(verifiedTokenCache.getClaims(expiredToken)).thenThrow(new io.jsonwebtoken.ExpiredJwtException(null, null, null));
+        when(verifiedTokenCache.getClaims(invalidCategoryToken))
+                .thenReturn(new TokenClaims("refresh", mockUsername, mockRole, new Date(), expiration));
     }
 
     @Test
@@ -127,4 +132,19 @@ class JwtFilterTest {
         assertEquals(mockUsername, ((CustomUserDetails) authCaptor.getValue().getPrincipal()).getUsername());
     }
 
+    @Test
+    @DisplayName("폐기된(정지된 회원) access 토큰이 제공되었을 때 401 Unauthorized 응답")
+    void filter_whenRevokedToken_thenReturnUnauthorized() throws ServletException, IOException {
+        // given
+        when(request.getHeader("access")).thenReturn(validToken);
+        when(tokenRevocationRegistry.isRevoked(eq(mockUsername), any())).thenReturn(true);
+
+        // when
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(securityContext, never()).setAuthentication(any());
+        verify(filterChain, never()).doFilter(request, response);
+    }
 }
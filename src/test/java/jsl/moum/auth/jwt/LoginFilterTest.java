@@ -7,9 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jsl.moum.auth.domain.CustomUserDetails;
 import jsl.moum.auth.domain.entity.MemberEntity;
-import jsl.moum.auth.domain.entity.RefreshEntity;
-import jsl.moum.auth.domain.repository.MemberRepository;
-import jsl.moum.auth.domain.repository.RefreshRepository;
+import jsl.moum.auth.domain.repository.RefreshTokenStore;
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.ErrorResponse;
 import jsl.moum.global.response.ResponseCode;
@@ -31,6 +29,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.Authentication;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -53,10 +52,7 @@ class LoginFilterTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private MemberRepository memberRepository;
-
-    @Mock
-    private RefreshRepository refreshRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
     private HttpServletRequest request;
@@ -101,6 +97,11 @@ class LoginFilterTest {
         MemberEntity memberEntity = new MemberEntity();
         memberEntity.setId(userId);
         memberEntity.setUsername(validUsername);
+        memberEntity.setName("mockUser");
+        memberEntity.setRole("ROLE_USER");
+        memberEntity.setActiveStatus(true);
+        memberEntity.setBanStatus(false);
+        CustomUserDetails userDetails = new CustomUserDetails(memberEntity);
 
         Authentication authentication = mock(Authentication.class);
         HttpServletRequest request = mock(HttpServletRequest.class);
@@ -108,16 +109,12 @@ class LoginFilterTest {
         FilterChain filterChain = mock(FilterChain.class);
 
         when(authentication.getName()).thenReturn(validUsername);
-        when(authentication.getPrincipal()).thenReturn(new CustomUserDetails(memberEntity));
-        when(memberRepository.findByUsername(anyString())).thenReturn(memberEntity);
+        when(authentication.getPrincipal()).thenReturn(userDetails);
+        doReturn(userDetails.getAuthorities()).when(authentication).getAuthorities();
 
-        JwtUtil jwtUtil = mock(JwtUtil.class);
         when(jwtUtil.createJwt("access", validUsername, "ROLE_USER", 36000000L)).thenReturn(validToken);
         when(jwtUtil.createJwt("refresh", validUsername, "ROLE_USER", 842000L)).thenReturn(validToken);
 
-        MemberRepository memberRepository = mock(MemberRepository.class);
-        when(memberRepository.findById(userId)).thenReturn(Optional.of(memberEntity));
-
         // Mock response writer
         StringWriter responseWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(responseWriter);
@@ -173,6 +170,6 @@ class LoginFilterTest {
         loginFilter.addRefreshEntity(validUsername, refreshToken, 842000L);
 
         // Then
-        verify(refreshRepository).save(any(RefreshEntity.class));
+        verify(refreshTokenStore).save(eq(validUsername), eq(refreshToken), any(Duration.class));
     }
 }
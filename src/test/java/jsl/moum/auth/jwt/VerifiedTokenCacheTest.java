@@ -0,0 +1,52 @@
+package jsl.moum.auth.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private final String secretKey = "vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbalaaaaaaaaaaaaaaaabbbbb";
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil(secretKey));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, 100, 600);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증/파싱")
+    void same_token_is_parsed_once() {
+        // given
+        String token = jwtUtil.createJwt("access", "mockUser", "ROLE_USER", 100000);
+
+        // when
+        TokenClaims first = verifiedTokenCache.getClaims(token);
+        TokenClaims second = verifiedTokenCache.getClaims(token);
+
+        // then
+        assertThat(first.getUsername()).isEqualTo("mockUser");
+        assertThat(first.getCategory()).isEqualTo("access");
+        assertThat(second).isSameAs(first);
+        verify(jwtUtil, times(1)).parseClaims(token);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 예외 발생 및 캐싱하지 않음")
+    void expired_token_is_not_cached() {
+        // given
+        String token = jwtUtil.createJwt("access", "mockUser", "ROLE_USER", -1000);
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> verifiedTokenCache.getClaims(token));
+        assertThrows(ExpiredJwtException.class, () -> verifiedTokenCache.getClaims(token));
+        verify(jwtUtil, times(2)).parseClaims(token);
+    }
+}
@@ -1,7 +1,7 @@
 package jsl.moum.auth.service;
 
 import jsl.moum.auth.jwt.JwtUtil;
-import jsl.moum.auth.domain.repository.RefreshRepository;
+import jsl.moum.auth.domain.repository.RefreshTokenStore;
 import jsl.moum.global.error.exception.CustomException;
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.response.ResponseCode;
@@ -17,6 +17,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -26,7 +28,7 @@ class ReissueServiceTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private RefreshRepository refreshRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @InjectMocks
     private ReissueService reissueService;
@@ -75,7 +77,7 @@ class ReissueServiceTest {
         when(jwtUtil.getRole(validRefreshToken)).thenReturn(role);
         when(jwtUtil.createJwt("access", username, role, 360000L)).thenReturn(newAccessToken);
         when(jwtUtil.createJwt("refresh", username, role, 842000L)).thenReturn(newRefreshToken);
-        when(refreshRepository.existsByRefresh(validRefreshToken)).thenReturn(true);
+        when(refreshTokenStore.rotate(eq(validRefreshToken), eq(newRefreshToken), any(Duration.class))).thenReturn(true);
 
         // when
         ResultResponse result = reissueService.reissue(request, response);
@@ -91,8 +93,7 @@ class ReissueServiceTest {
         assertEquals("refresh", capturedCookie.getName());
         assertEquals(newRefreshToken, capturedCookie.getValue());
 
-        verify(refreshRepository).deleteByRefresh(validRefreshToken);
-        verify(refreshRepository).save(any());
+        verify(refreshTokenStore).rotate(eq(validRefreshToken), eq(newRefreshToken), any(Duration.class));
         verify(response).setHeader("access", newAccessToken);
     }
 
@@ -109,4 +110,29 @@ class ReissueServiceTest {
 
         assertEquals(ErrorCode.REFRESH_TOKEN_INVALID, thrown.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("재발급 실패 테스트 - 이미 교체된(재사용된) 리프레시 토큰")
+    void reissueFail_ReusedRefreshToken() {
+        // given
+        String reusedRefreshToken = "reusedRefreshToken";
+        String username = "testUser";
+        String role = "ROLE_USER";
+
+        when(request.getCookies()).thenReturn(new Cookie[]{new Cookie("refresh", reusedRefreshToken)});
+        when(jwtUtil.isExpired(reusedRefreshToken)).thenReturn(false);
+        when(jwtUtil.getCategory(reusedRefreshToken)).thenReturn("refresh");
+        when(jwtUtil.getUsername(reusedRefreshToken)).thenReturn(username);
+        when(jwtUtil.getRole(reusedRefreshToken)).thenReturn(role);
+        when(jwtUtil.createJwt("refresh", username, role, 842000L)).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(eq(reusedRefreshToken), anyString(), any(Duration.class))).thenReturn(false);
+
+        // then
+        CustomException thrown = assertThrows(CustomException.class, () -> {
+            reissueService.reissue(request, response);
+        });
+
+        assertEquals(ErrorCode.REFRESH_TOKEN_INVALID, thrown.getErrorCode());
+        verify(response, never()).setHeader(eq("access"), anyString());
+    }
+}
@@ -3,6 +3,7 @@ package jsl.moum.auth.service;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.auth.dto.MemberDto;
+import jsl.moum.auth.event.MemberAuthChangedEvent;
 import jsl.moum.global.error.exception.CustomException;
 import jsl.moum.global.error.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,6 +22,9 @@ class SignoutServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SignoutService signoutService;
 
@@ -63,5 +68,6 @@ class SignoutServiceTest {
         assertEquals(username, response.getUsername());
         assertFalse(member.getActiveStatus());
         verify(memberRepository).findByUsername(username);
+        verify(eventPublisher).publishEvent(argThat((MemberAuthChangedEvent event) -> username.equals(event.getUsername())));
     }
 }
\ No newline at end of file
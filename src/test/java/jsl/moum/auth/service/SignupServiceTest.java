@@ -1,5 +1,6 @@
 package jsl.moum.auth.service;
 
+import jsl.moum.rank.service.ExpHistogramService;
 import jsl.moum.common.CommonService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +9,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 import jsl.moum.auth.domain.entity.MemberEntity;
@@ -44,6 +46,12 @@ class SignupServiceTest {
     @Mock
     private RedisUtil redisUtil;
 
+    @Mock
+    private ExpHistogramService expHistogramService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SignupService signupService;
 
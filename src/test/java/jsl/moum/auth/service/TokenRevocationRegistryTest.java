@@ -0,0 +1,50 @@
+package jsl.moum.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationRegistryTest {
+
+    @InjectMocks
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 watermark 이전에 발급된 토큰은 폐기로 판별")
+    void token_issued_before_watermark_is_revoked() {
+        // given
+        long watermark = 1_700_000_000L;
+        byte[] body = (watermark + ":user:with:colon").getBytes(StandardCharsets.UTF_8);
+
+        // when
+        tokenRevocationRegistry.onMessage(new DefaultMessage(new byte[0], body), null);
+
+        // then
+        assertTrue(tokenRevocationRegistry.isRevoked("user:with:colon", new Date((watermark - 60) * 1000)));
+        assertTrue(tokenRevocationRegistry.isRevoked("user:with:colon", new Date(watermark * 1000)));
+        assertFalse(tokenRevocationRegistry.isRevoked("user:with:colon", new Date((watermark + 1) * 1000)));
+        assertFalse(tokenRevocationRegistry.isRevoked("otherUser", new Date((watermark - 60) * 1000)));
+    }
+}
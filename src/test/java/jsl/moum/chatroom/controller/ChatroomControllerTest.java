@@ -2,6 +2,7 @@ package jsl.moum.chatroom.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jsl.moum.chatroom.dto.ChatroomDto;
+import jsl.moum.chatroom.service.ChatMessageService;
 import jsl.moum.chatroom.service.ChatroomService;
 import jsl.moum.global.response.ResponseCode;
 import jsl.moum.global.response.ResultResponse;
@@ -33,6 +34,9 @@ class ChatroomControllerTest {
     @MockBean
     private ChatroomService chatroomService;
 
+    @MockBean
+    private ChatMessageService chatMessageService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -0,0 +1,79 @@
+package jsl.moum.chatroom.domain;
+
+import jsl.moum.config.redis.util.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChatMessageIdGeneratorTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("node id 미지정 - Redis 에서 비어 있는 node id 를 임대해서 사용")
+    void leases_free_node_id_when_not_configured() {
+        // given : INCR 결과 5, 5번은 다른 노드가 사용 중
+        when(valueOperations.increment("chat:message:node-seq")).thenReturn(5L);
+        when(redisLock.tryLock(eq("chat:message:node:5"), any())).thenReturn(null);
+        when(redisLock.tryLock(eq("chat:message:node:6"), any())).thenReturn("token");
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(-1, redisTemplate, redisLock);
+
+        // when
+        generator.init();
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertEquals(6, (first >> 12) & 0x3FF);
+        assertTrue(second > first);
+    }
+
+    @Test
+    @DisplayName("node id 미지정 - 임대할 수 없으면 임의 값으로 대체하지 않고 기동 실패")
+    void fails_startup_when_lease_unavailable() {
+        // given
+        when(valueOperations.increment(anyString())).thenReturn(1L);
+        when(redisLock.tryLock(anyString(), any())).thenReturn(null);
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(-1, redisTemplate, redisLock);
+
+        // when & then
+        assertThrows(IllegalStateException.class, generator::init);
+    }
+
+    @Test
+    @DisplayName("node id 지정 - Redis 임대 없이 지정값 사용")
+    void uses_configured_node_id() {
+        // given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(3, redisTemplate, redisLock);
+
+        // when
+        generator.init();
+
+        // then
+        assertEquals(3, (generator.nextId() >> 12) & 0x3FF);
+        verify(redisLock, never()).tryLock(anyString(), any());
+    }
+}
@@ -0,0 +1,177 @@
+package jsl.moum.chatroom.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jsl.moum.auth.dto.MemberAuthDto;
+import jsl.moum.auth.service.MemberAuthReader;
+import jsl.moum.chatroom.domain.ChatMessageBatchRepository;
+import jsl.moum.chatroom.domain.ChatMessageIdGenerator;
+import jsl.moum.chatroom.domain.ChatMessageRepository;
+import jsl.moum.chatroom.domain.ChatroomMemberRepository;
+import jsl.moum.chatroom.dto.ChatMessageDto;
+import jsl.moum.chatroom.websocket.ChatMessageRelay;
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatMessageServiceTest {
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ChatMessageIdGenerator chatMessageIdGenerator;
+
+    @Mock
+    private ChatMessageBatchRepository chatMessageBatchRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatroomMemberRepository chatroomMemberRepository;
+
+    @Mock
+    private ChatUnreadService chatUnreadService;
+
+    @Mock
+    private ChatMessageRelay chatMessageRelay;
+
+    @Mock
+    private MemberAuthReader memberAuthReader;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        when(chatMessageIdGenerator.nextId()).thenReturn(123456789012345678L);
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - id 부여 후 Stream 적재, DB 에는 바로 쓰지 않음")
+    void append_adds_to_stream_and_relays() {
+        // when
+        ChatMessageDto.Response saved = chatMessageService.append(message());
+
+        // then
+        assertEquals(123456789012345678L, saved.getMessageId());
+        verify(streamOperations).add(eq(ChatMessageService.CHAT_STREAM_KEY), argThat((Map<Object, Object> body) ->
+                String.valueOf(body.get("payload")).contains("\"messageId\":\"123456789012345678\"")));
+        verify(chatUnreadService).onMessage(10, 1, 123456789012345678L);
+        verify(chatMessageRelay).publish(saved);
+        verify(chatMessageBatchRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - Redis 장애 시 DB 에 바로 저장 후 relay")
+    void append_saves_directly_when_redis_fails() {
+        // given
+        when(streamOperations.add(anyString(), anyMap())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        ChatMessageDto.Response saved = chatMessageService.append(message());
+
+        // then
+        verify(chatMessageBatchRepository).saveAll(argThat(messages ->
+                messages.size() == 1 && messages.get(0).getId() == 123456789012345678L));
+        verify(chatMessageRelay).publish(saved);
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - node id 임대 만료로 id 를 발급할 수 없으면 전송하지 않음")
+    void append_rejects_when_id_unavailable() {
+        // given
+        when(chatMessageIdGenerator.nextId()).thenThrow(new IllegalStateException("lease expired"));
+
+        // when
+        ChatMessageDto.Response saved = chatMessageService.append(message());
+
+        // then
+        assertNull(saved);
+        verify(streamOperations, never()).add(anyString(), anyMap());
+        verify(chatMessageRelay, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영 - 오래 ACK 되지 않은 다른 consumer 의 pending 메시지를 claim")
+    void drain_claims_idle_pending_of_other_consumers() {
+        // given
+        ReflectionTestUtils.setField(chatMessageService, "consumerName", "node-a");
+        ReflectionTestUtils.setField(chatMessageService, "claimIdleMs", 60000L);
+        ReflectionTestUtils.setField(chatMessageService, "drainBatchSize", 500);
+        PendingMessages pending = new PendingMessages(ChatMessageService.CHAT_STREAM_GROUP, List.of(
+                new PendingMessage(RecordId.of("1-0"), Consumer.from(ChatMessageService.CHAT_STREAM_GROUP, "dead-node"), Duration.ofMinutes(5), 1),
+                new PendingMessage(RecordId.of("2-0"), Consumer.from(ChatMessageService.CHAT_STREAM_GROUP, "busy-node"), Duration.ofSeconds(1), 1),
+                new PendingMessage(RecordId.of("3-0"), Consumer.from(ChatMessageService.CHAT_STREAM_GROUP, "node-a"), Duration.ofMinutes(5), 1)));
+        when(streamOperations.pending(eq(ChatMessageService.CHAT_STREAM_KEY), eq(ChatMessageService.CHAT_STREAM_GROUP), any(Range.class), anyLong()))
+                .thenReturn(pending);
+
+        // when
+        chatMessageService.drain();
+
+        // then
+        verify(streamOperations).claim(ChatMessageService.CHAT_STREAM_KEY, ChatMessageService.CHAT_STREAM_GROUP,
+                "node-a", Duration.ofMinutes(1), RecordId.of("1-0"));
+    }
+
+    @Test
+    @DisplayName("이전 메시지 조회 - 채팅방 멤버가 아니면 예외")
+    void getMessages_rejects_non_member() {
+        // given
+        when(memberAuthReader.findByUsername("user")).thenReturn(
+                new MemberAuthDto(1, "user", "pw", "name", "ROLE_USER", true, false));
+        when(chatroomMemberRepository.findByChatroomIdAndMemberId(10, 1)).thenReturn(Optional.empty());
+
+        // when
+        CustomException thrown = assertThrows(CustomException.class,
+                () -> chatMessageService.getMessages(10, "user", null, 50));
+
+        // then
+        assertEquals(ErrorCode.NOT_CHATROOM_MEMBER, thrown.getErrorCode());
+        verify(chatMessageRepository, never()).findByChatroomIdAndIdLessThanOrderByIdDesc(anyInt(), anyLong(), any());
+    }
+
+    private ChatMessageDto.Response message() {
+        return ChatMessageDto.Response.builder()
+                .chatroomId(10)
+                .senderId(1)
+                .senderName("name")
+                .content("hello")
+                .timestamp(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package jsl.moum.chatroom.service;
+
+import jsl.moum.chatroom.domain.ChatroomMemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * 안 읽은 수 Lua 스크립트를 실제 Redis(127.0.0.1:6379)에서 실행 (Redis 가 없으면 건너뜀)
+ */
+class ChatUnreadScriptTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private ChatUnreadService chatUnreadService;
+
+    private int chatroomId;
+    private int senderId;
+    private int readerId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("127.0.0.1", 6379);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        boolean available;
+        try {
+            connectionFactory.getConnection().ping();
+            available = true;
+        } catch (RuntimeException e) {
+            available = false;
+        }
+        if (!available) {
+            connectionFactory.destroy();
+        }
+        assumeTrue(available, "Redis 없음");
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        ChatroomMemberRepository chatroomMemberRepository = mock(ChatroomMemberRepository.class);
+        chatUnreadService = new ChatUnreadService(redisTemplate, chatroomMemberRepository);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        chatroomId = random.nextInt(1_000_000, 2_000_000);
+        senderId = random.nextInt(1_000_000, 2_000_000);
+        readerId = senderId + 1;
+        when(chatroomMemberRepository.findAllMemberIdByChatroomId(chatroomId)).thenReturn(List.of(senderId, readerId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate == null) {
+            return;
+        }
+        redisTemplate.delete(List.of(
+                "chat:room:" + chatroomId + ":members", "chat:room:" + chatroomId + ":messages",
+                "chat:unread:" + senderId, "chat:read:" + senderId,
+                "chat:unread:" + readerId, "chat:read:" + readerId));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 읽음 요청은 그 이후 온 메시지의 안 읽은 수를 지우지 않음")
+    void late_markRead_keeps_newer_messages_unread() {
+        // given : 메시지 2개가 온 뒤에 첫 번째 메시지까지의 읽음 요청이 도착
+        chatUnreadService.onMessage(chatroomId, senderId, 1_000_000_000_000_000_001L);
+        chatUnreadService.onMessage(chatroomId, senderId, 1_000_000_000_000_000_002L);
+        assertEquals(Map.of(chatroomId, 2), unread());
+
+        // when
+        chatUnreadService.markRead(chatroomId, readerId, 1_000_000_000_000_000_001L);
+
+        // then
+        assertEquals(Map.of(chatroomId, 1), unread());
+
+        // when : 읽음 위치보다 오래된 요청은 아무것도 바꾸지 않음
+        chatUnreadService.markRead(chatroomId, readerId, 1_000_000_000_000_000_000L);
+
+        // then
+        assertEquals(Map.of(chatroomId, 1), unread());
+        assertEquals("1000000000000000001", redisTemplate.opsForHash().get("chat:read:" + readerId, String.valueOf(chatroomId)));
+
+        // when : 최신 메시지까지 읽으면 초기화
+        chatUnreadService.markRead(chatroomId, readerId, 1_000_000_000_000_000_002L);
+
+        // then
+        assertTrue(unread().isEmpty());
+    }
+
+    private Map<Integer, Integer> unread() {
+        return chatUnreadService.getUnreadCounts(readerId, List.of(chatroomId));
+    }
+}
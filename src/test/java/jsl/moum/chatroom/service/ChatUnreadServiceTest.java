@@ -0,0 +1,104 @@
+package jsl.moum.chatroom.service;
+
+import jsl.moum.chatroom.domain.ChatroomMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChatUnreadServiceTest {
+
+    @InjectMocks
+    private ChatUnreadService chatUnreadService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ChatroomMemberRepository chatroomMemberRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("안 읽은 메시지 수 - HMGET 한 번으로 조회, 값이 없는 채팅방은 제외")
+    void getUnreadCounts_uses_single_multiGet() {
+        // given
+        when(hashOperations.multiGet("chat:unread:1", List.of("10", "20", "30")))
+                .thenReturn(Arrays.asList("3", null, "1"));
+
+        // when
+        Map<Integer, Integer> unreadCounts = chatUnreadService.getUnreadCounts(1, List.of(10, 20, 30));
+
+        // then
+        assertEquals(Map.of(10, 3, 30, 1), unreadCounts);
+        verify(hashOperations, times(1)).multiGet(any(), any());
+    }
+
+    @Test
+    @DisplayName("안 읽은 메시지 수 - Redis 장애 시 빈 결과")
+    void getUnreadCounts_returns_empty_when_redis_fails() {
+        // given
+        when(hashOperations.multiGet(any(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        Map<Integer, Integer> unreadCounts = chatUnreadService.getUnreadCounts(1, List.of(10));
+
+        // then
+        assertTrue(unreadCounts.isEmpty());
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 읽음 위치는 Lua 스크립트로 앞으로만 이동")
+    void markRead_advances_cursor_with_script() {
+        // when
+        chatUnreadService.markRead(10, 1, 123456789012345678L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("chat:unread:1", "chat:read:1", "chat:room:10:messages")),
+                eq("10"), eq("123456789012345678"), eq("00123456789012345678"));
+        verify(hashOperations, never()).put(any(), any(), any());
+        verify(hashOperations, never()).delete(any(), any());
+    }
+
+    @Test
+    @DisplayName("새 메시지 - 메시지 목록 추가, 다른 멤버 카운터 증가, 보낸 사람 읽음 처리를 스크립트 한 번으로")
+    void onMessage_updates_index_and_counters_in_one_script() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(mock(SetOperations.class));
+        when(chatroomMemberRepository.findAllMemberIdByChatroomId(10)).thenReturn(List.of(1, 2));
+
+        // when
+        chatUnreadService.onMessage(10, 1, 42L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("chat:room:10:messages", "chat:unread:1", "chat:read:1", "chat:unread:2")),
+                eq("10"), eq("42"), eq("00000000000000000042"), eq("1000"), any());
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -1,8 +1,13 @@
 package jsl.moum.chatroom.service;
 
+import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.chatroom.domain.Chatroom;
+import jsl.moum.chatroom.domain.ChatroomMember;
+import jsl.moum.chatroom.domain.ChatroomMemberRepository;
 import jsl.moum.chatroom.domain.ChatroomRepository;
 import jsl.moum.chatroom.dto.ChatroomDto;
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,11 +15,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ChatroomServiceTest {
@@ -26,12 +40,98 @@ class ChatroomServiceTest {
     @Mock
     private ChatroomRepository chatroomRepository;
 
+    @Mock
+    private ChatroomMemberRepository chatroomMemberRepository;
+
+    @Mock
+    private ChatUnreadService chatUnreadService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
     }
 
+    @Test
+    @DisplayName("채팅방 목록 조회 - inbox 쿼리 결과에 안 읽은 메시지 수 추가")
+    void get_chatroom_list_by_memberId_success(){
+        // given
+        int memberId = 1;
+        ChatroomDto personal = new ChatroomDto(1, "DM", 0, null, null, "hi", LocalDateTime.now(), "profile-url");
+        ChatroomDto team = new ChatroomDto(2, "Team", 1, 10, 3, "hello", LocalDateTime.now().minusMinutes(1), "team-url");
+        when(chatroomMemberRepository.findInboxByMemberId(memberId)).thenReturn(List.of(personal, team));
+        when(chatUnreadService.getUnreadCounts(memberId, List.of(1, 2))).thenReturn(Map.of(1, 3));
+
+        // when
+        List<ChatroomDto> result = chatroomService.getChatroomListByMemberId(memberId);
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0).getFileUrl()).isEqualTo("profile-url");
+        assertThat(result.get(1).getTeamId()).isEqualTo(10);
+        assertThat(result.get(0).getUnreadCount()).isEqualTo(3);
+        assertThat(result.get(1).getUnreadCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("채팅방 목록 조회 - 참여 중인 채팅방이 없으면 예외")
+    void get_chatroom_list_by_memberId_empty(){
+        // given
+        when(chatroomMemberRepository.findInboxByMemberId(1)).thenReturn(List.of());
+
+        // when & then
+        CustomException thrown = assertThrows(CustomException.class, () -> chatroomService.getChatroomListByMemberId(1));
+        assertEquals(ErrorCode.CHATROOM_LIST_GET_FAIL, thrown.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("개인 채팅방 생성 - 두 멤버의 개인 채팅방이 이미 있으면 예외 (멤버 순서 무관)")
+    void create_private_chatroom_duplicate(){
+        // given
+        ChatroomDto.Request request = new ChatroomDto.Request();
+        request.setName("DM");
+        request.setType(0);
+        request.setMembers(List.of(7, 3));
+        when(chatroomRepository.existsByDmKey("3:7")).thenReturn(true);
+
+        // when & then
+        CustomException thrown = assertThrows(CustomException.class, () -> chatroomService.createChatroom(request, null));
+        assertEquals(ErrorCode.CHATROOM_CREATE_FAIL, thrown.getErrorCode());
+        verify(chatroomRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("개인 채팅방 멤버 제거 - dm_key 를 비워 같은 두 사람이 새 개인 채팅방을 만들 수 있게 함")
+    void remove_private_chatroom_member_clears_dm_key(){
+        // given
+        Chatroom chatroom = Chatroom.builder()
+                .id(1)
+                .type(0)
+                .dmKey("3:7")
+                .build();
+        ChatroomMember chatroomMember = ChatroomMember.builder()
+                .chatroom(chatroom)
+                .build();
+        ChatroomDto.Members members = new ChatroomDto.Members();
+        members.setMemberIds(List.of(7));
+        when(chatroomRepository.existsById(1)).thenReturn(true);
+        when(memberRepository.existsById(7)).thenReturn(true);
+        when(chatroomMemberRepository.findByChatroomIdAndMemberId(1, 7)).thenReturn(Optional.of(chatroomMember));
+
+        // when
+        chatroomService.removeChatroomMembers(1, members);
+
+        // then
+        verify(chatroomMemberRepository).delete(chatroomMember);
+        assertThat(chatroom.getDmKey()).isNull();
+        verify(chatroomRepository).save(chatroom);
+    }
+
 //    @Test
 //    @DisplayName("멤버 아이디로 채팅방 찾기 성공")
 //    void get_chatroom_by_memberId_success(){
@@ -0,0 +1,84 @@
+package jsl.moum.chatroom.websocket;
+
+import jsl.moum.auth.event.MemberBannedEvent;
+import jsl.moum.chatroom.event.ChatroomMemberChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChatSessionControlTest {
+
+    @InjectMocks
+    private ChatSessionControl chatSessionControl;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ChatSessionHub chatSessionHub;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("채팅방 멤버 제거 시 모든 노드에 구독 해제 메시지 발행, 추가 시에는 발행하지 않음")
+    void onChatroomMemberChanged_publishes_leave() {
+        // when
+        chatSessionControl.onChatroomMemberChanged(new ChatroomMemberChangedEvent(1, 7, true));
+        chatSessionControl.onChatroomMemberChanged(new ChatroomMemberChangedEvent(1, 8, false));
+
+        // then
+        verify(redisTemplate).convertAndSend(ChatSessionControl.SESSION_CONTROL_CHANNEL, "LEAVE:1:7");
+        verify(redisTemplate, times(1)).convertAndSend(eq(ChatSessionControl.SESSION_CONTROL_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("회원 정지 시 Redis 장애면 현재 노드의 세션만 종료")
+    void onMemberBanned_redis_down() {
+        // given
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new QueryTimeoutException("redis down"));
+
+        // when
+        chatSessionControl.onMemberBanned(new MemberBannedEvent(7));
+
+        // then
+        verify(chatSessionHub).closeMember(7);
+    }
+
+    @Test
+    @DisplayName("수신한 메시지에 따라 구독 해제 / 연결 종료")
+    void onMessage_applies_command() {
+        // when
+        chatSessionControl.onMessage(toMessage("LEAVE:1:7"), null);
+        chatSessionControl.onMessage(toMessage("CLOSE:8"), null);
+        chatSessionControl.onMessage(toMessage("CLOSE:abc"), null);
+
+        // then
+        verify(chatSessionHub).leaveMember(1, 7);
+        verify(chatSessionHub).closeMember(8);
+        verifyNoMoreInteractions(chatSessionHub);
+    }
+
+    private DefaultMessage toMessage(String body) {
+        return new DefaultMessage(ChatSessionControl.SESSION_CONTROL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,121 @@
+package jsl.moum.chatroom.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChatSessionHubTest {
+
+    private ChatSessionHub chatSessionHub;
+
+    @BeforeEach
+    void setUp() {
+        chatSessionHub = new ChatSessionHub();
+        ReflectionTestUtils.setField(chatSessionHub, "sendTimeLimitMs", 5000);
+        ReflectionTestUtils.setField(chatSessionHub, "bufferSizeLimit", 512 * 1024);
+    }
+
+    @Test
+    @DisplayName("채팅방 구독 세션에만 전송, 구독 해제/연결 종료 후에는 전송하지 않음")
+    void broadcast_only_to_joined_sessions() throws Exception {
+        // given
+        WebSocketSession member = openSession("s1");
+        WebSocketSession other = openSession("s2");
+        chatSessionHub.register(member);
+        chatSessionHub.register(other);
+        chatSessionHub.join(1, member);
+        chatSessionHub.join(2, other);
+
+        // when
+        chatSessionHub.broadcast(1, "hello");
+
+        // then
+        assertTrue(chatSessionHub.isJoined(1, member));
+        verify(member).sendMessage(new TextMessage("hello"));
+        verify(other, never()).sendMessage(any());
+
+        // when : 연결 종료
+        chatSessionHub.unregister(member);
+        chatSessionHub.broadcast(1, "bye");
+
+        // then
+        assertFalse(chatSessionHub.isJoined(1, member));
+        verify(member, never()).sendMessage(new TextMessage("bye"));
+    }
+
+    @Test
+    @DisplayName("채팅방에서 제거된 회원의 세션은 해당 채팅방 구독만 해제")
+    void leaveMember_unsubscribes_member_sessions() throws Exception {
+        // given
+        WebSocketSession removed = openSession("s1", 7);
+        WebSocketSession other = openSession("s2", 8);
+        chatSessionHub.register(removed);
+        chatSessionHub.register(other);
+        chatSessionHub.join(1, removed);
+        chatSessionHub.join(2, removed);
+        chatSessionHub.join(1, other);
+
+        // when
+        chatSessionHub.leaveMember(1, 7);
+        chatSessionHub.broadcast(1, "hello");
+
+        // then
+        assertFalse(chatSessionHub.isJoined(1, removed));
+        assertTrue(chatSessionHub.isJoined(2, removed));
+        verify(removed, never()).sendMessage(any());
+        verify(other).sendMessage(new TextMessage("hello"));
+    }
+
+    @Test
+    @DisplayName("정지된 회원의 세션은 모두 종료하고 더 이상 전송하지 않음")
+    void closeMember_closes_member_sessions() throws Exception {
+        // given
+        WebSocketSession first = openSession("s1", 7);
+        WebSocketSession second = openSession("s2", 7);
+        WebSocketSession other = openSession("s3", 8);
+        chatSessionHub.register(first);
+        chatSessionHub.register(second);
+        chatSessionHub.register(other);
+        chatSessionHub.join(1, first);
+        chatSessionHub.join(1, second);
+        chatSessionHub.join(1, other);
+
+        // when
+        chatSessionHub.closeMember(7);
+        chatSessionHub.broadcast(1, "hello");
+
+        // then
+        verify(first).close(CloseStatus.POLICY_VIOLATION);
+        verify(second).close(CloseStatus.POLICY_VIOLATION);
+        verify(other, never()).close(any());
+        assertFalse(chatSessionHub.isJoined(1, first));
+        verify(first, never()).sendMessage(any());
+        verify(other).sendMessage(new TextMessage("hello"));
+    }
+
+    private WebSocketSession openSession(String id, int memberId) {
+        WebSocketSession session = openSession(id);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(ChatHandshakeInterceptor.MEMBER_ID, memberId);
+        when(session.getAttributes()).thenReturn(attributes);
+        return session;
+    }
+
+    private WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
@@ -1,5 +1,10 @@
 package jsl.moum.community.article.service;
 
+import jsl.moum.rank.service.RankingService;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.report.domain.ArticleReport;
 import jsl.moum.report.domain.ArticleReportRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,10 +14,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
@@ -22,7 +30,9 @@ import jsl.moum.community.article.domain.article_details.ArticleDetailsEntity;
 import jsl.moum.community.article.domain.article_details.ArticleDetailsRepository;
 import jsl.moum.community.article.domain.article_details.ArticleDetailsRepositoryCustom;
 import jsl.moum.community.article.dto.ArticleDetailsDto;
+import jsl.moum.community.article.event.ArticleChangedEvent;
 import jsl.moum.community.article.dto.ArticleDto;
+import jsl.moum.objectstorage.AsyncStorageService;
 import jsl.moum.objectstorage.StorageService;
 import jsl.moum.global.error.exception.NeedLoginException;
 import jsl.moum.global.error.exception.NoAuthorityException;
@@ -31,12 +41,14 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 class ArticleServiceTest {
@@ -50,6 +62,12 @@ class ArticleServiceTest {
     @Mock
     private StorageService storageService;
 
+    @Mock
+    private AsyncStorageService asyncStorageService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @Mock
     private ArticleDetailsRepository articleDetailsRepository;
 
@@ -62,12 +80,33 @@ class ArticleServiceTest {
     @Mock
     private ArticleReportRepository articleReportRepository;
 
+    @Mock
+    private CounterService counterService;
+
+    @Mock
+    private HotArticleService hotArticleService;
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private ArticleReader articleReader;
+
+    @Mock
+    private ArticleViewService articleViewService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private MemberEntity author;
     private ArticleEntity mockArticle;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(counterService.getCount(any(), anyInt())).thenReturn(CounterDelta.empty());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         // Author 객체 생성
         author = MemberEntity.builder()
@@ -142,11 +181,10 @@ class ArticleServiceTest {
                 .build();
 
         // Mock 동작
-        when(articleRepository.findById(1)).thenReturn(Optional.of(article));
-        when(articleDetailsRepository.findById(1)).thenReturn(Optional.of(articleDetails));
+        when(articleReader.findArticle(1)).thenReturn(new ArticleDetailsDto.Response(articleDetails, article));
 
         // when
-        ArticleDetailsDto.Response response = articleService.getArticleById(1,anyString());
+        ArticleDetailsDto.Response response = articleService.getArticleById(1, "viewer");
 
         // then
         assertNotNull(response);
@@ -154,6 +192,63 @@ class ArticleServiceTest {
         assertEquals("test title", response.getTitle());
         assertEquals("test content", response.getContent());
         assertEquals("file url1", response.getFileUrls().get(0));
+        verify(articleViewService).recordView(1, "viewer");
+    }
+
+    @Test
+    @DisplayName("게시글 조회 테스트 - 작성자 본인 조회는 조회수 미반영")
+    void getArticleById_by_author_does_not_record_view() {
+        // given
+        ArticleEntity article = ArticleEntity.builder()
+                .id(1)
+                .title("test title")
+                .category(ArticleEntity.ArticleCategories.FREE_TALKING_BOARD)
+                .author(author)
+                .build();
+
+        ArticleDetailsEntity articleDetails = ArticleDetailsEntity.builder()
+                .content("test content")
+                .articleId(article.getId())
+                .build();
+
+        when(articleReader.findArticle(1)).thenReturn(new ArticleDetailsDto.Response(articleDetails, article));
+
+        // when
+        articleService.getArticleById(1, author.getUsername());
+
+        // then
+        verify(articleViewService, never()).recordView(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("게시글 조회 테스트 - 캐시된 카운트 대신 현재 카운트(DB 값 + 증감량)로 응답")
+    void getArticleById_overlays_current_counts() {
+        // given : 캐시에는 조회수 0 으로 들어있음
+        ArticleEntity article = ArticleEntity.builder()
+                .id(1)
+                .title("test title")
+                .category(ArticleEntity.ArticleCategories.FREE_TALKING_BOARD)
+                .author(author)
+                .build();
+
+        ArticleDetailsEntity articleDetails = ArticleDetailsEntity.builder()
+                .content("test content")
+                .articleId(article.getId())
+                .build();
+
+        CounterDelta counts = CounterDelta.empty();
+        counts.add(CounterField.VIEW, 7);
+        counts.add(CounterField.LIKES, 3);
+        when(articleReader.findArticle(1)).thenReturn(new ArticleDetailsDto.Response(articleDetails, article));
+        when(counterService.getCount(CounterTarget.ARTICLE, 1)).thenReturn(counts);
+
+        // when
+        ArticleDetailsDto.Response response = articleService.getArticleById(1, "viewer");
+
+        // then
+        assertEquals(7, response.getViewCounts());
+        assertEquals(3, response.getLikeCounts());
+        assertEquals(0, response.getCommentsCounts());
     }
 
     @Test
@@ -272,6 +367,9 @@ class ArticleServiceTest {
 
         verify(articleRepository).deleteById(1);
         verify(articleDetailsRepository).deleteById(1);
+        // 캐시는 직접 비우지 않고 커밋 이후 리스너에서 비움
+        verify(eventPublisher).publishEvent(any(ArticleChangedEvent.class));
+        verify(articleReader, never()).evict(anyInt());
 
         assertThrows(NoAuthorityException.class, () -> {
             articleService.deleteArticleDetails(1, "not_author_user");
@@ -385,4 +483,41 @@ class ArticleServiceTest {
         assertEquals(ArticleEntity.ArticleCategories.FREE_TALKING_BOARD,response.get(1).getCategory());
     }
 
+    @Test
+    @DisplayName("ID 목록으로 게시글 여러 건 조회 - 요청 순서 유지, 없는 게시글 제외")
+    void getArticlesByIds_keeps_order_and_skips_missing() {
+        // given
+        ArticleEntity first = ArticleEntity.builder()
+                .id(1)
+                .title("first")
+                .category(ArticleEntity.ArticleCategories.FREE_TALKING_BOARD)
+                .author(author)
+                .build();
+        ArticleEntity second = ArticleEntity.builder()
+                .id(2)
+                .title("second")
+                .category(ArticleEntity.ArticleCategories.RECRUIT_BOARD)
+                .author(author)
+                .build();
+        ArticleDetailsEntity details = ArticleDetailsEntity.builder()
+                .content("content")
+                .build();
+
+        when(articleReader.findArticles(List.of(2, 3, 1))).thenReturn(Map.of(
+                1, new ArticleDetailsDto.Response(details, first),
+                2, new ArticleDetailsDto.Response(details, second)
+        ));
+        when(counterService.getCounts(any(), anyCollection())).thenReturn(Map.of());
+
+        // when
+        List<ArticleDto.Response> response = articleService.getArticlesByIds(List.of(2L, 3L, 1L));
+
+        // then
+        assertEquals(2, response.size());
+        assertEquals("second", response.get(0).getTitle());
+        assertEquals("first", response.get(1).getTitle());
+        assertEquals(ArticleEntity.ArticleCategories.RECRUIT_BOARD, response.get(0).getCategory());
+        verify(articleReader, times(1)).findArticles(anyCollection());
+    }
+
 }
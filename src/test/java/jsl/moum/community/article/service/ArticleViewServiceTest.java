@@ -0,0 +1,125 @@
+package jsl.moum.community.article.service;
+
+import jsl.moum.community.article.domain.view.ArticleViewFoldRepository;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
+import jsl.moum.config.redis.util.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ArticleViewServiceTest {
+
+    private static final String LOCK_KEY = "article:uv:fold-lock";
+
+    @InjectMocks
+    private ArticleViewService articleViewService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @Mock
+    private CounterService counterService;
+
+    @Mock
+    private ArticleViewFoldRepository articleViewFoldRepository;
+
+    @Mock
+    private HotArticleService hotArticleService;
+
+
+    private String dirtyKey;
+    private String foldingKey;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        dirtyKey = "article:uv:dirty:" + today;
+        foldingKey = dirtyKey + ":folding";
+
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenReturn("token");
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.hasKey(foldingKey)).thenReturn(false);
+        when(redisTemplate.hasKey(dirtyKey)).thenReturn(true);
+        when(setOperations.members(foldingKey)).thenReturn(new LinkedHashSet<>(List.of("1", "2")));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(3L, 5L));
+    }
+
+    @Test
+    @DisplayName("고유 조회수 반영 - PFCOUNT 를 반영 기록과 함께 DB 반영, 인기 점수는 한 번에 증가")
+    void fold_applies_counts_and_increments_hot_scores_at_once() {
+        // given
+        CounterDelta delta = CounterDelta.empty();
+        delta.add(CounterField.VIEW, 2);
+        when(articleViewFoldRepository.fold(anyString(), eq(Map.of(1, 3L, 2, 5L)))).thenReturn(Map.of(1, delta));
+
+        // when
+        articleViewService.fold();
+
+        // then
+        verify(redisTemplate).renameIfAbsent(dirtyKey, foldingKey);
+        verify(hotArticleService).incrementAll(Map.of(1, 2));
+        verify(hotArticleService, never()).increment(anyInt(), anyInt());
+        verify(counterService).invalidate(CounterTarget.ARTICLE, Set.of(1));
+        verify(redisTemplate).delete(foldingKey);
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("고유 조회수 반영 - 이미 반영된 값이면 증가 없이 folding 만 삭제")
+    void fold_does_not_count_again_when_already_folded() {
+        // given : 이전 주기에 DB 커밋 후 folding 삭제만 실패한 상태
+        when(redisTemplate.hasKey(foldingKey)).thenReturn(true);
+        when(articleViewFoldRepository.fold(anyString(), anyMap())).thenReturn(Collections.emptyMap());
+
+        // when
+        articleViewService.fold();
+
+        // then
+        verify(redisTemplate, never()).renameIfAbsent(anyString(), anyString());
+        verify(hotArticleService, never()).incrementAll(any());
+        verify(counterService, never()).invalidate(any(), anyCollection());
+        verify(redisTemplate).delete(foldingKey);
+    }
+
+    @Test
+    @DisplayName("고유 조회수 반영 - DB 반영 실패 시 folding 을 남기고 내 락만 해제")
+    void fold_keeps_folding_key_when_db_fails() {
+        // given
+        when(articleViewFoldRepository.fold(anyString(), anyMap())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        articleViewService.fold();
+
+        // then
+        verify(redisTemplate, never()).delete(foldingKey);
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+}
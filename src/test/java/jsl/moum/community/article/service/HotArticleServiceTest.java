@@ -0,0 +1,84 @@
+package jsl.moum.community.article.service;
+
+import jsl.moum.community.article.domain.article.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HotArticleServiceTest {
+
+    @InjectMocks
+    private HotArticleService hotArticleService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("인덱스 범위 안의 페이지는 점수 순서대로 id 반환")
+    void returns_ids_within_index() {
+        // given
+        when(zSetOperations.reverseRange(HotArticleService.HOT_ARTICLE_KEY, 0, 1))
+                .thenReturn(new LinkedHashSet<>(List.of("3", "1")));
+
+        // when
+        List<Integer> ids = hotArticleService.getHotArticleIds(0, 2);
+
+        // then
+        assertEquals(List.of(3, 1), ids);
+        verify(zSetOperations, never()).zCard(HotArticleService.HOT_ARTICLE_KEY);
+    }
+
+    @Test
+    @DisplayName("인덱스 크기를 넘는 페이지는 RDB Fallback 없이 빈 목록 반환")
+    void page_beyond_index_returns_empty() {
+        // given
+        when(zSetOperations.reverseRange(HotArticleService.HOT_ARTICLE_KEY, 1000, 1009))
+                .thenReturn(Collections.emptySet());
+        when(zSetOperations.zCard(HotArticleService.HOT_ARTICLE_KEY)).thenReturn(1000L);
+
+        // when
+        List<Integer> ids = hotArticleService.getHotArticleIds(100, 10);
+
+        // then
+        assertEquals(Collections.emptyList(), ids);
+    }
+
+    @Test
+    @DisplayName("인덱스가 비어있으면 null 반환하여 RDB Fallback")
+    void empty_index_falls_back() {
+        // given
+        when(zSetOperations.reverseRange(HotArticleService.HOT_ARTICLE_KEY, 0, 9))
+                .thenReturn(Collections.emptySet());
+        when(zSetOperations.zCard(HotArticleService.HOT_ARTICLE_KEY)).thenReturn(0L);
+
+        // when
+        List<Integer> ids = hotArticleService.getHotArticleIds(0, 10);
+
+        // then
+        assertNull(ids);
+    }
+}
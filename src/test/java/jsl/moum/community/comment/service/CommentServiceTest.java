@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.test.context.support.WithMockUser;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
@@ -13,14 +14,19 @@ import jsl.moum.community.article.domain.article.ArticleEntity;
 import jsl.moum.community.article.domain.article.ArticleRepository;
 import jsl.moum.community.article.domain.article_details.ArticleDetailsEntity;
 import jsl.moum.community.article.domain.article_details.ArticleDetailsRepository;
+import jsl.moum.community.article.event.ArticleChangedEvent;
 import jsl.moum.community.comment.domain.CommentEntity;
 import jsl.moum.community.comment.domain.CommentRepository;
 import jsl.moum.community.comment.dto.CommentDto;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.custom.WithAuthUser;
 import jsl.moum.global.error.ErrorCode;
 import jsl.moum.global.error.exception.CustomException;
 import jsl.moum.global.error.exception.MemberNotExistException;
 import jsl.moum.global.error.exception.NoAuthorityException;
+import jsl.moum.rank.service.RankingService;
 
 import java.util.ArrayList;
 import java.util.Optional;
@@ -45,6 +51,15 @@ class CommentServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private CounterService counterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private MemberEntity mockAuthor;
     private ArticleDetailsEntity mockArticleDetails;
     private ArticleEntity mockArticle;
@@ -109,7 +124,7 @@ class CommentServiceTest {
         // then
         verify(commentRepository).save(any(CommentEntity.class));
         assertEquals("test content", response.getContent());
-        assertEquals(1, mockArticle.getCommentsCount());
+        verify(counterService).increment(CounterTarget.ARTICLE, mockArticle.getId(), CounterField.COMMENTS, 1);
 
     }
     @Test
@@ -174,7 +189,8 @@ class CommentServiceTest {
         // then
         verify(commentRepository).deleteById(mockComment.getId());
         assertEquals(1, response.getCommentId());
-        assertEquals(-1, mockArticle.getCommentsCount());
+        verify(counterService).increment(CounterTarget.ARTICLE, mockArticleDetails.getArticleId(), CounterField.COMMENTS, -1);
+        verify(eventPublisher).publishEvent(argThat((ArticleChangedEvent event) -> event.getArticleId() == mockArticleDetails.getArticleId()));
     }
 
     @Test
@@ -0,0 +1,82 @@
+package jsl.moum.community.counter.event;
+
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 실제 트랜잭션 동기화 위에서 커밋/롤백 시 카운터 누적 여부 확인
+ */
+class CounterChangedEventListenerTest {
+
+    private AnnotationConfigApplicationContext context;
+    private CounterService counterService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        counterService = mock(CounterService.class);
+        context = new AnnotationConfigApplicationContext();
+        context.register(TransactionConfig.class, CounterChangedEventListener.class);
+        context.registerBean(CounterService.class, () -> counterService);
+        context.refresh();
+        transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("발행 측 트랜잭션이 롤백되면 카운트가 바뀌지 않음")
+    void rolled_back_transaction_does_not_change_count() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new CounterChangedEvent(CounterTarget.ARTICLE, 1, CounterField.LIKES, 1));
+            status.setRollbackOnly();
+        });
+
+        // then
+        verify(counterService, never()).apply(any(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("발행 측 트랜잭션이 커밋된 이후에 카운트 누적")
+    void committed_transaction_changes_count_after_commit() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new CounterChangedEvent(CounterTarget.ARTICLE, 1, CounterField.LIKES, 1));
+            verify(counterService, never()).apply(any(), anyInt(), any(), anyInt());
+        });
+
+        // then
+        verify(counterService).apply(CounterTarget.ARTICLE, 1, CounterField.LIKES, 1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행되면 바로 누적")
+    void event_outside_transaction_is_applied_immediately() {
+        // when
+        context.publishEvent(new CounterChangedEvent(CounterTarget.ARTICLE, 1, CounterField.VIEW, 1));
+
+        // then
+        verify(counterService).apply(CounterTarget.ARTICLE, 1, CounterField.VIEW, 1);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+    }
+}
@@ -0,0 +1,291 @@
+package jsl.moum.community.counter.service;
+
+import jsl.moum.community.article.service.HotArticleService;
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterRepository;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.event.CounterChangedEvent;
+import jsl.moum.config.redis.util.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CounterServiceTest {
+
+    private static final String PENDING_KEY = "counter:article:pending";
+    private static final String FLUSHING_KEY = "counter:article:flushing";
+    private static final String LOCK_KEY = "counter:article:flush-lock";
+    private static final String BASE_KEY = "counter:article:base";
+    private static final String VERSION_KEY = "counter:article:version";
+    private static final List<String> START_KEYS = List.of(PENDING_KEY, FLUSHING_KEY, VERSION_KEY);
+    private static final List<String> FINISH_KEYS = List.of(FLUSHING_KEY, BASE_KEY, VERSION_KEY);
+    private static final List<String> READ_KEYS = List.of(BASE_KEY, PENDING_KEY, FLUSHING_KEY, VERSION_KEY);
+    private static final List<String> FILL_KEYS = List.of(BASE_KEY, VERSION_KEY);
+
+    @InjectMocks
+    private CounterService counterService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @Mock
+    private CounterRepository counterRepository;
+
+    @Mock
+    private HotArticleService hotArticleService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisLock.tryLock(anyString(), any())).thenReturn(null);
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenReturn("token");
+    }
+
+    @Test
+    @DisplayName("flush - pending 을 flushing 으로 RENAME 후 batch id 와 함께 반영하고 flushing / base 정리")
+    void flush_renames_pending_and_applies_with_batch_id() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), any(), any())).thenReturn(1L);
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(flushingEntries("batch-1"));
+        when(counterRepository.applyDeltas(eq(CounterTarget.ARTICLE), anyMap(), eq("batch-1"))).thenReturn(true);
+
+        // when
+        counterService.flush();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(START_KEYS), eq("__batch"), anyString());
+        Map<Integer, CounterDelta> deltas = captureDeltas("batch-1");
+        assertEquals(3, deltas.get(5).get(CounterField.VIEW));
+        assertEquals(1, deltas.get(5).get(CounterField.LIKES));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(FINISH_KEYS));
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("flush - 이전 주기에 이미 반영된 batch 가 남아 있으면 다시 더하지 않고 flushing 만 삭제")
+    void flush_skips_already_applied_batch() {
+        // given : DB 커밋 후 flushing 삭제에 실패했던 상태
+        when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), any(), any())).thenReturn(1L);
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(flushingEntries("batch-1"));
+        when(counterRepository.applyDeltas(eq(CounterTarget.ARTICLE), anyMap(), eq("batch-1"))).thenReturn(false);
+
+        // when
+        counterService.flush();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(FINISH_KEYS));
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("flush - DB 반영 실패 시 flushing 을 남겨 두고 락만 해제")
+    void flush_keeps_flushing_key_when_db_fails() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), any(), any())).thenReturn(1L);
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(flushingEntries("batch-1"));
+        when(counterRepository.applyDeltas(eq(CounterTarget.ARTICLE), anyMap(), eq("batch-1")))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        counterService.flush();
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(FINISH_KEYS));
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("increment 는 이벤트만 발행하고 Redis 에는 바로 누적하지 않음")
+    void increment_publishes_event_only() {
+        // when
+        counterService.increment(CounterTarget.ARTICLE, 7, CounterField.LIKES, 1);
+
+        // then
+        ArgumentCaptor<CounterChangedEvent> captor = ArgumentCaptor.forClass(CounterChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(7, captor.getValue().getId());
+        assertEquals(CounterField.LIKES, captor.getValue().getField());
+        assertEquals(1, captor.getValue().getDelta());
+        verify(hashOperations, never()).increment(anyString(), any(), anyLong());
+        verify(hotArticleService, never()).increment(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 카운터에 누적, 조회에 포함되고 flush 시 DB 반영")
+    void increment_falls_back_to_local_counter_when_redis_fails() {
+        // given
+        when(hashOperations.increment(anyString(), any(), anyLong())).thenThrow(new RedisConnectionFailureException("down"));
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        counterService.apply(CounterTarget.ARTICLE, 7, CounterField.VIEW, 1);
+        counterService.apply(CounterTarget.ARTICLE, 7, CounterField.VIEW, 1);
+
+        // then
+        assertEquals(2, counterService.getPendingDelta(CounterTarget.ARTICLE, 7).get(CounterField.VIEW));
+
+        // when
+        counterService.flush();
+
+        // then
+        ArgumentCaptor<Map<Integer, CounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(eq(CounterTarget.ARTICLE), captor.capture());
+        assertEquals(2, captor.getValue().get(7).get(CounterField.VIEW));
+        assertEquals(0, counterService.getPendingDelta(CounterTarget.ARTICLE, 7).get(CounterField.VIEW));
+    }
+
+    @Test
+    @DisplayName("아직 DB에 커밋되지 않은 flushing 값은 pending 과 함께 합산")
+    void pending_delta_includes_unapplied_flushing() {
+        // given
+        when(hashOperations.multiGet(eq(PENDING_KEY), anyCollection())).thenReturn(Arrays.asList("2", null, null));
+        when(hashOperations.multiGet(eq(FLUSHING_KEY), anyCollection())).thenReturn(Arrays.asList("3", null, null, "batch-1"));
+        when(counterRepository.isBatchApplied("batch-1")).thenReturn(false);
+
+        // when
+        CounterDelta delta = counterService.getPendingDelta(CounterTarget.ARTICLE, 5);
+
+        // then
+        assertEquals(5, delta.get(CounterField.VIEW));
+    }
+
+    @Test
+    @DisplayName("DB 커밋 후 flushing 삭제 전에 읽으면 flushing 값은 다시 더하지 않음")
+    void pending_delta_skips_applied_flushing() {
+        // given
+        when(hashOperations.multiGet(eq(PENDING_KEY), anyCollection())).thenReturn(Arrays.asList("2", null, null));
+        when(hashOperations.multiGet(eq(FLUSHING_KEY), anyCollection())).thenReturn(Arrays.asList("3", null, null, "batch-1"));
+        when(counterRepository.isBatchApplied("batch-1")).thenReturn(true);
+
+        // when
+        CounterDelta delta = counterService.getPendingDelta(CounterTarget.ARTICLE, 5);
+
+        // then
+        assertEquals(2, delta.get(CounterField.VIEW));
+    }
+
+    @Test
+    @DisplayName("현재 카운트 - Redis base 가 있으면 DB 조회 없이 base + pending + flushing")
+    void counts_are_served_from_redis_base() {
+        // given : [version, batch, base(VIEW, LIKES, COMMENTS), pending(...), flushing(...)]
+        when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), any(), any(), any(), any()))
+                .thenReturn(List.of("3", "batch-1", "10", "4", "1", "2", "", "", "1", "", ""));
+
+        // when
+        CounterDelta count = counterService.getCount(CounterTarget.ARTICLE, 5);
+
+        // then
+        assertEquals(13, count.get(CounterField.VIEW));
+        assertEquals(4, count.get(CounterField.LIKES));
+        assertEquals(1, count.get(CounterField.COMMENTS));
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    @DisplayName("현재 카운트 - base 가 없으면 DB 값(flushing batch 제외)으로 채우고 flushing 은 한 번만 더함")
+    void missing_base_is_filled_from_db_excluding_flushing_batch() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), any(), any(), any(), any()))
+                .thenReturn(List.of("3", "batch-1", "", "", "", "2", "", "", "1", "", ""));
+        CounterDelta base = CounterDelta.empty();
+        base.add(CounterField.VIEW, 10);
+        when(counterRepository.findCountsExcludingBatch(eq(CounterTarget.ARTICLE), eq(List.of(5)), eq("batch-1"), anyMap()))
+                .thenReturn(new HashMap<>(Map.of(5, base)));
+        when(redisTemplate.execute(any(RedisScript.class), eq(FILL_KEYS), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(1L);
+
+        // when
+        CounterDelta count = counterService.getCount(CounterTarget.ARTICLE, 5);
+
+        // then
+        assertEquals(13, count.get(CounterField.VIEW));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(FILL_KEYS), eq("3"), anyString(),
+                eq("5:VIEW"), eq("10"), eq("5:LIKES"), eq("0"), eq("5:COMMENTS"), eq("0"));
+        verify(counterRepository, never()).findCounts(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("현재 카운트 - 읽는 사이 flush 가 시작/완료되어 base 를 채우지 못하면 다시 읽음")
+    void rereads_when_version_changes_before_fill() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), any(), any(), any(), any()))
+                .thenReturn(List.of("3", "", "", "", "", "", "", "", "", "", ""))
+                .thenReturn(List.of("4", "", "11", "0", "0", "", "", "", "", "", ""));
+        CounterDelta base = CounterDelta.empty();
+        base.add(CounterField.VIEW, 10);
+        when(counterRepository.findCountsExcludingBatch(any(), anyCollection(), isNull(), anyMap()))
+                .thenReturn(new HashMap<>(Map.of(5, base)));
+        when(redisTemplate.execute(any(RedisScript.class), eq(FILL_KEYS), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(0L);
+
+        // when
+        CounterDelta count = counterService.getCount(CounterTarget.ARTICLE, 5);
+
+        // then
+        assertEquals(11, count.get(CounterField.VIEW));
+        verify(counterRepository, times(1)).findCountsExcludingBatch(any(), anyCollection(), isNull(), anyMap());
+    }
+
+    @Test
+    @DisplayName("현재 카운트 - Redis 장애 시 DB 값 + 로컬 증감량")
+    void counts_fall_back_to_db_when_redis_fails() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        CounterDelta dbCount = CounterDelta.empty();
+        dbCount.add(CounterField.LIKES, 2);
+        when(counterRepository.findCounts(eq(CounterTarget.ARTICLE), anyCollection()))
+                .thenReturn(new HashMap<>(Map.of(5, dbCount)));
+
+        // when
+        CounterDelta count = counterService.getCount(CounterTarget.ARTICLE, 5);
+
+        // then
+        assertEquals(2, count.get(CounterField.LIKES));
+    }
+
+    private Map<Object, Object> flushingEntries(String batchId) {
+        Map<Object, Object> entries = new HashMap<>();
+        entries.put("__batch", batchId);
+        entries.put("5:VIEW", "3");
+        entries.put("5:LIKES", "1");
+        return entries;
+    }
+
+    private Map<Integer, CounterDelta> captureDeltas(String batchId) {
+        ArgumentCaptor<Map<Integer, CounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(counterRepository).applyDeltas(eq(CounterTarget.ARTICLE), captor.capture(), eq(batchId));
+        return captor.getValue();
+    }
+}
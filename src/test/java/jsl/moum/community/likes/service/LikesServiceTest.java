@@ -1,10 +1,15 @@
 package jsl.moum.community.likes.service;
 
+import jsl.moum.rank.service.TeamRankingService;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.community.likes.domain.LikesRepositoryCustom;
 import jsl.moum.community.perform.domain.entity.PerformArticleEntity;
 import jsl.moum.community.perform.domain.repository.PerformArticleRepository;
 import jsl.moum.moum.lifecycle.domain.entity.LifecycleEntity;
 import jsl.moum.moum.team.domain.TeamEntity;
+import jsl.moum.rank.service.RankingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +38,9 @@ public class LikesServiceTest {
     @InjectMocks
     private LikesService likesService;
 
+    @Mock
+    private TeamRankingService teamRankingService;
+
     @Mock
     private LikesRepository likesRepository;
 
@@ -48,6 +56,12 @@ public class LikesServiceTest {
     @Mock
     private LikesRepositoryCustom likesRepositoryCustom;
 
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private CounterService counterService;
+
     private MemberEntity member;
     private ArticleEntity article;
     private LikesEntity likes;
@@ -110,10 +124,9 @@ public class LikesServiceTest {
 
         // then
         verify(likesRepository).save(any(LikesEntity.class));
-        verify(articleRepository).save(article);
+        verify(counterService).increment(CounterTarget.ARTICLE, articleId, CounterField.LIKES, 1);
         assertEquals(3, response.getMemberId());
         assertEquals(6, response.getArticleId());
-        assertEquals(1,article.getLikesCount());
     }
 
     @Test
@@ -234,7 +247,7 @@ public class LikesServiceTest {
 
         // then
         verify(likesRepository).save(any(LikesEntity.class));
-        verify(performArticleRepository).save(performArticle);
+        verify(counterService).increment(CounterTarget.PERFORM_ARTICLE, performArticleId, CounterField.LIKES, 1);
         assertEquals(3, response.getMemberId());
 //        assertEquals(6, response.getArticleId());
   //      assertEquals(1,article.getLikesCount());
@@ -1,5 +1,9 @@
 package jsl.moum.community.perform.service;
 
+import jsl.moum.community.counter.domain.CounterDelta;
+import jsl.moum.community.counter.domain.CounterField;
+import jsl.moum.community.counter.domain.CounterTarget;
+import jsl.moum.community.counter.service.CounterService;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.community.perform.domain.entity.PerformArticleEntity;
@@ -24,6 +28,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +63,9 @@ class PerformArticleServiceTest {
     @Mock
     private LifecycleRepository lifecycleRepository;
 
+    @Mock
+    private CounterService counterService;
+
     private MemberEntity mockMember;
     private TeamEntity mockTeam;
     private PerformArticleDto.Request mockRequestDto;
@@ -66,6 +74,7 @@ class PerformArticleServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(counterService.getPendingDelta(any(), anyInt())).thenReturn(CounterDelta.empty());
 
         mockMember = MemberEntity.builder()
                 .id(1)
@@ -251,6 +260,37 @@ class PerformArticleServiceTest {
         assertEquals(1, responseList.getTotalPages());
     }
 
+    @Test
+    @DisplayName("공연 게시글 리스트 조회 시 아직 반영되지 않은 좋아요/조회수 증감량 합산")
+    void get_all_thismonth_perform_articles_with_pending_counts() {
+        // given
+        PerformArticleEntity mockArticle = PerformArticleEntity.builder()
+                .id(1)
+                .performanceName("Performance 1")
+                .performanceStartDate(new Date())
+                .likesCount(3)
+                .viewCount(10)
+                .moum(mockMoum)
+                .team(mockTeam)
+                .build();
+        when(performArticleRepositoryCustom.getThisMonthPerformArticles(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(mockArticle)));
+
+        CounterDelta pending = CounterDelta.empty();
+        pending.add(CounterField.LIKES, 1);
+        pending.add(CounterField.VIEW, 2);
+        when(counterService.getPendingDeltas(eq(CounterTarget.PERFORM_ARTICLE), anyCollection()))
+                .thenReturn(Map.of(1, pending));
+
+        // when
+        Page<PerformArticleDto.Response> responseList = performArticleService.getAllThisMonthPerformArticles(0, 10);
+
+        // then
+        assertEquals(4, responseList.getContent().get(0).getLikesCount());
+        assertEquals(12, responseList.getContent().get(0).getViewCount());
+        verify(counterService).getPendingDeltas(CounterTarget.PERFORM_ARTICLE, List.of(1));
+    }
+
 
     @Test
     @DisplayName("findMember 메서드 성공")
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.Spy;
 import org.springframework.web.multipart.MultipartFile;
 import jsl.moum.auth.domain.entity.MemberEntity;
@@ -39,6 +40,9 @@ class ProfileServiceTest {
     @Mock
     private StorageService storageService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private MemberEntity mockMember;
 
     @BeforeEach
@@ -0,0 +1,164 @@
+package jsl.moum.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "test";
+    private static final String LOCAL_ONLY_CACHE_NAME = "localOnly";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TwoLevelCacheManager cacheManager;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cacheManager = newCacheManager();
+        cache = (TwoLevelCache) cacheManager.getCache(CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("다건 조회 - L1 에 없는 키만 MGET 한 번으로 L2 조회 후 L1 에 적재")
+    void getAll_multiGet_only_local_misses() {
+        // given
+        cache.putAll(Map.of(1, "a"));
+        when(valueOperations.multiGet(List.of("cache:test::2", "cache:test::3"))).thenReturn(Arrays.asList("\"b\"", null));
+
+        // when
+        Map<Object, Object> found = cache.getAll(List.of(1, 2, 3));
+        Map<Object, Object> foundAgain = cache.getAll(List.of(1, 2));
+
+        // then
+        assertThat(found).isEqualTo(Map.of(1, "a", 2, "b"));
+        assertThat(foundAgain).isEqualTo(Map.of(1, "a", 2, "b"));
+        verify(valueOperations, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("다건 조회 - Redis 장애 시 L1 값만 반환")
+    void getAll_redis_down() {
+        // given
+        cache.putAll(Map.of(1, "a"));
+        when(valueOperations.multiGet(anyList())).thenThrow(new QueryTimeoutException("redis down"));
+
+        // when
+        Map<Object, Object> found = cache.getAll(List.of(1, 2));
+
+        // then
+        assertThat(found).isEqualTo(Map.of(1, "a"));
+    }
+
+    @Test
+    @DisplayName("다건 저장 - L1 에 저장하고 L2 는 파이프라인 한 번으로 저장")
+    void putAll_pipelined() {
+        // when
+        cache.putAll(Map.of(1, "a", 2, "b"));
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        assertThat(cache.getAll(List.of(1, 2))).isEqualTo(Map.of(1, "a", 2, "b"));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    @DisplayName("삭제 - L2 / L1 삭제 후 무효화 메시지를 받은 다른 노드는 L1 만 비움")
+    void evict_invalidates_other_node_local_cache() {
+        // given
+        TwoLevelCacheManager otherManager = newCacheManager();
+        TwoLevelCache otherCache = (TwoLevelCache) otherManager.getCache(CACHE_NAME);
+        cache.putAll(Map.of(1, "a"));
+        otherCache.putAll(Map.of(1, "a"));
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((String) null));
+
+        // when
+        cache.evict(1);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.CACHE_INVALIDATE_CHANNEL), message.capture());
+        otherManager.onMessage(toMessage(message.getValue()), null);
+
+        // then
+        verify(redisTemplate).delete("cache:test::1");
+        assertThat(cache.getAll(List.of(1))).isEmpty();
+        assertThat(otherCache.getAll(List.of(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 - 자신이 발행한 메시지는 무시")
+    void onMessage_ignores_own_message() {
+        // given
+        cache.putAll(Map.of(1, "a"));
+        cache.evict(2);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.CACHE_INVALIDATE_CHANNEL), message.capture());
+
+        // when
+        cacheManager.onMessage(toMessage(message.getValue().replace("|2", "|1")), null);
+
+        // then
+        assertThat(cache.getAll(List.of(1))).isEqualTo(Map.of(1, "a"));
+    }
+
+    @Test
+    @DisplayName("L1 전용 캐시 - Redis 에 저장/조회하지 않고 무효화 메시지만 발행")
+    void localOnly_cache_never_touches_redis_values() {
+        // given
+        TwoLevelCache localOnlyCache = (TwoLevelCache) cacheManager.getCache(LOCAL_ONLY_CACHE_NAME);
+
+        // when
+        localOnlyCache.put(1, "secret");
+        Object cached = localOnlyCache.get(1).get();
+        Map<Object, Object> misses = localOnlyCache.getAll(List.of(2));
+        localOnlyCache.evict(1);
+
+        // then
+        assertThat(cached).isEqualTo("secret");
+        assertThat(misses).isEmpty();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        verify(redisTemplate, never()).delete(anyString());
+        verifyNoInteractions(valueOperations);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.CACHE_INVALIDATE_CHANNEL), anyString());
+    }
+
+    private TwoLevelCacheManager newCacheManager() {
+        return new TwoLevelCacheManager(redisTemplate, new ObjectMapper(), 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(10),
+                Map.of(CACHE_NAME, String.class, LOCAL_ONLY_CACHE_NAME, String.class), Set.of(LOCAL_ONLY_CACHE_NAME));
+    }
+
+    private DefaultMessage toMessage(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.CACHE_INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
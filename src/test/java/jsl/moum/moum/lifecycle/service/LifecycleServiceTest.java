@@ -1,5 +1,6 @@
 package jsl.moum.moum.lifecycle.service;
 
+import jsl.moum.rank.service.TeamRankingService;
 import jsl.moum.auth.domain.entity.MemberEntity;
 import jsl.moum.auth.domain.repository.MemberRepository;
 import jsl.moum.global.error.ErrorCode;
@@ -48,6 +49,9 @@ class LifecycleServiceTest {
     @InjectMocks
     private LifecycleService lifecycleService;
 
+    @Mock
+    private TeamRankingService teamRankingService;
+
     @Mock
     private LifecycleRepository lifecycleRepository;
 
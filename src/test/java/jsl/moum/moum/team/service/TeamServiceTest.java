@@ -1,5 +1,6 @@
 package jsl.moum.moum.team.service;
 
+import jsl.moum.rank.service.TeamRankingService;
 import jsl.moum.moum.lifecycle.domain.entity.LifecycleEntity;
 import jsl.moum.moum.lifecycle.domain.repository.LifecycleRepository;
 import jsl.moum.moum.lifecycle.domain.entity.LifecycleRepositoryCustom;
@@ -43,6 +44,9 @@ class TeamServiceTest {
     @InjectMocks
     private TeamService teamService;
 
+    @Mock
+    private TeamRankingService teamRankingService;
+
     @Mock
     private StorageService storageService;
 
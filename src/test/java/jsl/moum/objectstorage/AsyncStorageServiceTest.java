@@ -0,0 +1,82 @@
+package jsl.moum.objectstorage;
+
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AsyncStorageServiceTest {
+
+    @InjectMocks
+    private AsyncStorageService asyncStorageService;
+
+    @Mock
+    private StorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(asyncStorageService, "poolSize", 4);
+        ReflectionTestUtils.setField(asyncStorageService, "queueCapacity", 10);
+        asyncStorageService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncStorageService.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 파일 병렬 업로드 - 요청 순서대로 URL 반환")
+    void uploadImages_returns_urls_in_order() throws Exception {
+        // given
+        Map<String, MultipartFile> filesByKey = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            filesByKey.put("articles/key" + i, new MockMultipartFile("file", "file" + i + ".png", "image/png", new byte[]{1}));
+        }
+        when(storageService.uploadImage(any(), any())).thenAnswer(invocation -> "url/" + invocation.getArgument(0));
+
+        // when
+        List<String> urls = asyncStorageService.uploadImages(filesByKey);
+
+        // then
+        assertEquals(List.of("url/articles/key0", "url/articles/key1", "url/articles/key2", "url/articles/key3", "url/articles/key4"), urls);
+        verify(storageService, times(5)).uploadImage(any(), any());
+    }
+
+    @Test
+    @DisplayName("일부 업로드 실패 시 성공한 파일 삭제 후 예외")
+    void uploadImages_deletes_uploaded_files_on_failure() throws Exception {
+        // given
+        Map<String, MultipartFile> filesByKey = new LinkedHashMap<>();
+        filesByKey.put("articles/ok", new MockMultipartFile("file", "ok.png", "image/png", new byte[]{1}));
+        filesByKey.put("articles/bad", new MockMultipartFile("file", "bad.txt", "text/plain", new byte[]{1}));
+        when(storageService.uploadImage(eq("articles/ok"), any())).thenReturn("url/articles/ok");
+        when(storageService.uploadImage(eq("articles/bad"), any())).thenThrow(new CustomException(ErrorCode.INVALID_FILE_TYPE));
+
+        // when
+        CustomException thrown = assertThrows(CustomException.class, () -> asyncStorageService.uploadImages(filesByKey));
+
+        // then
+        assertEquals(ErrorCode.INVALID_FILE_TYPE, thrown.getErrorCode());
+        verify(storageService).deleteFile("articles/ok");
+        verify(storageService, never()).deleteFile("articles/bad");
+    }
+}
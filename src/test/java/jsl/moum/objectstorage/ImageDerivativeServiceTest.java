@@ -0,0 +1,132 @@
+package jsl.moum.objectstorage;
+
+import jsl.moum.objectstorage.event.ImageUploadedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImageDerivativeServiceTest {
+
+    @InjectMocks
+    private ImageDerivativeService imageDerivativeService;
+
+    @Mock
+    private StorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(imageDerivativeService, "maxSize", 320);
+        ReflectionTestUtils.setField(imageDerivativeService, "quality", 0.8f);
+        ReflectionTestUtils.setField(imageDerivativeService, "maxPixels", 40_000_000L);
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 - 긴 변 기준으로 축소한 JPEG 를 thumbnails/ 경로에 업로드")
+    void createThumbnail_uploads_resized_jpeg() throws Exception {
+        // given
+        ByteArrayOutputStream original = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB), "png", original);
+        when(storageService.downloadFile("articles/a/b.png")).thenReturn(original.toByteArray());
+        when(storageService.exists("articles/a/b.png")).thenReturn(true);
+
+        // when
+        imageDerivativeService.createThumbnail("articles/a/b.png");
+
+        // then
+        verify(storageService).uploadFile(eq("thumbnails/articles/a/b.png"), argThat((byte[] bytes) -> {
+            try {
+                BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(bytes));
+                return thumbnail.getWidth() == 320 && thumbnail.getHeight() == 160;
+            } catch (Exception e) {
+                return false;
+            }
+        }), eq("image/jpeg"));
+        verify(storageService, never()).deleteFile(any());
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 - 읽을 수 없는 이미지면 원본을 썸네일 경로로 복사")
+    void createThumbnail_copies_unreadable_image() throws Exception {
+        // given
+        when(storageService.downloadFile("articles/a/b.png")).thenReturn("not an image".getBytes());
+        when(storageService.exists("articles/a/b.png")).thenReturn(true);
+
+        // when
+        imageDerivativeService.createThumbnail("articles/a/b.png");
+
+        // then
+        verify(storageService, never()).uploadFile(any(), any(byte[].class), any());
+        verify(storageService).copyFile("articles/a/b.png", "thumbnails/articles/a/b.png");
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 - 픽셀 수가 예산을 넘으면 디코딩하지 않고 원본을 복사")
+    void createThumbnail_skips_decoding_large_image() throws Exception {
+        // given
+        ReflectionTestUtils.setField(imageDerivativeService, "maxPixels", 100_000L);
+        ByteArrayOutputStream original = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), "png", original);
+        when(storageService.downloadFile("articles/a/b.png")).thenReturn(original.toByteArray());
+        when(storageService.exists("articles/a/b.png")).thenReturn(true);
+
+        // when
+        imageDerivativeService.createThumbnail("articles/a/b.png");
+
+        // then
+        verify(storageService, never()).uploadFile(any(), any(byte[].class), any());
+        verify(storageService).copyFile("articles/a/b.png", "thumbnails/articles/a/b.png");
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 - 생성 중 원본이 삭제되었으면 썸네일도 삭제")
+    void createThumbnail_deletes_orphan_thumbnail() throws Exception {
+        // given
+        ByteArrayOutputStream original = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", original);
+        when(storageService.downloadFile("articles/a/b.png")).thenReturn(original.toByteArray());
+        when(storageService.exists("articles/a/b.png")).thenReturn(false);
+
+        // when
+        imageDerivativeService.createThumbnail("articles/a/b.png");
+
+        // then
+        verify(storageService).deleteFile("thumbnails/articles/a/b.png");
+    }
+
+    @Test
+    @DisplayName("업로드 이벤트 - 썸네일을 만들 수 없는 형식(webp, heic)은 건너뜀")
+    void onImageUploaded_skips_unsupported_extension() throws Exception {
+        // when
+        imageDerivativeService.onImageUploaded(new ImageUploadedEvent("articles/a/b.webp"));
+        imageDerivativeService.onImageUploaded(new ImageUploadedEvent("articles/a/b.HEIC"));
+
+        // then
+        verify(storageService, never()).downloadFile(any());
+    }
+
+    @Test
+    @DisplayName("썸네일 URL - 버킷 다음 경로에 thumbnails/ 추가")
+    void thumbnailUrl() {
+        assertEquals("https://kr.object.ncloudstorage.com/moumstorage/thumbnails/articles/1/a.png",
+                Thumbnails.urlOf("https://kr.object.ncloudstorage.com/moumstorage/articles/1/a.png"));
+        assertNull(Thumbnails.urlOf(null));
+        assertNull(Thumbnails.urlOf("https://example.com/a.png"));
+        assertNull(Thumbnails.urlOf("https://kr.object.ncloudstorage.com/moumstorage/articles/1/a.webp"));
+        assertNull(Thumbnails.urlOf("https://kr.object.ncloudstorage.com/moumstorage/articles/1/a.heic"));
+    }
+}
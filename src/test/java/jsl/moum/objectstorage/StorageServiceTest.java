@@ -0,0 +1,89 @@
+package jsl.moum.objectstorage;
+
+import jsl.moum.global.error.ErrorCode;
+import jsl.moum.global.error.exception.CustomException;
+import jsl.moum.objectstorage.event.ImageUploadedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StorageServiceTest {
+
+    // PNG 시그니처 + IHDR 일부
+    private static final byte[] PNG_BYTES = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n',
+            0, 0, 0, 0x0D, 'I', 'H', 'D', 'R', 0, 0, 0, 1, 0, 0, 0, 1
+    };
+
+    @InjectMocks
+    private StorageService storageService;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(storageService, "bucket", "test-bucket");
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 스트림을 한 번만 열고 판별된 형식으로 업로드")
+    void uploadImage_reads_stream_once_and_uses_detected_type() throws Exception {
+        // given
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getSize()).thenReturn((long) PNG_BYTES.length);
+        when(file.getContentType()).thenReturn("application/octet-stream");
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(PNG_BYTES));
+
+        // when
+        String url = storageService.uploadImage("profiles/test.png", file);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<RequestBody> bodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client).putObject(requestCaptor.capture(), bodyCaptor.capture());
+        verify(file, times(1)).getInputStream();
+
+        assertEquals("image/png", requestCaptor.getValue().contentType());
+        assertEquals(PNG_BYTES.length, bodyCaptor.getValue().optionalContentLength().orElseThrow());
+        assertEquals("https://kr.object.ncloudstorage.com/test-bucket/profiles/test.png", url);
+        verify(eventPublisher).publishEvent(any(ImageUploadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 이미지가 아니면 업로드하지 않음")
+    void uploadImage_rejects_non_image() throws Exception {
+        // given
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream("plain text".getBytes()));
+
+        // when
+        CustomException thrown = assertThrows(CustomException.class, () -> storageService.uploadImage("profiles/test.png", file));
+
+        // then
+        assertEquals(ErrorCode.INVALID_FILE_TYPE, thrown.getErrorCode());
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+}
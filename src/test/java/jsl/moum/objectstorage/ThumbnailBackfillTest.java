@@ -0,0 +1,71 @@
+package jsl.moum.objectstorage;
+
+import jsl.moum.config.redis.util.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ThumbnailBackfillTest {
+
+    private static final String LOCK_KEY = "image:thumbnail:backfill-lock";
+
+    @InjectMocks
+    private ThumbnailBackfill thumbnailBackfill;
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenReturn("token");
+        when(storageService.listKeys(anyString())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("썸네일이 없는 기존 이미지만 썸네일 생성 (이미 있거나 지원하지 않는 형식은 건너뜀)")
+    void backfill_creates_missing_thumbnails_only() {
+        // given
+        when(storageService.listKeys("articles/"))
+                .thenReturn(List.of("articles/a/old.png", "articles/b/new.png", "articles/c/photo.webp"));
+        when(storageService.listKeys("thumbnails/articles/"))
+                .thenReturn(List.of("thumbnails/articles/b/new.png"));
+
+        // when
+        thumbnailBackfill.backfill();
+
+        // then
+        verify(imageDerivativeService).createThumbnail("articles/a/old.png");
+        verifyNoMoreInteractions(imageDerivativeService);
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 건너뜀")
+    void backfill_skips_when_locked() {
+        // given
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenReturn(null);
+
+        // when
+        thumbnailBackfill.backfill();
+
+        // then
+        verifyNoInteractions(storageService, imageDerivativeService);
+    }
+}
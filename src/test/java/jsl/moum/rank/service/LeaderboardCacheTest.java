@@ -0,0 +1,89 @@
+package jsl.moum.rank.service;
+
+import jsl.moum.auth.domain.entity.MemberEntity;
+import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.rank.dto.RankingInfoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class LeaderboardCacheTest {
+
+    @InjectMocks
+    private LeaderboardCache leaderboardCache;
+
+    @Mock
+    private RankingRedisService rankingRedisService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Set<ZSetOperations.TypedTuple<String>> top = Set.of(new DefaultTypedTuple<>("1", 100.0));
+        when(rankingRedisService.getTopRankersWithScores(anyInt())).thenReturn(top);
+        when(memberRepository.findAllById(anyList())).thenReturn(List.of(member(1, "before")));
+        when(rankingRedisService.getRankingVersion()).thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("변경 알림이 여러 번 와도 주기마다 한 번만 재구성")
+    void refreshIfChanged_coalesces_notifications() {
+        // given
+        leaderboardCache.getTopRankings(10);
+        when(rankingRedisService.getRankingVersion()).thenReturn(2L);
+        when(memberRepository.findAllById(anyList())).thenReturn(List.of(member(1, "after")));
+
+        // when
+        leaderboardCache.onMessage(null, null);
+        leaderboardCache.onMessage(null, null);
+        leaderboardCache.onMessage(null, null);
+        List<RankingInfoResponse> beforeTick = leaderboardCache.getTopRankings(10);
+        leaderboardCache.refreshIfChanged();
+        leaderboardCache.refreshIfChanged();
+
+        // then
+        assertThat(beforeTick.get(0).getUsername()).isEqualTo("before");
+        assertThat(leaderboardCache.getTopRankings(10).get(0).getUsername()).isEqualTo("after");
+        verify(rankingRedisService, times(2)).getTopRankersWithScores(anyInt());
+    }
+
+    @Test
+    @DisplayName("변경 알림이 없으면 재구성하지 않음")
+    void refreshIfChanged_no_notification() {
+        // given
+        leaderboardCache.getTopRankings(10);
+
+        // when
+        leaderboardCache.refreshIfChanged();
+
+        // then
+        verify(rankingRedisService, times(1)).getTopRankersWithScores(anyInt());
+    }
+
+    private MemberEntity member(int id, String username) {
+        MemberEntity member = new MemberEntity();
+        member.setId(id);
+        member.setUsername(username);
+        member.setExp(100);
+        return member;
+    }
+}
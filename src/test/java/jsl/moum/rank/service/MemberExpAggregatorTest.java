@@ -0,0 +1,208 @@
+package jsl.moum.rank.service;
+
+import jsl.moum.config.redis.util.RedisLock;
+import jsl.moum.rank.dto.ExpChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MemberExpAggregatorTest {
+
+    private static final String PENDING_KEY = "ranking:exp:pending";
+    private static final String FLUSHING_KEY = "ranking:exp:flushing";
+    private static final String LOCK_KEY = "ranking:exp:flush-lock";
+    private static final List<String> START_KEYS = List.of(PENDING_KEY, FLUSHING_KEY);
+
+    @InjectMocks
+    private MemberExpAggregator memberExpAggregator;
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private RankingRedisService rankingRedisService;
+
+    @Mock
+    private ExpHistogramService expHistogramService;
+
+    @Mock
+    private WindowedRankingService windowedRankingService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenReturn("token");
+    }
+
+    @Test
+    @DisplayName("경험치 증감량은 Redis hash 에 누적 (노드 메모리에 두지 않음)")
+    void add_increments_redis_hash() {
+        // when
+        memberExpAggregator.add(1, 1);
+        memberExpAggregator.add(1, -1);
+
+        // then
+        verify(hashOperations).increment(PENDING_KEY, "1", 1L);
+        verify(hashOperations).increment(PENDING_KEY, "1", -1L);
+    }
+
+    @Test
+    @DisplayName("pending 을 flushing 으로 RENAME 후 batch id 와 함께 한 번에 반영하고 flushing 삭제")
+    void flush_coalesce_success() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), any(), any())).thenReturn(1L);
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(flushingEntries("batch-1"));
+        List<ExpChange> changes = List.of(new ExpChange(1, 10, 11), new ExpChange(2, 0, 3));
+        when(rankingService.applyMemberExpDeltas(anyMap(), eq("batch-1"))).thenReturn(changes);
+
+        // when
+        memberExpAggregator.flush();
+
+        // then
+        verify(rankingService).applyMemberExpDeltas(Map.of(1, 1, 2, 3), "batch-1");
+        verify(redisTemplate).delete(FLUSHING_KEY);
+        verify(rankingRedisService).applyMemberScores(changes);
+        verify(windowedRankingService).recordExpDeltas(Map.of(1, 1, 2, 3));
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("이미 반영된 batch 가 남아 있으면 다시 더하지 않고 flushing 만 삭제")
+    void flush_skips_already_applied_batch() {
+        // given : DB 커밋 후 flushing 삭제에 실패했던 상태
+        when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), any(), any())).thenReturn(1L);
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(flushingEntries("batch-1"));
+        when(rankingService.applyMemberExpDeltas(anyMap(), eq("batch-1"))).thenReturn(null);
+
+        // when
+        memberExpAggregator.flush();
+
+        // then
+        verify(redisTemplate).delete(FLUSHING_KEY);
+        verifyNoInteractions(rankingRedisService, windowedRankingService, expHistogramService);
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 flushing 을 남겨 두고 Redis 랭킹에는 반영하지 않음")
+    void flush_fail_keeps_flushing_key() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), any(), any())).thenReturn(1L);
+        when(hashOperations.entries(FLUSHING_KEY)).thenReturn(flushingEntries("batch-1"));
+        when(rankingService.applyMemberExpDeltas(anyMap(), eq("batch-1"))).thenThrow(new RuntimeException("db down"));
+
+        // when
+        memberExpAggregator.flush();
+
+        // then
+        verify(redisTemplate, never()).delete(FLUSHING_KEY);
+        verifyNoInteractions(rankingRedisService, expHistogramService);
+        verify(redisLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬에 합쳐서 누적하고, DB 반영 실패 시 다음 주기에 재시도")
+    void flush_local_when_redis_fails() {
+        // given
+        when(hashOperations.increment(anyString(), any(), anyLong())).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenThrow(new RedisConnectionFailureException("down"));
+        memberExpAggregator.add(1, 1);
+        memberExpAggregator.add(1, 1);
+        memberExpAggregator.add(1, -1);
+        memberExpAggregator.add(2, 3);
+        List<ExpChange> changes = List.of(new ExpChange(1, 0, 1), new ExpChange(2, 0, 3));
+        when(rankingService.applyMemberExpDeltas(anyMap()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(changes);
+
+        // when
+        memberExpAggregator.flush();
+        memberExpAggregator.flush();
+
+        // then
+        verify(rankingService, times(2)).applyMemberExpDeltas(Map.of(1, 1, 2, 3));
+        verify(rankingRedisService, times(1)).applyMemberScores(changes);
+        verify(expHistogramService, times(1)).applyChanges(changes);
+    }
+
+    @Test
+    @DisplayName("Redis 복구 후에는 로컬 누적값을 pending 으로 옮겨 flush 락 경로로만 반영")
+    void flush_moves_local_to_redis_after_recovery() {
+        // given : 누적 시점에는 Redis 장애
+        when(hashOperations.increment(anyString(), any(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(2L);
+        memberExpAggregator.add(1, 2);
+
+        // when
+        memberExpAggregator.flush();
+
+        // then : DB 에 직접 반영하지 않음 (랭킹 재구성 중 락을 우회하지 않도록)
+        verify(hashOperations, times(2)).increment(PENDING_KEY, "1", 2L);
+        verify(rankingService, never()).applyMemberExpDeltas(anyMap());
+    }
+
+    @Test
+    @DisplayName("랭킹 재구성 배치가 pause() 로 flush 락을 잡고 있으면 경험치를 반영하지 않음")
+    void flush_skips_while_paused() {
+        // given
+        when(redisLock.tryLock(eq(LOCK_KEY), any())).thenReturn("rebuild-token").thenReturn(null);
+        String token = memberExpAggregator.pause(Duration.ofMinutes(30));
+
+        // when
+        memberExpAggregator.flush();
+
+        memberExpAggregator.resume(token);
+
+        // then : pending 은 그대로 두고 다음 주기에 반영
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
+        verifyNoInteractions(rankingService, rankingRedisService);
+        verify(redisLock).unlock(LOCK_KEY, "rebuild-token");
+    }
+
+    @Test
+    @DisplayName("반영할 경험치가 없으면 아무것도 하지 않음")
+    void flush_empty() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), any(), any())).thenReturn(0L);
+
+        // when
+        memberExpAggregator.flush();
+
+        // then
+        verifyNoInteractions(rankingService, rankingRedisService, windowedRankingService);
+    }
+
+    private Map<Object, Object> flushingEntries(String batchId) {
+        Map<Object, Object> entries = new HashMap<>();
+        entries.put("__batch", batchId);
+        entries.put("1", "1");
+        entries.put("2", "3");
+        entries.put("3", "0");
+        return entries;
+    }
+}
@@ -0,0 +1,94 @@
+package jsl.moum.rank.service;
+
+import jsl.moum.rank.dto.ExpChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RankingRedisServiceTest {
+
+    @InjectMocks
+    private RankingRedisService rankingRedisService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Sorted Set 점수와 DB exp 가 같으면 Redis 순위 사용")
+    void getRankForMember_score_matches() {
+        // given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(4L, 500.0));
+
+        // when
+        Long rank = rankingRedisService.getRankForMember(1, 500);
+
+        // then
+        assertThat(rank).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Top N 밖 멤버가 증감량만 가진 채 Sorted Set 에 다시 들어간 경우 Redis 순위를 사용하지 않음")
+    void getRankForMember_trimmed_member_with_fresh_increment() {
+        // given : Trim 된 멤버에게 ZINCRBY +5 만 반영되어 점수 5, 실제 exp 는 500
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(9999L, 5.0));
+
+        // when
+        Long rank = rankingRedisService.getRankForMember(1, 500);
+
+        // then
+        assertThat(rank).isNull();
+    }
+
+    @Test
+    @DisplayName("Sorted Set 에 없는 멤버는 null 반환")
+    void getRankForMember_not_ranked() {
+        // given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(null, null));
+
+        // when
+        Long rank = rankingRedisService.getRankForMember(1, 500);
+
+        // then
+        assertThat(rank).isNull();
+    }
+
+    @Test
+    @DisplayName("경험치 반영 결과를 한 번의 파이프라인으로 Redis 랭킹에 반영")
+    void applyMemberScores_pipelined() {
+        // given
+        List<ExpChange> changes = List.of(new ExpChange(1, 10, 15), new ExpChange(2, 0, 3));
+
+        // when
+        rankingRedisService.applyMemberScores(changes);
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("반영할 결과가 없으면 Redis 호출하지 않음")
+    void applyMemberScores_empty() {
+        // when
+        rankingRedisService.applyMemberScores(List.of());
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+}
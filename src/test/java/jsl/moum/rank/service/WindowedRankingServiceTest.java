@@ -0,0 +1,73 @@
+package jsl.moum.rank.service;
+
+import jsl.moum.auth.domain.repository.MemberRepository;
+import jsl.moum.rank.RankingWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WindowedRankingServiceTest {
+
+    @InjectMocks
+    private WindowedRankingService windowedRankingService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("주간 랭킹은 캐시 생성(ZUNIONSTORE)과 TTL 설정을 하나의 스크립트로 실행")
+    void weekly_union_and_expire_in_one_script() {
+        // when
+        windowedRankingService.getTopRankings(RankingWindow.WEEKLY, 10);
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), eq("60"));
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        assertThat(keys.getValue()).hasSize(8);
+        assertThat(keys.getValue().get(0)).isEqualTo("ranking:exp:window:WEEKLY:" + today);
+        assertThat(keys.getValue().get(1)).isEqualTo("ranking:exp:daily:" + today);
+        verify(redisTemplate, never()).hasKey(anyString());
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyCollection(), anyString());
+        verify(zSetOperations).reverseRangeByScoreWithScores(keys.getValue().get(0), 1, Double.POSITIVE_INFINITY, 0, 10);
+    }
+
+    @Test
+    @DisplayName("일간 랭킹은 오늘 일자 키를 그대로 조회")
+    void daily_reads_today_key() {
+        // when
+        windowedRankingService.getTopRankings(RankingWindow.DAILY, 10);
+
+        // then
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        verify(zSetOperations).reverseRangeByScoreWithScores("ranking:exp:daily:" + today, 1, Double.POSITIVE_INFINITY, 0, 10);
+    }
+}